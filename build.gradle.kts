@@ -46,6 +46,9 @@ val archives_base_name: String by project
 
 val fabric_api_version: String by project
 val mixin_extras_version: String by project
+val jmh_version: String by project
+val junit_version: String by project
+val mockito_version: String by project
 val fabric_asm_version: String by project
 val frozenlib_version: String by project
 
@@ -108,6 +111,15 @@ sourceSets {
             srcDirs("src/main/generated")
         }
     }
+    create("jmh") {
+        compileClasspath += main.get().compileClasspath + main.get().output
+        runtimeClasspath += main.get().runtimeClasspath + main.get().output
+    }
+    // The tests reuse the headless bootstrap and mocked levels from the benchmarks.
+    test {
+        compileClasspath += getByName("jmh").compileClasspath + getByName("jmh").output
+        runtimeClasspath += getByName("jmh").runtimeClasspath + getByName("jmh").output
+    }
 }
 
 loom {
@@ -254,6 +266,16 @@ dependencies {
     // MixinExtras
     implementation("com.github.llamalad7.mixinextras:mixinextras-fabric:$mixin_extras_version")?.let { annotationProcessor(it); }
 
+    // JMH
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmh_version")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmh_version")
+    "jmhImplementation"("net.fabricmc:fabric-loader-junit:$loader_version")
+    "jmhImplementation"("org.junit.jupiter:junit-jupiter:$junit_version")
+    "jmhImplementation"("org.mockito:mockito-core:$mockito_version")
+    testImplementation("net.fabricmc:fabric-loader-junit:$loader_version")
+    testImplementation("org.junit.jupiter:junit-jupiter:$junit_version")
+    testImplementation("org.mockito:mockito-core:$mockito_version")
+
     // Sodium
     modCompileOnly("maven.modrinth:sodium:${sodium_version}")
 
@@ -358,6 +380,26 @@ tasks {
     withType(Test::class) {
         maxParallelForks = Runtime.getRuntime().availableProcessors().div(2)
     }
+
+    test {
+        useJUnitPlatform()
+    }
+
+    // Runs the benchmarks in-process through fabric-loader-junit, so mixins are applied and the registries can be bootstrapped headless.
+    // Add -Pjmh.include=<regex> to only run some of them.
+    register("jmh", Test::class) {
+        group = "verification"
+        description = "Runs the JMH benchmarks and writes build/reports/jmh/results.json."
+        testClassesDirs = sourceSets["jmh"].output.classesDirs
+        classpath = sourceSets["jmh"].runtimeClasspath
+        useJUnitPlatform()
+        maxParallelForks = 1
+        outputs.upToDateWhen { false }
+        val results = layout.buildDirectory.file("reports/jmh/results.json")
+        outputs.file(results)
+        systemProperty("wilderwild.jmh.results", results.get().asFile.absolutePath)
+        systemProperty("wilderwild.jmh.include", findProperty("jmh.include") ?: "net\\.frozenblock\\.wilderwild\\.benchmark\\..*")
+    }
 }
 
 
@@ -16,17 +16,29 @@
  * along with this program; if not, see <https://www.gnu.org/licenses/>.
  */
 
-package net.frozenblock.wilderwild.misc.interfaces;
+package net.frozenblock.wilderwild.benchmark;
 
-import net.minecraft.world.phys.Vec3;
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.SharedConstants;
+import net.minecraft.server.Bootstrap;
 
-public interface WilderSonicBoom {
+public final class BenchmarkBootstrap {
+	private static boolean bootstrapped;
 
-	Vec3 wilderWild$particlePos();
+	private BenchmarkBootstrap() {
+	}
 
-	void wilderWild$setParticlePos(Vec3 pos);
-
-	boolean wilderWild$particlesEnded();
-
-	void wilderWild$endParticles();
+	/**
+	 * Runs the same setup a dedicated server does before loading a world: mod initializers, then the vanilla registries.
+	 */
+	public static synchronized void bootstrap() {
+		if (bootstrapped) {
+			return;
+		}
+		SharedConstants.tryDetectVersion();
+		FabricLoader.getInstance().invokeEntrypoints("main", ModInitializer.class, ModInitializer::onInitialize);
+		Bootstrap.bootStrap();
+		bootstrapped = true;
+	}
 }
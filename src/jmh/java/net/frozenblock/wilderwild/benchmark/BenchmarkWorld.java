@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.lang.reflect.Field;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.server.level.ServerChunkCache;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.InactiveProfiler;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.CollisionGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mockito.Mockito;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+/**
+ * A headless world made of a sparse block map, usable as a {@link CollisionGetter} directly
+ * or through a mocked {@link ServerLevel} for code that needs a real level.
+ * <p>
+ * The mocked level stubs enough for entities to tick in open air; entity lookups return nothing unless stubbed further.
+ */
+public class BenchmarkWorld implements CollisionGetter {
+	private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+	private final Long2ObjectOpenHashMap<BlockState> blocks = new Long2ObjectOpenHashMap<>();
+	private final WorldBorder worldBorder = new WorldBorder();
+	private final RandomSource random;
+	@Nullable
+	private ServerLevel level;
+
+	public BenchmarkWorld(long seed) {
+		this.random = RandomSource.create(seed);
+	}
+
+	public void setBlock(@NotNull BlockPos pos, @NotNull BlockState state) {
+		if (state.isAir()) {
+			this.blocks.remove(pos.asLong());
+		} else {
+			this.blocks.put(pos.asLong(), state);
+		}
+	}
+
+	public void fill(@NotNull BlockPos from, @NotNull BlockPos to, @NotNull BlockState state) {
+		for (BlockPos pos : BlockPos.betweenClosed(from, to)) {
+			this.setBlock(pos, state);
+		}
+	}
+
+	public void clear() {
+		this.blocks.clear();
+	}
+
+	/**
+	 * @return a copy of every non-air block in this world, keyed by {@link BlockPos#asLong()}.
+	 */
+	@NotNull
+	public Long2ObjectMap<BlockState> copyBlocks() {
+		return new Long2ObjectOpenHashMap<>(this.blocks);
+	}
+
+	/**
+	 * Replaces every block in this world with the ones from {@link #copyBlocks()}.
+	 */
+	public void restoreBlocks(@NotNull Long2ObjectMap<BlockState> blocks) {
+		this.blocks.clear();
+		this.blocks.putAll(blocks);
+	}
+
+	@NotNull
+	public RandomSource random() {
+		return this.random;
+	}
+
+	@NotNull
+	public ServerLevel level() {
+		if (this.level == null) {
+			this.level = this.createLevel();
+		}
+		return this.level;
+	}
+
+	@NotNull
+	private ServerLevel createLevel() {
+		ServerLevel mock = Mockito.mock(ServerLevel.class);
+		Mockito.when(mock.getBlockState(any())).thenAnswer(invocation -> this.getBlockState(invocation.getArgument(0)));
+		Mockito.when(mock.getFluidState(any())).thenAnswer(invocation -> this.getFluidState(invocation.getArgument(0)));
+		Mockito.when(mock.setBlock(any(), any(), anyInt())).thenAnswer(invocation -> {
+			this.setBlock(invocation.getArgument(0), invocation.getArgument(1));
+			return true;
+		});
+		Mockito.when(mock.setBlock(any(), any(), anyInt(), anyInt())).thenAnswer(invocation -> {
+			this.setBlock(invocation.getArgument(0), invocation.getArgument(1));
+			return true;
+		});
+		Mockito.when(mock.getChunkForCollisions(anyInt(), anyInt())).thenReturn(this);
+		Mockito.when(mock.shouldTickBlocksAt(anyLong())).thenReturn(true);
+		Mockito.when(mock.shouldTickBlocksAt(any(BlockPos.class))).thenReturn(true);
+		Mockito.when(mock.dimension()).thenReturn(Level.OVERWORLD);
+		Mockito.when(mock.getMinBuildHeight()).thenReturn(this.getMinBuildHeight());
+		Mockito.when(mock.getHeight()).thenReturn(this.getHeight());
+		Mockito.when(mock.getRandom()).thenReturn(this.random);
+		Mockito.when(mock.getWorldBorder()).thenReturn(this.worldBorder);
+		Mockito.when(mock.getProfiler()).thenReturn(InactiveProfiler.INSTANCE);
+		Mockito.when(mock.getProfilerSupplier()).thenReturn(() -> InactiveProfiler.INSTANCE);
+		Mockito.when(mock.getServer()).thenReturn(Mockito.mock(MinecraftServer.class));
+		Mockito.when(mock.dimensionType()).thenReturn(Mockito.mock(DimensionType.class));
+		Mockito.when(mock.clip(any())).thenCallRealMethod();
+		ServerChunkCache chunkSource = Mockito.mock(ServerChunkCache.class);
+		setField(ServerChunkCache.class, chunkSource, "chunkMap", Mockito.mock(ChunkMap.class));
+		Mockito.when(mock.getChunkSource()).thenReturn(chunkSource);
+		setField(Level.class, mock, "random", this.random);
+		return mock;
+	}
+
+	private static void setField(@NotNull Class<?> owner, @NotNull Object instance, @NotNull String name, @NotNull Object value) {
+		try {
+			Field field = owner.getDeclaredField(name);
+			field.setAccessible(true);
+			field.set(instance, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Unable to set " + name + " on the benchmark level", e);
+		}
+	}
+
+	@Override
+	@Nullable
+	public BlockEntity getBlockEntity(@NotNull BlockPos pos) {
+		return null;
+	}
+
+	@Override
+	@NotNull
+	public BlockState getBlockState(@NotNull BlockPos pos) {
+		BlockState state = this.blocks.get(pos.asLong());
+		return state == null ? AIR : state;
+	}
+
+	@Override
+	@NotNull
+	public FluidState getFluidState(@NotNull BlockPos pos) {
+		return this.getBlockState(pos).getFluidState();
+	}
+
+	@Override
+	public int getHeight() {
+		return 384;
+	}
+
+	@Override
+	public int getMinBuildHeight() {
+		return -64;
+	}
+
+	@Override
+	@NotNull
+	public WorldBorder getWorldBorder() {
+		return this.worldBorder;
+	}
+
+	@Override
+	@NotNull
+	public BlockGetter getChunkForCollisions(int chunkX, int chunkZ) {
+		return this;
+	}
+
+	@Override
+	@NotNull
+	public List<VoxelShape> getEntityCollisions(@Nullable Entity entity, @NotNull AABB collisionBox) {
+		return List.of();
+	}
+}
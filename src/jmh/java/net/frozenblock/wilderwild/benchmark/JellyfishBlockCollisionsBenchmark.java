@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.block.MesogleaBlock;
+import net.frozenblock.wilderwild.misc.JellyfishBlockCollisions;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Iterates {@link JellyfishBlockCollisions} over spawn-sized boxes in a reef of mesoglea, water and stone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JellyfishBlockCollisionsBenchmark {
+	private static final int SIZE = 32;
+
+	private BenchmarkWorld world;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.world = new BenchmarkWorld(0L);
+		this.world.fill(BlockPos.ZERO, new BlockPos(SIZE - 1, SIZE - 1, SIZE - 1), Blocks.WATER.defaultBlockState());
+		for (BlockPos pos : BlockPos.betweenClosed(BlockPos.ZERO, new BlockPos(SIZE - 1, SIZE - 1, SIZE - 1))) {
+			int i = this.world.random().nextInt(10);
+			if (i == 0) {
+				this.world.setBlock(pos, Blocks.STONE.defaultBlockState());
+			} else if (i < 3) {
+				this.world.setBlock(pos, RegisterBlocks.BLUE_PEARLESCENT_MESOGLEA.defaultBlockState().setValue(MesogleaBlock.WATERLOGGED, true));
+			}
+		}
+	}
+
+	@Benchmark
+	public void iterateCollisions(Blackhole blackhole) {
+		for (int x = 0; x < SIZE; x += 2) {
+			for (int y = 0; y < SIZE; y += 2) {
+				for (int z = 0; z < SIZE; z += 2) {
+					AABB box = new AABB(x, y, z, x + 0.4D, y + 0.4D, z + 0.4D);
+					for (VoxelShape shape : new IterableCollisions(this.world, box)) {
+						blackhole.consume(shape);
+					}
+				}
+			}
+		}
+	}
+
+	private record IterableCollisions(BenchmarkWorld world, AABB box) implements Iterable<VoxelShape> {
+		@Override
+		public Iterator<VoxelShape> iterator() {
+			return new JellyfishBlockCollisions(this.world, null, this.box);
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the incremental per-level jellyfish counters against the full entity scan they replaced.
+ * <p>
+ * Each level holds {@link #jellyfish} jellyfish mixed into ten times as many other entities, which is what the old scan had to walk.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JellyfishCountBenchmark {
+	private static final int LEVELS = 3;
+
+	@Param({"16", "256"})
+	public int jellyfish;
+
+	private ServerLevel[] levels;
+	private List<List<Entity>> entities;
+	private List<List<Jellyfish>> jellyfishPerLevel;
+	private boolean pearlescent;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		Jellyfish.clearJellyfishCounts();
+		this.levels = new ServerLevel[LEVELS];
+		this.entities = new ArrayList<>();
+		this.jellyfishPerLevel = new ArrayList<>();
+		for (int i = 0; i < LEVELS; i++) {
+			BenchmarkWorld world = new BenchmarkWorld(i);
+			ServerLevel level = world.level();
+			List<Entity> levelEntities = new ArrayList<>();
+			List<Jellyfish> levelJellyfish = new ArrayList<>();
+			for (int j = 0; j < this.jellyfish; j++) {
+				Jellyfish entity = new Jellyfish(RegisterEntities.JELLYFISH, level);
+				entity.setVariant(randomVariant(world, j % 4 == 0));
+				entity.startCounting(level);
+				levelJellyfish.add(entity);
+				levelEntities.add(entity);
+				for (int k = 0; k < 10; k++) {
+					levelEntities.add(Mockito.mock(Entity.class));
+				}
+			}
+			this.levels[i] = level;
+			this.entities.add(levelEntities);
+			this.jellyfishPerLevel.add(levelJellyfish);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Jellyfish.clearJellyfishCounts();
+	}
+
+	@NotNull
+	private static JellyfishVariant randomVariant(@NotNull BenchmarkWorld world, boolean pearlescent) {
+		List<JellyfishVariant> variants = pearlescent ? Jellyfish.PEARLESCENT_VARIANTS : Jellyfish.COLORED_VARIANTS;
+		return variants.get(world.random().nextInt(variants.size()));
+	}
+
+	/**
+	 * The spawn check as it was before the counters: a scan of every entity in the level.
+	 */
+	private static int scanJellyfish(@NotNull List<Entity> entities, boolean pearlescent) {
+		int count = 0;
+		for (Entity entity : entities) {
+			if (entity instanceof Jellyfish jellyfish && (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal())) {
+				count += 1;
+			}
+		}
+		return count;
+	}
+
+	@Benchmark
+	public void getJellyfishScan(Blackhole blackhole) {
+		for (List<Entity> levelEntities : this.entities) {
+			blackhole.consume(scanJellyfish(levelEntities, false));
+			blackhole.consume(scanJellyfish(levelEntities, true));
+		}
+	}
+
+	@Benchmark
+	public void getJellyfish(Blackhole blackhole) {
+		for (ServerLevel level : this.levels) {
+			blackhole.consume(Jellyfish.getJellyfish(level, false));
+			blackhole.consume(Jellyfish.getJellyfish(level, true));
+		}
+	}
+
+	/**
+	 * Unloads and reloads every jellyfish, the bookkeeping the counters add to chunk loading.
+	 */
+	@Benchmark
+	public void unloadAndLoad() {
+		for (int i = 0; i < LEVELS; i++) {
+			ServerLevel level = this.levels[i];
+			for (Jellyfish entity : this.jellyfishPerLevel.get(i)) {
+				entity.stopCounting();
+				entity.startCounting(level);
+			}
+		}
+	}
+
+	/**
+	 * Flips the first jellyfish of each level between a pearlescent and a colored variant, moving it between buckets each time.
+	 */
+	@Benchmark
+	public void setVariant() {
+		this.pearlescent = !this.pearlescent;
+		JellyfishVariant variant = this.pearlescent ? Jellyfish.PEARLESCENT_VARIANTS.get(0) : JellyfishVariant.PINK;
+		for (List<Jellyfish> levelJellyfish : this.jellyfishPerLevel) {
+			levelJellyfish.get(0).setVariant(variant);
+		}
+	}
+}
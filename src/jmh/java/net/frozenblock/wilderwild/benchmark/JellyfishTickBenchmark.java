@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntitySelector;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Ticks {@link #jellyfish} server-side jellyfish swimming in a block of open water among armor stands, the way the server's entity loop does.
+ * <p>
+ * The mocked level's entity lookups search every entity by section, like the server's entity storage,
+ * so the sting query costs what it would in a world. With {@link #stingEveryTick} the jellyfish also sting on the ticks
+ * {@link Jellyfish#STING_INTERVAL} skips, as they did before it was added.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JellyfishTickBenchmark {
+	private static final int SIZE = 48;
+	private static final BlockPos ORIGIN = new BlockPos(0, 16, 0);
+	private static final int ARMOR_STANDS = 100;
+
+	@Param({"500"})
+	public int jellyfish;
+	@Param({"false", "true"})
+	public boolean stingEveryTick;
+
+	private final List<Jellyfish> swarm = new ArrayList<>();
+	private final List<Entity> entities = new ArrayList<>();
+	private final Long2ObjectOpenHashMap<List<Entity>> sections = new Long2ObjectOpenHashMap<>();
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		BenchmarkWorld world = new BenchmarkWorld(0L);
+		world.fill(ORIGIN, ORIGIN.offset(SIZE - 1, SIZE - 1, SIZE - 1), Blocks.WATER.defaultBlockState());
+		ServerLevel level = world.level();
+		Mockito.when(level.getEntitiesOfClass(any(), any(AABB.class))).thenAnswer(invocation ->
+			this.getEntities(null, invocation.getArgument(0), invocation.getArgument(1), EntitySelector.NO_SPECTATORS));
+		Mockito.when(level.getEntitiesOfClass(any(), any(AABB.class), any())).thenAnswer(invocation ->
+			this.getEntities(null, invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+		Mockito.when(level.getEntities(any(Entity.class), any(AABB.class), any())).thenAnswer(invocation ->
+			this.getEntities(invocation.getArgument(0), Entity.class, invocation.getArgument(1), invocation.getArgument(2)));
+		RandomSource random = world.random();
+		for (int i = 0; i < this.jellyfish; i++) {
+			Jellyfish jellyfish = new Jellyfish(RegisterEntities.JELLYFISH, level);
+			jellyfish.setId(i + 1);
+			jellyfish.setPos(randomCoordinate(random, ORIGIN.getX()), randomCoordinate(random, ORIGIN.getY()), randomCoordinate(random, ORIGIN.getZ()));
+			this.swarm.add(jellyfish);
+			this.entities.add(jellyfish);
+		}
+		for (int i = 0; i < ARMOR_STANDS; i++) {
+			ArmorStand armorStand = new ArmorStand(EntityType.ARMOR_STAND, level);
+			armorStand.setId(this.jellyfish + i + 1);
+			armorStand.setPos(randomCoordinate(random, ORIGIN.getX()), randomCoordinate(random, ORIGIN.getY()), randomCoordinate(random, ORIGIN.getZ()));
+			this.entities.add(armorStand);
+		}
+		this.indexSections();
+	}
+
+	private static double randomCoordinate(@NotNull RandomSource random, int origin) {
+		return origin + 4D + random.nextDouble() * (SIZE - 8);
+	}
+
+	private void indexSections() {
+		for (List<Entity> section : this.sections.values()) {
+			section.clear();
+		}
+		for (Entity entity : this.entities) {
+			this.sections.computeIfAbsent(SectionPos.asLong(entity.blockPosition()), section -> new ArrayList<>()).add(entity);
+		}
+	}
+
+	/**
+	 * Searches the sections around {@code area} the way the server's entity storage does, reaching two blocks further to catch entities overlapping their section.
+	 */
+	@NotNull
+	private List<Entity> getEntities(@Nullable Entity except, @NotNull Class<?> type, @NotNull AABB area, @NotNull Predicate<Object> predicate) {
+		List<Entity> found = new ArrayList<>();
+		int maxX = SectionPos.posToSectionCoord(area.maxX + 2D);
+		int maxY = SectionPos.posToSectionCoord(area.maxY + 2D);
+		int maxZ = SectionPos.posToSectionCoord(area.maxZ + 2D);
+		for (int x = SectionPos.posToSectionCoord(area.minX - 2D); x <= maxX; x++) {
+			for (int y = SectionPos.posToSectionCoord(area.minY - 2D); y <= maxY; y++) {
+				for (int z = SectionPos.posToSectionCoord(area.minZ - 2D); z <= maxZ; z++) {
+					List<Entity> section = this.sections.get(SectionPos.asLong(x, y, z));
+					if (section == null) {
+						continue;
+					}
+					for (Entity entity : section) {
+						if (entity != except && type.isInstance(entity) && entity.getBoundingBox().intersects(area) && predicate.test(entity)) {
+							found.add(entity);
+						}
+					}
+				}
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public List<Jellyfish> tick() {
+		// The server's entity storage moves entities between sections as they move, so the index is kept up to date the same way.
+		this.indexSections();
+		for (Jellyfish jellyfish : this.swarm) {
+			jellyfish.tickCount++;
+			jellyfish.tick();
+			if (this.stingEveryTick && (jellyfish.tickCount + jellyfish.getId()) % Jellyfish.STING_INTERVAL != 0) {
+				jellyfish.stingEntities();
+			}
+		}
+		return this.swarm;
+	}
+}
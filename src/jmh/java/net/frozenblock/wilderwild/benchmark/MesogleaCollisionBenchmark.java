@@ -0,0 +1,99 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.block.MesogleaBlock;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.frozenblock.wilderwild.tag.WilderEntityTags;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Entity-sized boxes pushed through a 32³ volume of waterlogged mesoglea, hitting {@link MesogleaBlock#getCollisionShape} at every step.
+ * <p>
+ * With {@link #jellyfishContext} the boxes are queried for a jellyfish inside the mesoglea, which takes the entity collision branch,
+ * otherwise with no entity, which takes the plain collision branch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MesogleaCollisionBenchmark {
+	private static final int SIZE = 32;
+
+	@Param({"false", "true"})
+	public boolean jellyfishContext;
+
+	private BenchmarkWorld world;
+	@Nullable
+	private Entity entity;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		BuiltInRegistries.ENTITY_TYPE.bindTags(Map.of(WilderEntityTags.STAYS_IN_MESOGLEA, List.<Holder<EntityType<?>>>of(RegisterEntities.JELLYFISH.builtInRegistryHolder())));
+		this.world = new BenchmarkWorld(0L);
+		this.world.fill(BlockPos.ZERO, new BlockPos(SIZE - 1, SIZE - 1, SIZE - 1), RegisterBlocks.BLUE_MESOGLEA.defaultBlockState().setValue(MesogleaBlock.WATERLOGGED, true));
+		if (this.jellyfishContext) {
+			// The jellyfish stays in the middle of the volume, so its feet are always in waterlogged mesoglea.
+			Jellyfish jellyfish = new Jellyfish(RegisterEntities.JELLYFISH, this.world.level());
+			jellyfish.setPos(SIZE / 2D, SIZE / 2D, SIZE / 2D);
+			this.entity = jellyfish;
+		}
+	}
+
+	@TearDown
+	public void unbindTags() {
+		BuiltInRegistries.ENTITY_TYPE.bindTags(Map.of());
+	}
+
+	@Benchmark
+	public void pushThroughVolume(Blackhole blackhole) {
+		for (int y = 0; y < SIZE; y += 4) {
+			for (int z = 0; z < SIZE; z += 4) {
+				for (double x = 0D; x < SIZE; x += 0.5D) {
+					AABB box = new AABB(x, y, z, x + 0.6D, y + 1.8D, z + 0.6D);
+					for (VoxelShape shape : this.world.getBlockCollisions(this.entity, box)) {
+						blackhole.consume(shape);
+					}
+				}
+			}
+		}
+	}
+}
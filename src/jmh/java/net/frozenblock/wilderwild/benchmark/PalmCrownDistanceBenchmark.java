@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.block.PalmCrownBlock;
+import net.frozenblock.wilderwild.block.entity.PalmCrownBlockEntity;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks up the closest Palm Crown for every frond of a dense palm grove, as {@code PalmFrondsBlock} does when updating its distance.
+ * <p>
+ * {@link #distanceToClosestPalmCrownList} is the list scan the section index replaced, kept here to compare against.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PalmCrownDistanceBenchmark {
+	private static final int SPACING = 6;
+
+	@Param({"121", "10000"})
+	public int crowns;
+
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private BlockPos[] fronds;
+	private ArrayList<BlockPos> crownList;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.world = new BenchmarkWorld(0L);
+		this.level = this.world.level();
+		BlockState crownState = RegisterBlocks.PALM_CROWN.defaultBlockState();
+		int side = (int) Math.ceil(Math.sqrt(this.crowns));
+		int frondCount = 0;
+		this.fronds = new BlockPos[side * side * 4];
+		this.crownList = new ArrayList<>();
+		for (int x = 0; x < side * SPACING; x += SPACING) {
+			for (int z = 0; z < side * SPACING; z += SPACING) {
+				BlockPos crownPos = new BlockPos(x, 70, z);
+				this.world.setBlock(crownPos, crownState);
+				PalmCrownBlockEntity.PalmCrownPositions.addCrown(this.level, new PalmCrownBlockEntity(crownPos, crownState));
+				this.crownList.add(crownPos);
+				this.fronds[frondCount++] = crownPos.offset(2, 1, 0);
+				this.fronds[frondCount++] = crownPos.offset(-3, 0, 1);
+				this.fronds[frondCount++] = crownPos.offset(0, -1, 4);
+				this.fronds[frondCount++] = crownPos.offset(1, 2, -2);
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		PalmCrownBlockEntity.PalmCrownPositions.clearAll();
+	}
+
+	@Benchmark
+	public void distanceToClosestPalmCrown(Blackhole blackhole) {
+		for (BlockPos frond : this.fronds) {
+			blackhole.consume(PalmCrownBlockEntity.PalmCrownPositions.distanceToClosestPalmCrown(this.level, frond, 7));
+		}
+	}
+
+	@Benchmark
+	public void distanceToClosestPalmCrownList(Blackhole blackhole) {
+		for (BlockPos frond : this.fronds) {
+			blackhole.consume(distanceToClosestPalmCrown(this.crownList, this.world, frond, 7));
+		}
+	}
+
+	/**
+	 * The lookup as it was before the section index: a copy and scan of every loaded crown.
+	 */
+	@SuppressWarnings("unchecked")
+	private static double distanceToClosestPalmCrown(@NotNull ArrayList<BlockPos> crownList, @NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos, int i) {
+		ArrayList<BlockPos> copiedList = (ArrayList<BlockPos>) crownList.clone();
+		ArrayList<BlockPos> posList = new ArrayList<>();
+		int x = blockPos.getX();
+		int y = blockPos.getY();
+		int z = blockPos.getZ();
+		BlockState state;
+		for (BlockPos crownPos : copiedList) {
+			int xVal = crownPos.getX() - x;
+			if (xVal >= -i && xVal <= i) {
+				int zVal = crownPos.getZ() - z;
+				if (zVal >= -i && zVal <= i) {
+					int yVal = crownPos.getY() - y;
+					if (yVal >= -i && yVal <= i) {
+						state = blockGetter.getBlockState(crownPos);
+						if (state.getBlock() instanceof PalmCrownBlock) {
+							posList.add(crownPos);
+						}
+					}
+				}
+			}
+		}
+		Vec3 startPos = new Vec3(blockPos.getX() + 0.5, blockPos.getY() + 0.5, blockPos.getZ() + 0.5);
+		if (!posList.isEmpty()) {
+			double lowestDist = 99;
+			for (BlockPos pos : posList) {
+				double checkDist = Math.sqrt(pos.distToCenterSqr(startPos));
+				if (checkDist < lowestDist) {
+					lowestDist = checkDist;
+				}
+			}
+			return lowestDist;
+		}
+		return 99;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.benchmark;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.misc.SculkReplacementLookup;
+import net.frozenblock.wilderwild.tag.WilderBlockTags;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.Rotation;
+import net.minecraft.world.level.block.SculkSpreader;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Spreads charge cursors over a seeded slice of the Deep Dark scattered with the slabs, walls and stairs sculk can replace,
+ * going through {@code SculkSpreaderChargeCursorMixin} on every cursor update.
+ * <p>
+ * No datapack is loaded here, so the sculk replacement tags are bound by hand to the blocks the slice is built from.
+ * Every invocation starts from the same slice, seed and cursors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SculkChargeCursorBenchmark {
+	private static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+	private static final int RADIUS = 16;
+	private static final long SEED = 0L;
+	private static final int CURSOR_CHARGE = 20;
+	private static final int CURSORS = 4;
+	private static final int UPDATES = 10;
+
+	private static final List<Block> SCULK_REPLACEABLE = List.of(
+		Blocks.STONE, Blocks.GRANITE, Blocks.DIORITE, Blocks.ANDESITE, Blocks.TUFF, Blocks.DEEPSLATE,
+		Blocks.CALCITE, Blocks.SMOOTH_BASALT, Blocks.DIRT, Blocks.GRAVEL, Blocks.CLAY
+	);
+	private static final List<Block> SCULK_REPLACEABLE_WORLD_GEN = List.of(
+		Blocks.COBBLED_DEEPSLATE, Blocks.POLISHED_DEEPSLATE, Blocks.DEEPSLATE_BRICKS, Blocks.DEEPSLATE_TILES,
+		Blocks.CRACKED_DEEPSLATE_BRICKS, Blocks.CRACKED_DEEPSLATE_TILES
+	);
+	private static final List<Block> SLABS = List.of(Blocks.STONE_SLAB, Blocks.GRANITE_SLAB, Blocks.DIORITE_SLAB, Blocks.ANDESITE_SLAB, Blocks.BLACKSTONE_SLAB);
+	private static final List<Block> SLABS_WORLDGEN = List.of(Blocks.COBBLED_DEEPSLATE_SLAB, Blocks.POLISHED_DEEPSLATE_SLAB, Blocks.DEEPSLATE_BRICK_SLAB, Blocks.DEEPSLATE_TILE_SLAB);
+	private static final List<Block> STAIRS = List.of(Blocks.STONE_STAIRS, Blocks.GRANITE_STAIRS, Blocks.DIORITE_STAIRS, Blocks.ANDESITE_STAIRS, Blocks.BLACKSTONE_STAIRS);
+	private static final List<Block> STAIRS_WORLDGEN = List.of(Blocks.COBBLED_DEEPSLATE_STAIRS, Blocks.POLISHED_DEEPSLATE_STAIRS, Blocks.DEEPSLATE_BRICK_STAIRS, Blocks.DEEPSLATE_TILE_STAIRS);
+	private static final List<Block> WALLS = List.of(Blocks.COBBLESTONE_WALL, Blocks.GRANITE_WALL, Blocks.DIORITE_WALL, Blocks.ANDESITE_WALL, Blocks.BLACKSTONE_WALL);
+	private static final List<Block> WALLS_WORLDGEN = List.of(Blocks.COBBLED_DEEPSLATE_WALL, Blocks.POLISHED_DEEPSLATE_WALL, Blocks.DEEPSLATE_BRICK_WALL, Blocks.DEEPSLATE_TILE_WALL);
+
+	@Param({"false", "true"})
+	public boolean worldGeneration;
+
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private Long2ObjectMap<BlockState> slice;
+	private SculkSpreader spreader;
+
+	@Setup(Level.Trial)
+	public void setupWorld() {
+		BenchmarkBootstrap.bootstrap();
+		bindTags();
+		this.world = new BenchmarkWorld(SEED);
+		this.level = this.world.level();
+		this.buildSlice(RandomSource.create(SEED));
+		this.slice = this.world.copyBlocks();
+	}
+
+	@TearDown(Level.Trial)
+	public void unbindTags() {
+		BuiltInRegistries.BLOCK.bindTags(Map.of());
+		SculkReplacementLookup.rebuild();
+	}
+
+	private static void bindTags() {
+		List<Block> worldGenReplaceable = new ArrayList<>(SCULK_REPLACEABLE);
+		worldGenReplaceable.addAll(SCULK_REPLACEABLE_WORLD_GEN);
+		BuiltInRegistries.BLOCK.bindTags(Map.of(
+			BlockTags.SCULK_REPLACEABLE, holders(SCULK_REPLACEABLE),
+			BlockTags.SCULK_REPLACEABLE_WORLD_GEN, holders(worldGenReplaceable),
+			WilderBlockTags.SCULK_SLAB_REPLACEABLE, holders(SLABS),
+			WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN, holders(SLABS_WORLDGEN, SLABS),
+			WilderBlockTags.SCULK_STAIR_REPLACEABLE, holders(STAIRS),
+			WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN, holders(STAIRS_WORLDGEN, STAIRS),
+			WilderBlockTags.SCULK_WALL_REPLACEABLE, holders(WALLS),
+			WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN, holders(WALLS_WORLDGEN, WALLS)
+		));
+		SculkReplacementLookup.rebuild();
+	}
+
+	@SafeVarargs
+	@NotNull
+	private static List<Holder<Block>> holders(@NotNull List<Block>... blockLists) {
+		List<Holder<Block>> holders = new ArrayList<>();
+		for (List<Block> blocks : blockLists) {
+			for (Block block : blocks) {
+				holders.add(block.builtInRegistryHolder());
+			}
+		}
+		return holders;
+	}
+
+	/**
+	 * Builds an uneven deepslate and tuff floor with pillars, with a slab, wall or stair on about one column in six.
+	 */
+	private void buildSlice(@NotNull RandomSource random) {
+		for (int x = -RADIUS; x <= RADIUS; x++) {
+			for (int z = -RADIUS; z <= RADIUS; z++) {
+				BlockPos column = ORIGIN.offset(x, -1, z);
+				this.world.setBlock(column.below(), Blocks.DEEPSLATE.defaultBlockState());
+				this.world.setBlock(column, floorBlock(random).defaultBlockState());
+				int height = random.nextInt(25) == 0 ? 1 + random.nextInt(3) : 0;
+				for (int y = 1; y <= height; y++) {
+					this.world.setBlock(column.above(y), floorBlock(random).defaultBlockState());
+				}
+				if (random.nextInt(6) == 0) {
+					this.world.setBlock(column.above(height + 1), decoration(random));
+				}
+			}
+		}
+	}
+
+	@NotNull
+	private static Block floorBlock(@NotNull RandomSource random) {
+		int roll = random.nextInt(20);
+		if (roll < 12) {
+			return Blocks.DEEPSLATE;
+		}
+		if (roll < 15) {
+			return Blocks.TUFF;
+		}
+		if (roll < 17) {
+			return Blocks.COBBLED_DEEPSLATE;
+		}
+		return roll < 19 ? Blocks.SMOOTH_BASALT : Blocks.STONE;
+	}
+
+	@NotNull
+	private static BlockState decoration(@NotNull RandomSource random) {
+		List<Block> blocks = switch (random.nextInt(3)) {
+			case 0 -> random.nextBoolean() ? SLABS : SLABS_WORLDGEN;
+			case 1 -> random.nextBoolean() ? STAIRS : STAIRS_WORLDGEN;
+			default -> random.nextBoolean() ? WALLS : WALLS_WORLDGEN;
+		};
+		return blocks.get(random.nextInt(blocks.size())).defaultBlockState().rotate(Rotation.getRandom(random));
+	}
+
+	@Setup(Level.Invocation)
+	public void resetSlice() {
+		this.world.restoreBlocks(this.slice);
+		this.world.random().setSeed(SEED);
+		this.spreader = this.worldGeneration ? SculkSpreader.createWorldGenSpreader() : SculkSpreader.createLevelSpreader();
+		for (int i = 0; i < CURSORS; i++) {
+			this.spreader.addCursors(ORIGIN.offset(i * 6 - 9, 0, i * 4 - 6), CURSOR_CHARGE);
+		}
+	}
+
+	@Benchmark
+	public SculkSpreader updateCursors() {
+		for (int i = 0; i < UPDATES; i++) {
+			this.spreader.updateCursors(this.level, ORIGIN, this.world.random(), true);
+		}
+		return this.spreader;
+	}
+}
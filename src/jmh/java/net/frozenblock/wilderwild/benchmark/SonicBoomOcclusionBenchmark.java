@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.entity.ai.warden.SonicBoomOcclusion;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Traces Sonic Booms in many directions from the middle of a half-open room of Echo Glass, as {@code SonicBoomMixin} does once per boom.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SonicBoomOcclusionBenchmark {
+	private static final Vec3 START = new Vec3(0.5D, 65.5D, 0.5D);
+	private static final int DIRECTIONS = 64;
+	private static final int SAMPLES = 21;
+
+	private BenchmarkWorld world;
+	private Vec3[] directions;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		this.world = new BenchmarkWorld(0L);
+		this.world.fill(new BlockPos(12, 55, -12), new BlockPos(12, 75, 12), RegisterBlocks.ECHO_GLASS.defaultBlockState());
+		this.world.fill(new BlockPos(-12, 55, 12), new BlockPos(12, 75, 12), RegisterBlocks.ECHO_GLASS.defaultBlockState());
+		this.directions = new Vec3[DIRECTIONS];
+		for (int i = 0; i < DIRECTIONS; i++) {
+			double angle = Math.PI * 2D * i / DIRECTIONS;
+			this.directions[i] = new Vec3(Math.cos(angle), Math.sin(angle * 3D) * 0.25D, Math.sin(angle)).normalize();
+		}
+	}
+
+	@Benchmark
+	public void trace(Blackhole blackhole) {
+		for (Vec3 direction : this.directions) {
+			blackhole.consume(SonicBoomOcclusion.trace(this.world, START, direction, SAMPLES));
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TermiteManagerBenchmark {
+	private static final BlockPos MOUND = new BlockPos(0, 64, 0);
+
+	@Param({"1", "5"})
+	public int termites;
+
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private TermiteManager manager;
+
+	@Setup(Level.Trial)
+	public void setupWorld() {
+		BenchmarkBootstrap.bootstrap();
+		this.world = new BenchmarkWorld(0L);
+		this.level = this.world.level();
+	}
+
+	@Setup(Level.Iteration)
+	public void setupMound() {
+		this.world.clear();
+		this.world.fill(MOUND.offset(-8, -1, -8), MOUND.offset(8, -1, 8), Blocks.DIRT.defaultBlockState());
+		for (int x = -6; x <= 6; x += 3) {
+			for (int z = -6; z <= 6; z += 3) {
+				this.world.fill(MOUND.offset(x, 0, z), MOUND.offset(x, 6, z), Blocks.OAK_LOG.defaultBlockState());
+			}
+		}
+		this.manager = new TermiteManager();
+		for (int i = 0; i < this.termites; i++) {
+			this.manager.addTermite(MOUND);
+		}
+	}
+
+	@Benchmark
+	public TermiteManager tick() {
+		this.manager.tick(this.level, MOUND, false, true, true);
+		return this.manager;
+	}
+
+	/**
+	 * The public helpers called without a mound, which share a per-thread context instead of allocating one each call.
+	 */
+	@Benchmark
+	public void staticHelpers(Blackhole blackhole) {
+		BlockPos log = MOUND.offset(3, 2, 3);
+		blackhole.consume(TermiteManager.Termite.exposedToAir(this.level, log, false));
+		blackhole.consume(TermiteManager.Termite.ledgePos(this.level, log, false));
+	}
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.lib.wind.api.WindManager;
+import net.frozenblock.wilderwild.entity.Tumbleweed;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.Vec3;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Drives the per-tick tumbleweed math on a sand floor in full daylight with a steady wind, meant to be read with the GC profiler.
+ * <p>
+ * {@link #setAngles} and {@link #isMovingTowards} touch no level and should allocate nothing.
+ * {@link #tick} runs the whole server tick including the wind math, so its allocation rate also counts the mocked level's own bookkeeping.
+ * <p>
+ * With {@link #legacy} the same benchmarks run on {@link LegacyTumbleweed}, the tumbleweed from before its tick was reworked, as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TumbleweedBenchmark {
+	private static final int TUMBLEWEEDS = 64;
+	private static final int SIZE = 64;
+
+	@Param({"false", "true"})
+	public boolean legacy;
+
+	private final List<Tumbleweed> tumbleweeds = new ArrayList<>();
+	private final List<LegacyTumbleweed> legacyTumbleweeds = new ArrayList<>();
+	private final double[] deltas = new double[TUMBLEWEEDS * 3];
+	private MockedStatic<WindManager> windManagers;
+
+	@Setup
+	public void setup() {
+		BenchmarkBootstrap.bootstrap();
+		BenchmarkWorld world = new BenchmarkWorld(0L);
+		world.fill(BlockPos.ZERO, new BlockPos(SIZE - 1, 0, SIZE - 1), Blocks.SAND.defaultBlockState());
+		ServerLevel level = world.level();
+		Mockito.when(level.getBrightness(any(LightLayer.class), any())).thenReturn(15);
+
+		WindManager windManager = Mockito.mock(WindManager.class);
+		windManager.windX = 0.12D;
+		windManager.windZ = -0.07D;
+		this.windManagers = Mockito.mockStatic(WindManager.class);
+		this.windManagers.when(() -> WindManager.getWindManager(any(ServerLevel.class))).thenReturn(windManager);
+
+		RandomSource random = world.random();
+		for (int i = 0; i < TUMBLEWEEDS; i++) {
+			double x = 4D + random.nextDouble() * (SIZE - 8);
+			double z = 4D + random.nextDouble() * (SIZE - 8);
+			if (this.legacy) {
+				LegacyTumbleweed tumbleweed = new LegacyTumbleweed(RegisterEntities.TUMBLEWEED, level);
+				tumbleweed.setId(i + 1);
+				tumbleweed.setPos(x, 1D, z);
+				this.legacyTumbleweeds.add(tumbleweed);
+			} else {
+				Tumbleweed tumbleweed = new Tumbleweed(RegisterEntities.TUMBLEWEED, level);
+				tumbleweed.setId(i + 1);
+				tumbleweed.setPos(x, 1D, z);
+				this.tumbleweeds.add(tumbleweed);
+			}
+			this.deltas[i * 3] = random.nextDouble() * 0.6D - 0.3D;
+			this.deltas[i * 3 + 1] = random.nextDouble() * 0.2D - 0.1D;
+			this.deltas[i * 3 + 2] = random.nextDouble() * 0.6D - 0.3D;
+		}
+		// Give every tumbleweed some momentum, so the rest of the benchmarks see moving entities.
+		this.tick();
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.windManagers.close();
+	}
+
+	@Benchmark
+	public void setAngles(Blackhole blackhole) {
+		for (int i = 0; i < TUMBLEWEEDS; i++) {
+			if (this.legacy) {
+				// The old tick built this tick's movement as a Vec3 and passed it on.
+				LegacyTumbleweed tumbleweed = this.legacyTumbleweeds.get(i);
+				tumbleweed.setAngles(new Vec3(this.deltas[i * 3], this.deltas[i * 3 + 1], this.deltas[i * 3 + 2]));
+				blackhole.consume(tumbleweed.tumble);
+			} else {
+				Tumbleweed tumbleweed = this.tumbleweeds.get(i);
+				tumbleweed.setAngles(this.deltas[i * 3], this.deltas[i * 3 + 1], this.deltas[i * 3 + 2]);
+				blackhole.consume(tumbleweed.tumble);
+			}
+		}
+	}
+
+	@Benchmark
+	public void isMovingTowards(Blackhole blackhole) {
+		for (int i = 0; i < TUMBLEWEEDS; i++) {
+			if (this.legacy) {
+				LegacyTumbleweed tumbleweed = this.legacyTumbleweeds.get(i);
+				blackhole.consume(tumbleweed.isMovingTowards(this.legacyTumbleweeds.get((i + 1) % TUMBLEWEEDS)));
+				blackhole.consume(tumbleweed.getDeltaPos().length());
+			} else {
+				Tumbleweed tumbleweed = this.tumbleweeds.get(i);
+				blackhole.consume(tumbleweed.isMovingTowards(this.tumbleweeds.get((i + 1) % TUMBLEWEEDS)));
+				blackhole.consume(tumbleweed.getDeltaPosLength());
+			}
+		}
+	}
+
+	@Benchmark
+	public List<? extends Mob> tick() {
+		List<? extends Mob> tumbleweeds = this.legacy ? this.legacyTumbleweeds : this.tumbleweeds;
+		for (Mob tumbleweed : tumbleweeds) {
+			tumbleweed.tickCount++;
+			tumbleweed.tick();
+		}
+		return tumbleweeds;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.benchmark;
+
+import java.io.File;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Entry point for the {@code jmh} Gradle task.
+ * <p>
+ * fabric-loader-junit loads this class through Knot, so the benchmarks are run without forking
+ * to keep Wilder Wild's mixins and registrations in place.
+ * <p>
+ * The GC profiler is always attached, so every result comes with {@code gc.alloc.rate.norm}, the bytes allocated per operation.
+ */
+public class WilderBenchmarks {
+
+	@Test
+	public void runBenchmarks() throws RunnerException {
+		String results = System.getProperty("wilderwild.jmh.results", "build/reports/jmh/results.json");
+		File resultsFile = new File(results);
+		if (resultsFile.getParentFile() != null) {
+			resultsFile.getParentFile().mkdirs();
+		}
+		Options options = new OptionsBuilder()
+			.include(System.getProperty("wilderwild.jmh.include", "net\\.frozenblock\\.wilderwild\\.benchmark\\..*"))
+			.forks(0)
+			.warmupIterations(3)
+			.warmupTime(TimeValue.seconds(1))
+			.measurementIterations(5)
+			.measurementTime(TimeValue.seconds(1))
+			.addProfiler(GCProfiler.class)
+			.resultFormat(ResultFormatType.JSON)
+			.result(resultsFile.getAbsolutePath())
+			.build();
+		new Runner(options).run();
+	}
+}
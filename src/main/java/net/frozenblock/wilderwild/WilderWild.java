@@ -21,23 +21,32 @@ package net.frozenblock.wilderwild;
 import com.mojang.datafixers.schemas.Schema;
 import java.util.ArrayList;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.mobcategory.api.entrypoint.FrozenMobCategoryEntrypoint;
 import net.frozenblock.lib.mobcategory.impl.FrozenMobCategory;
+import net.frozenblock.wilderwild.block.ScorchedBlock;
 import net.frozenblock.wilderwild.block.entity.PalmCrownBlockEntity;
 import net.frozenblock.wilderwild.config.EntityConfig;
 import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.ai.TermiteBlockLookup;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.misc.SculkReplacementLookup;
 import net.frozenblock.wilderwild.misc.WilderSharedConstants;
 import net.frozenblock.wilderwild.misc.command.SpreadSculkCommand;
+import net.frozenblock.wilderwild.misc.datafixer.BlockEntityRemovalFix;
 import net.frozenblock.wilderwild.misc.datafixer.DrySandStateFix;
 import net.frozenblock.wilderwild.misc.datafixer.NematocystStateFix;
 import net.frozenblock.wilderwild.misc.datafixer.OsseousSculkStateFix;
 import net.frozenblock.wilderwild.misc.datafixer.ScorchedSandStateFix2;
 import net.frozenblock.wilderwild.misc.mod_compat.WilderModIntegrations;
+import net.frozenblock.wilderwild.misc.server.EasyPacket;
+import net.frozenblock.wilderwild.misc.server.LevelEffectScheduler;
 import net.frozenblock.wilderwild.registry.RegisterBlockEntities;
 import net.frozenblock.wilderwild.registry.RegisterBlockSoundTypes;
 import net.frozenblock.wilderwild.registry.RegisterBlocks;
@@ -68,12 +77,8 @@ import org.quiltmc.qsl.frozenblock.misc.datafixerupper.api.SimpleFixes;
 public final class WilderWild extends FrozenModInitializer implements FrozenMobCategoryEntrypoint {
 
 	// PACKETS
-	public static final ResourceLocation SEED_PACKET = WilderSharedConstants.id("seed_particle_packet");
-	public static final ResourceLocation CONTROLLED_SEED_PACKET = WilderSharedConstants.id("controlled_seed_particle_packet");
-	public static final ResourceLocation FLOATING_SCULK_BUBBLE_PACKET = WilderSharedConstants.id("floating_sculk_bubble_easy_packet");
-	public static final ResourceLocation TERMITE_PARTICLE_PACKET = WilderSharedConstants.id("termite_particle_packet");
-	public static final ResourceLocation SENSOR_HICCUP_PACKET = WilderSharedConstants.id("sensor_hiccup_packet");
-	public static final ResourceLocation JELLY_STING_PACKET = WilderSharedConstants.id("jelly_sting_packet");
+	public static final ResourceLocation PARTICLE_BATCH_PACKET = WilderSharedConstants.id("particle_batch_packet");
+	public static final ResourceLocation TERMITE_MOUND_SYNC_PACKET = WilderSharedConstants.id("termite_mound_sync_packet");
 	@Nullable
 	public static WilderWild INSTANCE;
 
@@ -133,6 +138,8 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		builder.addFixer(new ScorchedSandStateFix2(schemaV14, "scorched_red_sand_integer_to_boolean", WilderSharedConstants.id("scorched_red_sand")));
 		Schema schemaV15 = builder.addSchema(15, NamespacedSchema::new);
 		builder.addFixer(new OsseousSculkStateFix(schemaV15, "osseous_sculk_axis_to_direction", WilderSharedConstants.id("osseous_sculk")));
+		Schema schemaV16 = builder.addSchema(16, NamespacedSchema::new);
+		builder.addFixer(new BlockEntityRemovalFix(schemaV16, "remove_scorched_block_entities", WilderSharedConstants.id("scorched_block")));
 
 		QuiltDataFixes.buildAndRegisterFixer(mod, builder);
 		WilderSharedConstants.log("DataFixes for Wilder Wild have been applied", true);
@@ -174,15 +181,29 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		ServerLifecycleEvents.SERVER_STOPPED.register((listener) ->
 			{
 				PalmCrownBlockEntity.PalmCrownPositions.clearAll();
-				Jellyfish.clearLevelToNonPearlescentCount();
+				Jellyfish.clearJellyfishCounts();
+				ScorchedBlock.clearBrushProgress();
+				EasyPacket.EasyParticleBatch.clear();
+				LevelEffectScheduler.clearAll();
 			}
 		);
-		ServerTickEvents.START_SERVER_TICK.register((listener) ->
-			{
-				PalmCrownBlockEntity.PalmCrownPositions.clearAndSwitch();
-				Jellyfish.clearLevelToNonPearlescentCount();
+		ServerTickEvents.END_WORLD_TICK.register(LevelEffectScheduler::tick);
+		ServerWorldEvents.UNLOAD.register((server, level) -> LevelEffectScheduler.clear(level));
+		ServerTickEvents.END_SERVER_TICK.register((listener) -> EasyPacket.EasyParticleBatch.flush());
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+			TermiteBlockLookup.rebuild();
+			SculkReplacementLookup.rebuild();
+		});
+		ServerEntityEvents.ENTITY_LOAD.register((entity, level) -> {
+			if (entity instanceof Jellyfish jellyfish) {
+				jellyfish.startCounting(level);
 			}
-		);
+		});
+		ServerEntityEvents.ENTITY_UNLOAD.register((entity, level) -> {
+			if (entity instanceof Jellyfish jellyfish) {
+				jellyfish.stopCounting();
+			}
+		});
 
 		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> SpreadSculkCommand.register(dispatcher));
 
@@ -18,8 +18,9 @@
 
 package net.frozenblock.wilderwild;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import java.util.ArrayList;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
@@ -36,6 +37,8 @@ import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.lib.menu.api.Panoramas;
 import net.frozenblock.lib.menu.api.SplashTextAPI;
 import net.frozenblock.lib.sound.api.FlyBySoundHub;
+import net.frozenblock.wilderwild.block.entity.TermiteMoundBlockEntity;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
 import net.frozenblock.wilderwild.entity.render.blockentity.DisplayLanternBlockEntityRenderer;
 import net.frozenblock.wilderwild.entity.render.blockentity.HangingTendrilBlockEntityRenderer;
 import net.frozenblock.wilderwild.entity.render.blockentity.SculkSensorBlockEntityRenderer;
@@ -50,6 +53,7 @@ import net.frozenblock.wilderwild.entity.render.renderer.JellyfishRenderer;
 import net.frozenblock.wilderwild.entity.render.renderer.TumbleweedRenderer;
 import net.frozenblock.wilderwild.item.FireflyBottle;
 import net.frozenblock.wilderwild.misc.WilderSharedConstants;
+import net.frozenblock.wilderwild.misc.server.EasyPacket;
 import net.frozenblock.wilderwild.particle.FallingParticle;
 import net.frozenblock.wilderwild.particle.FloatingSculkBubbleParticle;
 import net.frozenblock.wilderwild.particle.MesogleaDripParticle;
@@ -73,7 +77,8 @@ import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderers;
 import net.minecraft.client.renderer.entity.ThrownItemRenderer;
 import net.minecraft.client.renderer.item.ItemProperties;
-import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.PackType;
 import net.minecraft.server.packs.resources.ResourceManager;
@@ -96,112 +101,109 @@ public final class WilderWildClient implements ClientModInitializer {
 	public static final ModelLayerLocation JELLYFISH = new ModelLayerLocation(WilderSharedConstants.id("jellyfish"), "main");
 	public static final ModelLayerLocation TUMBLEWEED = new ModelLayerLocation(WilderSharedConstants.id("tumbleweed"), "main");
 
-	private static void receiveEasyEchoerBubblePacket() {
-		ClientPlayNetworking.registerGlobalReceiver(WilderWild.FLOATING_SCULK_BUBBLE_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			Vec3 pos = new Vec3(byteBuf.readDouble(), byteBuf.readDouble(), byteBuf.readDouble());
-			double size = byteBuf.readDouble();
-			int age = byteBuf.readInt();
-			double yVel = byteBuf.readDouble();
-			int count = byteBuf.readVarInt();
+	private static void receiveParticleBatchPacket() {
+		ClientPlayNetworking.registerGlobalReceiver(WilderWild.PARTICLE_BATCH_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+			FriendlyByteBuf batch = new FriendlyByteBuf(byteBuf.readBytes(byteBuf.readableBytes()));
 			ctx.execute(() -> {
-				if (ctx.level == null)
-					throw new IllegalStateException("why is your world null");
-				var random = AdvancedMath.random();
-				for (int i = 0; i < count; i++) {
-					double xVel = (random.nextDouble() - 0.5) / 9.5;
-					double zVel = (random.nextDouble() - 0.5) / 9.5;
-					if (size >= 1) {
-						xVel = (random.nextDouble() - 0.5) / 10.5;
-						zVel = (random.nextDouble() - 0.5) / 10.5;
+				try {
+					if (ctx.level == null)
+						throw new IllegalStateException("why is your world null");
+					BlockPos origin = batch.readBlockPos();
+					while (batch.isReadable()) {
+						byte type = batch.readByte();
+						if (type == EasyPacket.EasyParticleBatch.JELLY_STING) {
+							playJellySting(ctx.level, ctx.player, batch.readBoolean());
+							continue;
+						}
+						double x = origin.getX() + batch.readShort() / EasyPacket.EasyParticleBatch.POSITION_SCALE;
+						double y = origin.getY() + batch.readShort() / EasyPacket.EasyParticleBatch.POSITION_SCALE;
+						double z = origin.getZ() + batch.readShort() / EasyPacket.EasyParticleBatch.POSITION_SCALE;
+						switch (type) {
+							case EasyPacket.EasyParticleBatch.SEED -> addSeedParticles(ctx.level, x, y, z, batch.readVarInt(), batch.readBoolean());
+							case EasyPacket.EasyParticleBatch.CONTROLLED_SEED -> addControlledSeedParticles(ctx.level, x, y, z, batch.readFloat(), batch.readFloat(), batch.readFloat(), batch.readVarInt(), batch.readBoolean(), batch.readFloat());
+							case EasyPacket.EasyParticleBatch.FLOATING_SCULK_BUBBLE -> addFloatingSculkBubbleParticles(ctx.level, x, y, z, batch.readFloat(), batch.readVarInt(), batch.readFloat(), batch.readVarInt());
+							case EasyPacket.EasyParticleBatch.TERMITE_MOUND -> addTermiteMoundParticles(ctx.level, x, y, z, batch);
+							default -> throw new IllegalStateException("Unknown particle batch event " + type);
+						}
 					}
-					ctx.level.addParticle(new FloatingSculkBubbleParticleOptions(size, age, new Vec3(xVel, yVel, zVel)), pos.x, pos.y, pos.z, 0, 0, 0);
+				} finally {
+					batch.release();
 				}
 			});
 		});
 	}
 
-	private static void receiveSeedPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(WilderWild.SEED_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			Vec3 pos = new Vec3(byteBuf.readDouble(), byteBuf.readDouble(), byteBuf.readDouble());
-			int count = byteBuf.readVarInt();
-			boolean milkweed = byteBuf.readBoolean();
-			ctx.execute(() -> {
-				if (ctx.level == null)
-					throw new IllegalStateException("why is your world null");
-				for (int i = 0; i < count; i++) {
-					ctx.level.addParticle(new SeedParticleOptions(milkweed, false), pos.x, pos.y, pos.z, 0, 0, 0);
-				}
-			});
-		});
+	private static void addFloatingSculkBubbleParticles(@NotNull ClientLevel level, double x, double y, double z, double size, int age, double yVel, int count) {
+		var random = AdvancedMath.random();
+		for (int i = 0; i < count; i++) {
+			double xVel = (random.nextDouble() - 0.5) / 9.5;
+			double zVel = (random.nextDouble() - 0.5) / 9.5;
+			if (size >= 1) {
+				xVel = (random.nextDouble() - 0.5) / 10.5;
+				zVel = (random.nextDouble() - 0.5) / 10.5;
+			}
+			level.addParticle(new FloatingSculkBubbleParticleOptions(size, age, new Vec3(xVel, yVel, zVel)), x, y, z, 0, 0, 0);
+		}
 	}
 
-	private static void receiveControlledSeedPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(WilderWild.CONTROLLED_SEED_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			Vec3 pos = new Vec3(byteBuf.readDouble(), byteBuf.readDouble(), byteBuf.readDouble());
-			double velx = byteBuf.readDouble();
-			double vely = byteBuf.readDouble();
-			double velz = byteBuf.readDouble();
-			int count = byteBuf.readVarInt();
-			boolean milkweed = byteBuf.readBoolean();
-			double posRandomizer = byteBuf.readDouble();
-			ctx.execute(() -> {
-				if (ctx.level == null)
-					throw new IllegalStateException("why is your world null");
-				for (int i = 0; i < count; i++) {
-					ctx.level.addParticle(new SeedParticleOptions(milkweed, true), pos.x, pos.y + ((ctx.level.random.nextBoolean() ? -1 : 1) * (ctx.level.random.nextDouble() * posRandomizer)), pos.z, velx, vely + (ctx.level.random.nextDouble() * 0.07), velz);
-				}
-			});
-		});
+	private static void addSeedParticles(@NotNull ClientLevel level, double x, double y, double z, int count, boolean milkweed) {
+		for (int i = 0; i < count; i++) {
+			level.addParticle(new SeedParticleOptions(milkweed, false), x, y, z, 0, 0, 0);
+		}
 	}
 
-	private static void receiveTermitePacket() {
-		ClientPlayNetworking.registerGlobalReceiver(WilderWild.TERMITE_PARTICLE_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			Vec3 pos = new Vec3(byteBuf.readDouble(), byteBuf.readDouble(), byteBuf.readDouble());
-			AtomicInteger count = new AtomicInteger(byteBuf.readVarInt());
-			ctx.execute(() -> {
-				if (ctx.level == null)
-					throw new IllegalStateException("why is your world null");
+	private static void addControlledSeedParticles(@NotNull ClientLevel level, double x, double y, double z, double velx, double vely, double velz, int count, boolean milkweed, double posRandomizer) {
+		for (int i = 0; i < count; i++) {
+			level.addParticle(new SeedParticleOptions(milkweed, true), x, y + ((level.random.nextBoolean() ? -1 : 1) * (level.random.nextDouble() * posRandomizer)), z, velx, vely + (level.random.nextDouble() * 0.07), velz);
+		}
+	}
 
-				count.addAndGet(-1);
-				ctx.level.addAlwaysVisibleParticle(RegisterParticles.TERMITE, pos.x, pos.y, pos.z, 0, 0, 0);
-				for (int i = 0; i < count.get(); i++) {
-					ctx.level.addParticle(RegisterParticles.TERMITE, pos.x, pos.y, pos.z, 0, 0, 0);
-				}
-			});
-		});
+	private static void addTermiteMoundParticles(@NotNull ClientLevel level, double x, double y, double z, @NotNull FriendlyByteBuf batch) {
+		int termiteCount = batch.readUnsignedByte();
+		for (int i = 0; i < termiteCount; i++) {
+			addTermiteParticles(level, x + batch.readByte(), y + batch.readByte(), z + batch.readByte(), batch.readUnsignedByte());
+		}
+	}
+
+	private static void addTermiteParticles(@NotNull ClientLevel level, double x, double y, double z, int count) {
+		level.addAlwaysVisibleParticle(RegisterParticles.TERMITE, x, y, z, 0, 0, 0);
+		for (int i = 0; i < count - 1; i++) {
+			level.addParticle(RegisterParticles.TERMITE, x, y, z, 0, 0, 0);
+		}
 	}
 
-	private static void receiveSensorHiccupPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(WilderWild.SENSOR_HICCUP_PACKET, (ctx, handler, byteBuf, responseSender) -> {
-			Vec3 pos = new Vec3(byteBuf.readDouble(), byteBuf.readDouble(), byteBuf.readDouble());
+	private static void playJellySting(@NotNull ClientLevel level, LocalPlayer player, boolean baby) {
+		if (player != null) {
+			level.playSound(player, player.getX(), player.getY(), player.getZ(), RegisterSounds.ENTITY_JELLYFISH_STING, SoundSource.NEUTRAL, 1.0F, level.random.nextFloat() * 0.2F + (baby ? 1.2F : 0.9F));
+		}
+	}
+
+	private static void receiveTermiteMoundSyncPacket() {
+		ClientPlayNetworking.registerGlobalReceiver(WilderWild.TERMITE_MOUND_SYNC_PACKET, (ctx, handler, byteBuf, responseSender) -> {
+			BlockPos moundPos = byteBuf.readBlockPos();
+			int removedCount = byteBuf.readVarInt();
+			IntArrayList removedIDs = new IntArrayList(removedCount);
+			for (int i = 0; i < removedCount; i++) {
+				removedIDs.add(byteBuf.readVarInt());
+			}
+			int changedCount = byteBuf.readVarInt();
+			ArrayList<TermiteManager.Termite> changedTermites = new ArrayList<>(changedCount);
+			for (int i = 0; i < changedCount; i++) {
+				int id = byteBuf.readVarInt();
+				BlockPos termitePos = byteBuf.readBlockPos();
+				boolean eating = byteBuf.readBoolean();
+				changedTermites.add(new TermiteManager.Termite(moundPos, termitePos, 0, 0, 0, eating, id));
+			}
 			ctx.execute(() -> {
 				if (ctx.level == null)
 					throw new IllegalStateException("why is your world null");
-				ClientLevel level = ctx.level;
-				int i = 5578058;
-				boolean bl2 = level.random.nextBoolean();
-				if (bl2) {
-					double d = (double) (i >> 16 & 255) / 255.0D;
-					double e = (double) (i >> 8 & 255) / 255.0D;
-					double f = (double) (i & 255) / 255.0D;
-					level.addParticle(ParticleTypes.ENTITY_EFFECT, pos.x, pos.y, pos.z, d, e, f);
+				if (ctx.level.getBlockEntity(moundPos) instanceof TermiteMoundBlockEntity mound) {
+					mound.applyClientDelta(removedIDs, changedTermites);
 				}
 			});
 		});
 	}
 
-	private static void receiveJellyStingPacket() {
-		ClientPlayNetworking.registerGlobalReceiver(WilderWild.JELLY_STING_PACKET, (ctx, handler, byteBuf, responseSender) -> ctx.execute(() -> {
-			boolean baby = byteBuf.readBoolean();
-			if (ctx.level != null) {
-				LocalPlayer player = ctx.player;
-				if (player != null) {
-					ctx.level.playSound(player, player.getX(), player.getY(), player.getZ(), RegisterSounds.ENTITY_JELLYFISH_STING, SoundSource.NEUTRAL, 1.0F, ctx.level.random.nextFloat() * 0.2F + (baby ? 1.2F : 0.9F));
-				}
-			}
-		}));
-	}
-
 	@Override
 	public void onInitializeClient() {
 		SplashTextAPI.addSplashLocation(WilderSharedConstants.id("texts/splashes.txt"));
@@ -353,12 +355,8 @@ public final class WilderWildClient implements ClientModInitializer {
 		EntityModelLayerRegistry.registerModelLayer(DOUBLE_STONE_CHEST_LEFT, StoneChestBlockEntityRenderer::createDoubleBodyLeftLayer);
 		EntityModelLayerRegistry.registerModelLayer(DOUBLE_STONE_CHEST_RIGHT, StoneChestBlockEntityRenderer::createDoubleBodyRightLayer);
 
-		receiveEasyEchoerBubblePacket();
-		receiveSeedPacket();
-		receiveControlledSeedPacket();
-		receiveTermitePacket();
-		receiveSensorHiccupPacket();
-		receiveJellyStingPacket();
+		receiveParticleBatchPacket();
+		receiveTermiteMoundSyncPacket();
 
 		FlyBySoundHub.AUTO_ENTITIES_AND_SOUNDS.put(RegisterEntities.ANCIENT_HORN_PROJECTILE_ENTITY, new FlyBySoundHub.FlyBySound(1.0F, 0.5F, SoundSource.PLAYERS, RegisterSounds.ENTITY_ANCIENT_HORN_PROJECTILE_FLYBY));
 
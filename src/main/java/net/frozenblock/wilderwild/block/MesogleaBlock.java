@@ -67,7 +67,9 @@ import org.jetbrains.annotations.Nullable;
 public class MesogleaBlock extends HalfTransparentBlock implements SimpleWaterloggedBlock {
 	public static final BooleanProperty WATERLOGGED = BlockStateProperties.WATERLOGGED;
 	public static final EnumProperty<BubbleDirection> BUBBLE_DIRECTION = RegisterProperties.BUBBLE_DIRECTION;
-
+	private static final Direction[] COLLISION_DIRECTIONS = {Direction.DOWN, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+	private static final VoxelShape[] COLLISION_SHAPES = makeCollisionShapes(0.05F);
+	private static final VoxelShape[] ENTITY_COLLISION_SHAPES = makeCollisionShapes(0.25F);
 	public final ParticleOptions dripParticle;
 	public final boolean pearlescent;
 
@@ -140,34 +142,53 @@ public class MesogleaBlock extends HalfTransparentBlock implements SimpleWaterlo
 	@NotNull
 	public VoxelShape getCollisionShape(@NotNull BlockState blockState, @NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos, @NotNull CollisionContext collisionContext) {
 		if (blockState.getValue(WATERLOGGED)) {
-			VoxelShape shape = Shapes.empty();
 			if (collisionContext instanceof EntityCollisionContext entityCollisionContext) {
-				if (entityCollisionContext.getEntity() != null) {
-					Entity entity = entityCollisionContext.getEntity();
-					if (entity != null && entity.getType().is(WilderEntityTags.STAYS_IN_MESOGLEA) && !entity.isPassenger() && !entity.isDescending()) {
+				Entity entity = entityCollisionContext.getEntity();
+				if (entity != null) {
+					if (entity.getType().is(WilderEntityTags.STAYS_IN_MESOGLEA) && !entity.isPassenger() && !entity.isDescending()) {
 						if (entity instanceof Mob mob && mob.isLeashed()) {
-							return shape;
+							return Shapes.empty();
 						}
 						BlockState insideState = entity.getFeetBlockState();
 						if (entity.isInWater() || (insideState.getBlock() instanceof MesogleaBlock && insideState.getValue(BlockStateProperties.WATERLOGGED))) {
-							for (Direction direction : Direction.values()) {
-								if (direction != Direction.UP && !blockGetter.getFluidState(blockPos.relative(direction)).is(FluidTags.WATER)) {
-									shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(direction, 0.25F));
-								}
-							}
+							return ENTITY_COLLISION_SHAPES[getDryNeighborMask(blockGetter, blockPos)];
 						}
 					}
-					return shape;
+					return Shapes.empty();
 				}
 			}
-			for (Direction direction : Direction.values()) {
-				if (direction != Direction.UP && !blockGetter.getFluidState(blockPos.relative(direction)).is(FluidTags.WATER)) {
-					shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(direction, 0.05F));
+			return COLLISION_SHAPES[getDryNeighborMask(blockGetter, blockPos)];
+		}
+		return super.getCollisionShape(blockState, blockGetter, blockPos, collisionContext);
+	}
+
+	/**
+	 * @return a bitmask with a bit set for each of {@link #COLLISION_DIRECTIONS} whose neighbour isn't water.
+	 */
+	private static int getDryNeighborMask(@NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos) {
+		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+		int mask = 0;
+		for (int i = 0; i < COLLISION_DIRECTIONS.length; i++) {
+			if (!blockGetter.getFluidState(mutableBlockPos.setWithOffset(blockPos, COLLISION_DIRECTIONS[i])).is(FluidTags.WATER)) {
+				mask |= 1 << i;
+			}
+		}
+		return mask;
+	}
+
+	@NotNull
+	private static VoxelShape[] makeCollisionShapes(float thickness) {
+		VoxelShape[] shapes = new VoxelShape[1 << COLLISION_DIRECTIONS.length];
+		for (int mask = 0; mask < shapes.length; mask++) {
+			VoxelShape shape = Shapes.empty();
+			for (int i = 0; i < COLLISION_DIRECTIONS.length; i++) {
+				if ((mask & (1 << i)) != 0) {
+					shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(COLLISION_DIRECTIONS[i], thickness));
 				}
 			}
-			return shape;
+			shapes[mask] = shape.optimize();
 		}
-		return super.getCollisionShape(blockState, blockGetter, blockPos, collisionContext);
+		return shapes;
 	}
 
 	@Override
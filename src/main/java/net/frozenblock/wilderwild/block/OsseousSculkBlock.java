@@ -146,38 +146,78 @@ public class OsseousSculkBlock extends Block implements SculkBehaviour {
 	}
 
 	public void worldGenSpread(@NotNull BlockPos blockPos, @NotNull LevelAccessor level, @NotNull RandomSource random) {
+		this.worldGenSpread(blockPos, level, random, 1);
+	}
+
+	/**
+	 * Grows the pillar starting at {@code blockPos} up to {@code growthAmount} times in a single pass.
+	 * <p>
+	 * The top of the pillar is only searched for once and is then carried forward as the pillar grows,
+	 * and the bottom is only searched for again after it has been converted to Sculk.
+	 * All randomness is drawn from {@code random}, so the result only depends on the caller's seed.
+	 */
+	public void worldGenSpread(@NotNull BlockPos blockPos, @NotNull LevelAccessor level, @NotNull RandomSource random, int growthAmount) {
 		BlockState firstState = level.getBlockState(blockPos);
-		if (firstState.is(this)) {
-			int pillarHeightLeft = firstState.getValue(HEIGHT_LEFT);
-			if (pillarHeightLeft > 0) {
-				BlockPos topPos = getTop(level, blockPos, pillarHeightLeft);
-				if (topPos != null) {
-					BlockPos.MutableBlockPos mutableBlockPos = topPos.mutable();
-					BlockState state = level.getBlockState(topPos);
-					pillarHeightLeft = state.getValue(HEIGHT_LEFT);
-					Direction direction = state.getValue(FACING);
-					BlockState offsetState = level.getBlockState(mutableBlockPos.move(direction));
-					if (offsetState.isAir() || offsetState.getBlock() == Blocks.SCULK_VEIN) {
-						BlockState blockState = getGrowthState(random, pillarHeightLeft, state, direction);
-						if (blockState.getBlock() == this) {
-							blockState = blockState.setValue(TOTAL_HEIGHT, state.getValue(TOTAL_HEIGHT)).setValue(FACING, direction);
-							if (direction == Direction.DOWN && random.nextDouble() > 0.8) {
-								Direction nextDirection = getDir(getAxis(random), random);
-								if (isSafeToReplace(level.getBlockState(mutableBlockPos.setWithOffset(topPos, nextDirection)))) {
-									level.setBlock(mutableBlockPos, this.defaultBlockState().setValue(FACING, nextDirection).setValue(TOTAL_HEIGHT, state.getValue(TOTAL_HEIGHT)).setValue(HEIGHT_LEFT, 0), 3);
-									if (isSafeToReplace(level.getBlockState(mutableBlockPos.move(Direction.DOWN)))) {
-										if (random.nextDouble() > 0.6) {
-											level.setBlock(mutableBlockPos, RegisterBlocks.HANGING_TENDRIL.defaultBlockState(), 3);
-										}
-									}
-								}
+		if (growthAmount <= 0 || !firstState.is(this)) {
+			return;
+		}
+		int maxLength = firstState.getValue(HEIGHT_LEFT);
+		if (maxLength <= 0) {
+			return;
+		}
+		BlockPos.MutableBlockPos topPos = new BlockPos.MutableBlockPos();
+		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+		int topDistance = -1;
+		boolean checkBottom = true;
+		for (int growth = 0; growth < growthAmount; growth++) {
+			if (topDistance < 0) {
+				if (!level.getBlockState(blockPos).is(this)) {
+					return;
+				}
+				topPos.set(blockPos);
+				topDistance = this.findTop(level, topPos, maxLength);
+				if (topDistance < 0) {
+					return;
+				}
+			} else if (topDistance >= maxLength) {
+				return;
+			}
+			BlockState state = level.getBlockState(topPos);
+			if (!state.is(this)) {
+				return;
+			}
+			int pillarHeightLeft = state.getValue(HEIGHT_LEFT);
+			Direction direction = state.getValue(FACING);
+			BlockState offsetState = level.getBlockState(mutableBlockPos.setWithOffset(topPos, direction));
+			if (!offsetState.isAir() && offsetState.getBlock() != Blocks.SCULK_VEIN) {
+				return;
+			}
+			BlockState blockState = getGrowthState(random, pillarHeightLeft, state, direction);
+			if (blockState.getBlock() == this) {
+				blockState = blockState.setValue(TOTAL_HEIGHT, state.getValue(TOTAL_HEIGHT)).setValue(FACING, direction);
+				if (direction == Direction.DOWN && random.nextDouble() > 0.8) {
+					Direction nextDirection = getDir(getAxis(random), random);
+					if (isSafeToReplace(level.getBlockState(mutableBlockPos.setWithOffset(topPos, nextDirection)))) {
+						level.setBlock(mutableBlockPos, this.defaultBlockState().setValue(FACING, nextDirection).setValue(TOTAL_HEIGHT, state.getValue(TOTAL_HEIGHT)).setValue(HEIGHT_LEFT, 0), 3);
+						if (isSafeToReplace(level.getBlockState(mutableBlockPos.move(Direction.DOWN)))) {
+							if (random.nextDouble() > 0.6) {
+								level.setBlock(mutableBlockPos, RegisterBlocks.HANGING_TENDRIL.defaultBlockState(), 3);
 							}
 						}
-						level.setBlock(mutableBlockPos.setWithOffset(topPos, direction), blockState, 3);
-						workOnBottom(level, topPos, state);
 					}
 				}
 			}
+			level.setBlock(mutableBlockPos.setWithOffset(topPos, direction), blockState, 3);
+			if (checkBottom) {
+				// The walk down from the new top passes the same blocks as before, so once the bottom has been left alone it stays that way.
+				checkBottom = this.workOnBottom(level, topPos, state);
+				if (checkBottom) {
+					topDistance = -1;
+					continue;
+				}
+			}
+			topPos.move(direction);
+			topDistance++;
 		}
 	}
 
@@ -185,7 +225,7 @@ public class OsseousSculkBlock extends Block implements SculkBehaviour {
 		BlockState blockState = this.defaultBlockState().setValue(HEIGHT_LEFT, Math.max(0, pillarHeightLeft - 1));
 		if (
 			pillarHeightLeft == 1 && direction == Direction.UP && state.getValue(TOTAL_HEIGHT) > 0
-				&& EasyNoiseSampler.localRandom.nextInt(Math.max(1, state.getValue(TOTAL_HEIGHT) / 2)) <= 1
+				&& random.nextInt(Math.max(1, state.getValue(TOTAL_HEIGHT) / 2)) <= 1
 				&& random.nextInt(11) == 0
 		) {
 			blockState = Blocks.SCULK_CATALYST.defaultBlockState();
@@ -193,7 +233,7 @@ public class OsseousSculkBlock extends Block implements SculkBehaviour {
 		return blockState;
 	}
 
-	private void workOnBottom(@NotNull LevelAccessor level, @NotNull BlockPos topPos, @NotNull BlockState state) {
+	private boolean workOnBottom(@NotNull LevelAccessor level, @NotNull BlockPos topPos, @NotNull BlockState state) {
 		BlockPos bottom = getBottom(level, topPos, state.getValue(TOTAL_HEIGHT));
 		if (bottom != null) {
 			BlockState bottomState = level.getBlockState(bottom);
@@ -201,9 +241,11 @@ public class OsseousSculkBlock extends Block implements SculkBehaviour {
 				int total = bottomState.getValue(TOTAL_HEIGHT);
 				if ((total) - bottomState.getValue(HEIGHT_LEFT) <= total / 3) {
 					this.convertToSculk(level, bottom);
+					return true;
 				}
 			}
 		}
+		return false;
 	}
 
 	public void convertToSculk(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
@@ -250,19 +292,28 @@ public class OsseousSculkBlock extends Block implements SculkBehaviour {
 	@Nullable
 	public BlockPos getTop(@NotNull LevelAccessor level, @NotNull BlockPos pos, int max) {
 		BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-		BlockPos.MutableBlockPos mutableBlockPos2 = pos.mutable();
+		return this.findTop(level, mutableBlockPos, max) >= 0 ? mutableBlockPos.immutable() : null;
+	}
+
+	/**
+	 * Moves {@code pos} to the top of the pillar.
+	 *
+	 * @return how many blocks {@code pos} was moved, or -1 if no top was found within {@code max} blocks.
+	 */
+	private int findTop(@NotNull LevelAccessor level, @NotNull BlockPos.MutableBlockPos pos, int max) {
+		BlockPos.MutableBlockPos offsetPos = pos.mutable();
 		for (int i = 0; i < max; i++) {
-			BlockState blockState = level.getBlockState(mutableBlockPos);
+			BlockState blockState = level.getBlockState(pos);
 			if (blockState.getBlock() != this) {
-				return null;
+				return -1;
 			}
-			BlockState offsetState = level.getBlockState(mutableBlockPos2.move(blockState.getValue(FACING)));
+			BlockState offsetState = level.getBlockState(offsetPos.move(blockState.getValue(FACING)));
 			if (offsetState.isAir() || offsetState.getBlock() == Blocks.SCULK_VEIN) {
-				return mutableBlockPos.immutable();
+				return i;
 			}
-			mutableBlockPos.set(mutableBlockPos2);
+			pos.set(offsetPos);
 		}
-		return null;
+		return -1;
 	}
 
 	@Nullable
@@ -18,14 +18,16 @@
 
 package net.frozenblock.wilderwild.block;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.HashMap;
 import java.util.Map;
 import net.frozenblock.lib.item.api.ItemBlockStateTagUtils;
-import net.frozenblock.wilderwild.block.entity.ScorchedBlockEntity;
 import net.frozenblock.wilderwild.misc.mod_compat.FrozenLibIntegration;
 import net.frozenblock.wilderwild.registry.RegisterProperties;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.tags.FluidTags;
@@ -35,10 +37,7 @@ import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.biome.Biome;
-import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.RenderShape;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -49,12 +48,12 @@ import net.minecraft.world.level.material.Fluid;
 import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.material.Fluids;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
-public class ScorchedBlock extends BaseEntityBlock {
+public class ScorchedBlock extends Block {
 	public static final Map<BlockState, BlockState> SCORCH_MAP = new Object2ObjectOpenHashMap<>();
 	public static final Map<BlockState, BlockState> HYDRATE_MAP = new Object2ObjectOpenHashMap<>();
 	public static final int TICK_DELAY = 2;
+	private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<BrushProgress>> BRUSH_PROGRESS = new HashMap<>();
 	private static final BooleanProperty CRACKEDNESS = RegisterProperties.CRACKED;
 	private static final IntegerProperty DUSTED = BlockStateProperties.DUSTED;
 	public final boolean canBrush;
@@ -115,12 +114,27 @@ public class ScorchedBlock extends BaseEntityBlock {
 
 	@Override
 	public void onPlace(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState oldState, boolean isMoving) {
-		level.scheduleTick(pos, this, TICK_DELAY);
+		// Dusting only changes while brushing, which schedules its own ticks.
+		if (stateWithoutDusting(state) != stateWithoutDusting(oldState)) {
+			level.scheduleTick(pos, this, TICK_DELAY);
+		}
+	}
+
+	@Override
+	public void onRemove(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState newState, boolean isMoving) {
+		if (!newState.is(this)) {
+			removeBrushProgress(level, pos);
+		}
+		super.onRemove(state, level, pos, newState, isMoving);
 	}
 
 	@Override
+	@NotNull
 	public BlockState updateShape(@NotNull BlockState state, @NotNull Direction direction, @NotNull BlockState neighborState, @NotNull LevelAccessor level, @NotNull BlockPos currentPos, @NotNull BlockPos neighborPos) {
-		level.scheduleTick(currentPos, this, TICK_DELAY);
+		// Only a change above can place or remove a dripstone that drips onto this block.
+		if (direction == Direction.UP) {
+			level.scheduleTick(currentPos, this, TICK_DELAY);
+		}
 		return super.updateShape(state, direction, neighborState, level, currentPos, neighborPos);
 	}
 
@@ -131,12 +145,6 @@ public class ScorchedBlock extends BaseEntityBlock {
 		}
 	}
 
-	@Override
-	@Nullable
-	public BlockEntity newBlockEntity(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
-		return new ScorchedBlockEntity(blockPos, blockState);
-	}
-
 	@Override
 	public void randomTick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		FluidState fluidState = level.getFluidState(pos.above());
@@ -155,12 +163,91 @@ public class ScorchedBlock extends BaseEntityBlock {
 		} else if (fluid == Fluids.WATER) {
 			hydrate(state, level, pos);
 		}
-		BlockEntity blockEntity = level.getBlockEntity(pos);
-		if (blockEntity instanceof ScorchedBlockEntity scorchedBlock) {
-			scorchedBlock.checkReset();
+		checkBrushReset(level, pos);
+	}
+
+	/**
+	 * Advances the brushing progress of the scorched block at the given position.
+	 * <p>
+	 * Progress is only kept in memory while a block is being brushed, so scorched blocks never need a block entity.
+	 *
+	 * @return whether the brushing has completed and the brush should be damaged.
+	 */
+	public boolean brush(@NotNull ServerLevel level, @NotNull BlockPos pos, long gameTime) {
+		Long2ObjectOpenHashMap<BrushProgress> levelProgress = BRUSH_PROGRESS.get(level.dimension());
+		if (levelProgress == null) {
+			levelProgress = new Long2ObjectOpenHashMap<>();
+			BRUSH_PROGRESS.put(level.dimension(), levelProgress);
+		}
+		long longPos = pos.asLong();
+		BrushProgress progress = levelProgress.get(longPos);
+		if (progress == null) {
+			progress = new BrushProgress();
+			levelProgress.put(longPos, progress);
+		}
+		progress.brushCountResetsAtTick = gameTime + 40L;
+		if (gameTime < progress.coolDownEndsAtTick) {
+			return false;
+		}
+		progress.coolDownEndsAtTick = gameTime + 10L;
+		int i = progress.getCompletionState();
+		BlockState state = level.getBlockState(pos);
+		if (++progress.brushCount >= 10) {
+			levelProgress.remove(longPos);
+			level.levelEvent(3008, pos, Block.getId(state));
+			hydrate(state, level, pos);
+			return true;
+		}
+		level.scheduleTick(pos, this, 40);
+		int j = progress.getCompletionState();
+		if (i != j) {
+			level.setBlock(pos, state.setValue(DUSTED, j), 3);
+		}
+		return false;
+	}
+
+	private void checkBrushReset(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		Long2ObjectOpenHashMap<BrushProgress> levelProgress = BRUSH_PROGRESS.get(level.dimension());
+		if (levelProgress == null) {
+			return;
+		}
+		BrushProgress progress = levelProgress.get(pos.asLong());
+		if (progress == null) {
+			return;
+		}
+		BlockState state = level.getBlockState(pos);
+		if (!state.is(this)) {
+			levelProgress.remove(pos.asLong());
+			return;
+		}
+		long gameTime = level.getGameTime();
+		if (progress.brushCount != 0 && gameTime >= progress.brushCountResetsAtTick) {
+			int i = progress.getCompletionState();
+			progress.brushCount = Math.max(0, progress.brushCount - 2);
+			int j = progress.getCompletionState();
+			if (i != j) {
+				level.setBlock(pos, state.setValue(DUSTED, j), 3);
+			}
+			progress.brushCountResetsAtTick = gameTime + 4L;
+		}
+		if (progress.brushCount == 0) {
+			levelProgress.remove(pos.asLong());
+		} else {
+			level.scheduleTick(pos, this, (int) (progress.brushCountResetsAtTick - gameTime));
 		}
 	}
 
+	private static void removeBrushProgress(@NotNull Level level, @NotNull BlockPos pos) {
+		Long2ObjectOpenHashMap<BrushProgress> levelProgress = BRUSH_PROGRESS.get(level.dimension());
+		if (levelProgress != null) {
+			levelProgress.remove(pos.asLong());
+		}
+	}
+
+	public static void clearBrushProgress() {
+		BRUSH_PROGRESS.clear();
+	}
+
 	@Override
 	@NotNull
 	public ItemStack getCloneItemStack(@NotNull BlockGetter level, @NotNull BlockPos pos, @NotNull BlockState state) {
@@ -171,16 +258,28 @@ public class ScorchedBlock extends BaseEntityBlock {
 		return superStack;
 	}
 
-	@Override
-	@NotNull
-	public RenderShape getRenderShape(@NotNull BlockState blockState) {
-		return RenderShape.MODEL;
-	}
-
 	@Override
 	protected void finalize() {
 		SCORCH_MAP.clear();
 		HYDRATE_MAP.clear();
 	}
-}
 
+	private static class BrushProgress {
+		private int brushCount;
+		private long brushCountResetsAtTick;
+		private long coolDownEndsAtTick;
+
+		private int getCompletionState() {
+			if (this.brushCount == 0) {
+				return 0;
+			}
+			if (this.brushCount < 3) {
+				return 1;
+			}
+			if (this.brushCount < 6) {
+				return 2;
+			}
+			return 3;
+		}
+	}
+}
@@ -41,6 +41,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class TermiteMound extends BaseEntityBlock {
+	/**
+	 * Mounds check their light every few ticks, so a sleeping mound wakes up soon after daylight or light reaches it.
+	 * Neighbour changes are applied right away in {@link #updateShape}.
+	 */
+	private static final int MIN_TICK_DELAY = 2;
+	private static final int MAX_TICK_DELAY = 6;
 
 	public TermiteMound(@NotNull Properties settings) {
 		super(settings);
@@ -48,13 +54,27 @@ public class TermiteMound extends BaseEntityBlock {
 	}
 
 	public static boolean canTermitesWaken(@NotNull Level level, @NotNull BlockPos pos) {
-		return !shouldTermitesSleep(level, getLightLevel(level, pos));
+		return !level.isNight() || !shouldTermitesSleep(level, getLightLevel(level, pos));
 	}
 
 	public static boolean shouldTermitesSleep(@NotNull Level level, int light) {
 		return level.isNight() && light < 7;
 	}
 
+	/**
+	 * A dormant mound can't have any termites out, so its block entity doesn't need to tick on the server.
+	 */
+	public static boolean isDormant(@NotNull BlockState state) {
+		return TermiteManager.maxTermites(state.getValue(RegisterProperties.NATURAL), state.getValue(RegisterProperties.TERMITES_AWAKE), state.getValue(RegisterProperties.CAN_SPAWN_TERMITE)) == 0;
+	}
+
+	@NotNull
+	public static BlockState updateActivity(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos) {
+		boolean areTermitesSafe = TermiteManager.areTermitesSafe(level, pos);
+		boolean canAwaken = areTermitesSafe && canTermitesWaken(level, pos);
+		return state.setValue(RegisterProperties.TERMITES_AWAKE, canAwaken).setValue(RegisterProperties.CAN_SPAWN_TERMITE, areTermitesSafe);
+	}
+
 	public static int getLightLevel(@NotNull Level level, @NotNull BlockPos blockPos) {
 		BlockPos.MutableBlockPos mutableBlockPos = blockPos.mutable();
 		int finalLight = 0;
@@ -81,19 +101,31 @@ public class TermiteMound extends BaseEntityBlock {
 	@Override
 	@NotNull
 	public BlockState updateShape(@NotNull BlockState state, @NotNull Direction direction, @NotNull BlockState neighborState, @NotNull LevelAccessor level, @NotNull BlockPos currentPos, @NotNull BlockPos neighborPos) {
-		boolean isSafe = TermiteManager.isPosSafeForTermites(level, neighborPos, neighborState);
-		if (isSafe != state.getValue(RegisterProperties.TERMITES_AWAKE)) {
-			state.setValue(RegisterProperties.TERMITES_AWAKE, isSafe);
+		BlockState newState;
+		if (!TermiteManager.isPosSafeForTermites(level, neighborPos, neighborState)) {
+			newState = state.setValue(RegisterProperties.TERMITES_AWAKE, false).setValue(RegisterProperties.CAN_SPAWN_TERMITE, false);
+		} else if (level instanceof Level realLevel && (!state.getValue(RegisterProperties.TERMITES_AWAKE) || !state.getValue(RegisterProperties.CAN_SPAWN_TERMITE))) {
+			newState = updateActivity(state, realLevel, currentPos);
+		} else {
+			return state;
 		}
-		if (isSafe != state.getValue(RegisterProperties.CAN_SPAWN_TERMITE)) {
-			state.setValue(RegisterProperties.CAN_SPAWN_TERMITE, isSafe);
+		sendTermitesHomeIfDormant(level, currentPos, newState);
+		return newState;
+	}
+
+	/**
+	 * A dormant mound's block entity stops ticking, so its termites are sent home before the mound is set to a dormant state,
+	 * keeping their sounds, game events and sync packets out of the chunk's block change.
+	 */
+	private static void sendTermitesHomeIfDormant(@NotNull LevelAccessor level, @NotNull BlockPos pos, @NotNull BlockState newState) {
+		if (level instanceof ServerLevel && isDormant(newState) && level.getBlockEntity(pos) instanceof TermiteMoundBlockEntity termiteMoundBlockEntity) {
+			termiteMoundBlockEntity.sendTermitesHome();
 		}
-		return state;
 	}
 
 	@Override
 	public void onPlace(@NotNull BlockState state, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState oldState, boolean isMoving) {
-		level.scheduleTick(pos, this, level.random.nextInt(40, 200));
+		level.scheduleTick(pos, this, level.random.nextInt(MIN_TICK_DELAY, MAX_TICK_DELAY));
 	}
 
 	@Override
@@ -108,15 +140,12 @@ public class TermiteMound extends BaseEntityBlock {
 
 	@Override
 	public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
-		boolean areTermitesSafe = TermiteManager.areTermitesSafe(level, pos);
-		boolean canAwaken = canTermitesWaken(level, pos) && areTermitesSafe;
-		if (canAwaken != state.getValue(RegisterProperties.TERMITES_AWAKE)) {
-			level.setBlock(pos, state.setValue(RegisterProperties.TERMITES_AWAKE, canAwaken), 3);
+		BlockState newState = updateActivity(state, level, pos);
+		sendTermitesHomeIfDormant(level, pos, newState);
+		if (newState != state) {
+			level.setBlock(pos, newState, 3);
 		}
-		if (areTermitesSafe != state.getValue(RegisterProperties.CAN_SPAWN_TERMITE)) {
-			level.setBlock(pos, state.setValue(RegisterProperties.CAN_SPAWN_TERMITE, areTermitesSafe), 3);
-		}
-		level.scheduleTick(pos, this, random.nextInt(90, 150));
+		level.scheduleTick(pos, this, random.nextInt(MIN_TICK_DELAY, MAX_TICK_DELAY));
 	}
 
 	@Override
@@ -127,7 +156,9 @@ public class TermiteMound extends BaseEntityBlock {
 
 	@Nullable
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-		return !level.isClientSide ? createTickerHelper(type, RegisterBlockEntities.TERMITE_MOUND, (worldx, pos, statex, blockEntity) -> blockEntity.tickServer(worldx, pos, statex.getValue(RegisterProperties.NATURAL), statex.getValue(RegisterProperties.TERMITES_AWAKE), statex.getValue(RegisterProperties.CAN_SPAWN_TERMITE)))
-			: createTickerHelper(type, RegisterBlockEntities.TERMITE_MOUND, (worldx, pos, statex, blockEntity) -> blockEntity.tickClient());
+		if (!level.isClientSide) {
+			return !isDormant(state) ? createTickerHelper(type, RegisterBlockEntities.TERMITE_MOUND, (worldx, pos, statex, blockEntity) -> blockEntity.tickServer(worldx, pos, statex.getValue(RegisterProperties.NATURAL), statex.getValue(RegisterProperties.TERMITES_AWAKE), statex.getValue(RegisterProperties.CAN_SPAWN_TERMITE))) : null;
+		}
+		return createTickerHelper(type, RegisterBlockEntities.TERMITE_MOUND, (worldx, pos, statex, blockEntity) -> blockEntity.tickClient());
 	}
 }
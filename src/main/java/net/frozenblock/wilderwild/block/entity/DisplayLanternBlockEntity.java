@@ -67,14 +67,6 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		this.inventory = NonNullList.withSize(1, ItemStack.EMPTY);
 	}
 
-	public void serverTick(@NotNull Level level, @NotNull BlockPos pos) {
-		if (!this.fireflies.isEmpty()) {
-			for (FireflyInLantern firefly : this.fireflies) {
-				firefly.tick(level, pos);
-			}
-		}
-	}
-
 	public void clientTick(@NotNull Level level, @NotNull BlockPos pos) {
 		this.age += 1;
 		this.clientHanging = this.getBlockState().getValue(BlockStateProperties.HANGING);
@@ -213,8 +205,11 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 		public boolean flickers;
 		public int age;
 		public double y;
-		public boolean wasNamedNectar;
+		private final boolean nectar;
 
+		/**
+		 * The server never ticks fireflies in lanterns, so the saved age is only the starting point for the client's animation.
+		 */
 		public FireflyInLantern(@NotNull Vec3 pos, @NotNull FireflyColor color, @NotNull String customName, boolean flickers, int age, double y) {
 			this.pos = pos;
 			this.color = color;
@@ -222,24 +217,14 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 			this.flickers = flickers;
 			this.age = age;
 			this.y = y;
+			this.nectar = customName.toLowerCase().contains("nectar");
 		}
 
-		public void tick(Level level, BlockPos pos) {
+		public void tick(@NotNull Level level, @NotNull BlockPos pos) {
 			this.age += 1;
 			this.y = Math.sin(this.age * 0.03) * 0.15;
-			boolean isNectar = this.getCustomName().toLowerCase().contains("nectar");
-
-			if (isNectar != wasNamedNectar) {
-				if (isNectar) {
-					if (level.getGameTime() % 70L == 0L) {
-						level.playSound(null, pos, RegisterSounds.BLOCK_DISPLAY_LANTERN_NECTAR_LOOP, SoundSource.AMBIENT, 0.5F, 1.0F);
-					}
-					this.wasNamedNectar = true;
-				} else {
-					this.wasNamedNectar = false;
-				}
-			} else {
-				this.wasNamedNectar = false;
+			if (this.nectar && level.getGameTime() % 70L == 0L) {
+				level.playLocalSound(pos, RegisterSounds.BLOCK_DISPLAY_LANTERN_NECTAR_LOOP, SoundSource.AMBIENT, 0.5F, 1.0F, false);
 			}
 		}
 
@@ -270,6 +255,10 @@ public class DisplayLanternBlockEntity extends BlockEntity {
 			return this.y;
 		}
 
+		public boolean isNectar() {
+			return this.nectar;
+		}
+
 	}
 
 }
@@ -51,19 +51,27 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 
 	private static final Logger LOGGER = LogUtils.getLogger();
 	private static final String BASE_TEXTURE = "textures/entity/hanging_tendril/";
+	private static final ResourceLocation[] MILK_TEXTURES = createTextures("milk", 4);
+	private static final ResourceLocation[] ACTIVE_TEXTURES = createTextures("active", 5);
+	private static final ResourceLocation[] TWITCH_TEXTURES = createTextures("twitch", 4);
+	private static final ResourceLocation[] INACTIVE_TEXTURES = createTextures("inactive", 6);
 	private final VibrationSystem.Listener vibrationListener;
 	private final VibrationSystem.User vibrationUser = this.createVibrationUser();
 	public int ticksToStopTwitching;
 	public int storedXP;
 	public int ringOutTicksLeft;
 	//CLIENT ONLY
-	public ResourceLocation texture = WilderSharedConstants.id("textures/entity/hanging_tendril/inactive1.png");
+	public ResourceLocation texture = INACTIVE_TEXTURES[0];
 	public boolean twitching;
 	public boolean active;
 	public boolean milk;
 	public int ticks;
 	private VibrationSystem.Data vibrationData;
 	private int lastVibrationFrequency;
+	/**
+	 * Whether the vibration system may have work to do. Starts as true so vibrations loaded from disk are picked up.
+	 */
+	private boolean vibrationPending = true;
 
 	public HangingTendrilBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(RegisterBlockEntities.HANGING_TENDRIL, pos, state);
@@ -71,11 +79,22 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		this.vibrationListener = new VibrationSystem.Listener(this);
 	}
 
+	@NotNull
+	private static ResourceLocation[] createTextures(@NotNull String name, int frames) {
+		ResourceLocation[] textures = new ResourceLocation[frames];
+		for (int i = 0; i < frames; i++) {
+			textures[i] = WilderSharedConstants.id(BASE_TEXTURE + name + (i + 1) + ".png");
+		}
+		return textures;
+	}
+
 	public void serverTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
-		if (this.ticksToStopTwitching <= 0) {
-			level.setBlockAndUpdate(pos, state.setValue(HangingTendrilBlock.TWITCHING, false));
+		if (this.ticksToStopTwitching > 0) {
+			--this.ticksToStopTwitching;
+		} else if (state.getValue(HangingTendrilBlock.TWITCHING)) {
+			state = state.setValue(HangingTendrilBlock.TWITCHING, false);
+			level.setBlockAndUpdate(pos, state);
 		}
-		--this.ticksToStopTwitching;
 		if (this.ringOutTicksLeft >= 0) {
 			--this.ringOutTicksLeft;
 		} else if (state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
@@ -87,7 +106,11 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 				level.gameEvent(null, RegisterGameEvents.TENDRIL_EXTRACT_XP, pos);
 			}
 		}
-		VibrationSystem.Ticker.tick(level, this.getVibrationData(), this.getVibrationUser());
+		if (this.vibrationPending) {
+			VibrationSystem.Data data = this.getVibrationData();
+			VibrationSystem.Ticker.tick(level, data, this.getVibrationUser());
+			this.vibrationPending = data.getCurrentVibration() != null || data.getSelectionStrategy().chosenCandidate(Long.MAX_VALUE).isPresent();
+		}
 	}
 
 	public void clientTick(@NotNull BlockState state) {
@@ -95,18 +118,14 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		this.milk = this.ringOutTicksLeft > 0;
 		this.active = !SculkSensorBlock.canActivate(state);
 		++this.ticks;
-		int animSpeed = 6;
 		if (milk) {
-			animSpeed = 2;
-			this.texture = WilderSharedConstants.id(BASE_TEXTURE + "milk" + (((this.ticks / animSpeed) % 4) + 1) + ".png");
+			this.texture = MILK_TEXTURES[(this.ticks / 2) % MILK_TEXTURES.length];
 		} else if (active) {
-			animSpeed = 1;
-			this.texture = WilderSharedConstants.id(BASE_TEXTURE + "active" + (((this.ticks / animSpeed) % 5) + 1) + ".png");
+			this.texture = ACTIVE_TEXTURES[this.ticks % ACTIVE_TEXTURES.length];
 		} else if (twitching) {
-			animSpeed = 50;
-			this.texture = WilderSharedConstants.id(BASE_TEXTURE + "twitch" + (((this.ticks / animSpeed) % 4) + 1) + ".png");
+			this.texture = TWITCH_TEXTURES[(this.ticks / 50) % TWITCH_TEXTURES.length];
 		} else {
-			this.texture = WilderSharedConstants.id(BASE_TEXTURE + "inactive" + (((this.ticks / animSpeed) % 6) + 1) + ".png");
+			this.texture = INACTIVE_TEXTURES[(this.ticks / 6) % INACTIVE_TEXTURES.length];
 		}
 	}
 
@@ -139,6 +158,7 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		if (tag.contains("listener", 10)) {
 			VibrationSystem.Data.CODEC.parse(new Dynamic<>(NbtOps.INSTANCE, tag.getCompound("listener"))).resultOrPartial(LOGGER::error).ifPresent(data -> this.vibrationData = data);
 		}
+		this.vibrationPending = true;
 	}
 
 	@Override
@@ -216,7 +236,12 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 				return false;
 			}
 			BlockState state = level.getBlockState(HangingTendrilBlockEntity.this.getBlockPos());
-			return state.getBlock() instanceof HangingTendrilBlock && HangingTendrilBlock.canActivate(state) && !state.getValue(HangingTendrilBlock.WRINGING_OUT);
+			if (state.getBlock() instanceof HangingTendrilBlock && HangingTendrilBlock.canActivate(state) && !state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
+				// The listener schedules the vibration right after this, so wake the ticker up for it.
+				HangingTendrilBlockEntity.this.vibrationPending = true;
+				return true;
+			}
+			return false;
 		}
 
 		@Override
@@ -18,17 +18,21 @@
 
 package net.frozenblock.wilderwild.block.entity;
 
-import java.util.ArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import java.util.HashMap;
+import java.util.Map;
 import net.frozenblock.wilderwild.block.PalmCrownBlock;
 import net.frozenblock.wilderwild.registry.RegisterBlockEntities;
 import net.minecraft.core.BlockPos;
-import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.level.BlockGetter;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class PalmCrownBlockEntity extends BlockEntity {
 
@@ -36,82 +40,116 @@ public class PalmCrownBlockEntity extends BlockEntity {
 		super(RegisterBlockEntities.PALM_CROWN, pos, state);
 	}
 
-	public void tick() {
-		if (this.level != null) {
-			PalmCrownPositions.addPos(this.level, this.worldPosition);
+	@Override
+	public void clearRemoved() {
+		super.clearRemoved();
+		if (this.level != null && !this.level.isClientSide) {
+			PalmCrownPositions.addCrown(this.level, this);
 		}
 	}
 
-	public static class PalmCrownPositions {
-		private static final ArrayList<CrownPos> crownPosesOne = new ArrayList<>();
-		private static final ArrayList<CrownPos> crownPosesTwo = new ArrayList<>();
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		if (this.level != null && !this.level.isClientSide) {
+			PalmCrownPositions.removeCrown(this.level, this);
+		}
+	}
 
-		private static boolean isAlt;
+	/**
+	 * Indexes loaded Palm Crowns per dimension, bucketed by chunk section.
+	 * <p>
+	 * Crowns register themselves when added to a chunk and leave when removed or unloaded,
+	 * so lookups only visit the few sections overlapping the search radius.
+	 * <p>
+	 * The index is only touched from the server thread.
+	 */
+	public static class PalmCrownPositions {
+		private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<PalmCrownBlockEntity>>> CROWNS_PER_LEVEL = new HashMap<>();
 
-		public static double distanceToClosestPalmCrown(@NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos, int i) {
-			ArrayList<CrownPos> copiedList = (ArrayList<CrownPos>) getPoses().clone();
-			ArrayList<BlockPos> posList = new ArrayList<>();
+		public static double distanceToClosestPalmCrown(@NotNull LevelReader levelReader, @NotNull BlockPos blockPos, int i) {
+			Level level = getLevel(levelReader);
+			if (level == null) {
+				return 99;
+			}
+			Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<PalmCrownBlockEntity>> sections = CROWNS_PER_LEVEL.get(level.dimension());
+			if (sections == null || sections.isEmpty()) {
+				return 99;
+			}
 			int x = blockPos.getX();
 			int y = blockPos.getY();
 			int z = blockPos.getZ();
-			BlockState state;
-			for (CrownPos crownPos : copiedList) {
-				int xVal = crownPos.pos.getX() - x;
-				if (xVal >= -i && xVal <= i) {
-					int zVal = crownPos.pos.getZ() - z;
-					if (zVal >= -i && zVal <= i) {
-						int yVal = crownPos.pos.getY() - y;
-						if (yVal >= -i && yVal <= i) {
-							state = blockGetter.getBlockState(crownPos.pos);
-							if (state.getBlock() instanceof PalmCrownBlock) {
-								posList.add(crownPos.pos);
+			BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+			int lowestDistSqr = Integer.MAX_VALUE;
+			int maxSectionX = SectionPos.blockToSectionCoord(x + i);
+			int maxSectionY = SectionPos.blockToSectionCoord(y + i);
+			int maxSectionZ = SectionPos.blockToSectionCoord(z + i);
+			for (int sectionX = SectionPos.blockToSectionCoord(x - i); sectionX <= maxSectionX; sectionX++) {
+				for (int sectionY = SectionPos.blockToSectionCoord(y - i); sectionY <= maxSectionY; sectionY++) {
+					for (int sectionZ = SectionPos.blockToSectionCoord(z - i); sectionZ <= maxSectionZ; sectionZ++) {
+						Long2ObjectOpenHashMap<PalmCrownBlockEntity> section = sections.get(SectionPos.asLong(sectionX, sectionY, sectionZ));
+						if (section == null) {
+							continue;
+						}
+						LongIterator iterator = section.keySet().iterator();
+						while (iterator.hasNext()) {
+							long crownPos = iterator.nextLong();
+							int xVal = BlockPos.getX(crownPos) - x;
+							int yVal = BlockPos.getY(crownPos) - y;
+							int zVal = BlockPos.getZ(crownPos) - z;
+							if (xVal >= -i && xVal <= i && yVal >= -i && yVal <= i && zVal >= -i && zVal <= i) {
+								int distSqr = (xVal * xVal) + (yVal * yVal) + (zVal * zVal);
+								if (distSqr < lowestDistSqr && levelReader.getBlockState(mutableBlockPos.set(crownPos)).getBlock() instanceof PalmCrownBlock) {
+									lowestDistSqr = distSqr;
+								}
 							}
 						}
 					}
 				}
 			}
-			Vec3 startPos = new Vec3(blockPos.getX() + 0.5, blockPos.getY() + 0.5, blockPos.getZ() + 0.5);
-			if (!posList.isEmpty()) {
-				double lowestDist = 99;
-				for (BlockPos pos : posList) {
-					double checkDist = Math.sqrt(pos.distToCenterSqr(startPos));
-					if (checkDist < lowestDist) {
-						lowestDist = checkDist;
-					}
-				}
-				return lowestDist;
-			}
-			return 99;
+			return lowestDistSqr < 99 * 99 ? Math.sqrt(lowestDistSqr) : 99;
 		}
 
-		public static ArrayList<CrownPos> getPoses() {
-			return !isAlt ? crownPosesOne : crownPosesTwo;
+		/**
+		 * Worldgen regions are read from worldgen threads while the index is only safe to read on the server thread,
+		 * so they get no crowns. Crowns placed during worldgen aren't indexed until their chunk is loaded anyway.
+		 */
+		@Nullable
+		private static Level getLevel(@NotNull LevelReader levelReader) {
+			return levelReader instanceof Level level ? level : null;
 		}
 
-		public static ArrayList<CrownPos> getAltList() {
-			return isAlt ? crownPosesOne : crownPosesTwo;
+		public static void addCrown(@NotNull Level level, @NotNull PalmCrownBlockEntity crown) {
+			BlockPos pos = crown.getBlockPos();
+			Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<PalmCrownBlockEntity>> sections = CROWNS_PER_LEVEL.get(level.dimension());
+			if (sections == null) {
+				sections = new Long2ObjectOpenHashMap<>();
+				CROWNS_PER_LEVEL.put(level.dimension(), sections);
+			}
+			long sectionPos = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+			Long2ObjectOpenHashMap<PalmCrownBlockEntity> section = sections.get(sectionPos);
+			if (section == null) {
+				section = new Long2ObjectOpenHashMap<>();
+				sections.put(sectionPos, section);
+			}
+			section.put(pos.asLong(), crown);
 		}
 
-		public static void clear() {
-			getPoses().clear();
+		public static void removeCrown(@NotNull Level level, @NotNull PalmCrownBlockEntity crown) {
+			Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<PalmCrownBlockEntity>> sections = CROWNS_PER_LEVEL.get(level.dimension());
+			if (sections != null) {
+				BlockPos pos = crown.getBlockPos();
+				long sectionPos = SectionPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+				Long2ObjectOpenHashMap<PalmCrownBlockEntity> section = sections.get(sectionPos);
+				// A replacing block entity registers before the old one is removed, so only remove our own entry.
+				if (section != null && section.remove(pos.asLong(), crown) && section.isEmpty()) {
+					sections.remove(sectionPos);
+				}
+			}
 		}
 
 		public static void clearAll() {
-			crownPosesOne.clear();
-			crownPosesTwo.clear();
-		}
-
-		public static void clearAndSwitch() {
-			clear();
-			isAlt = !isAlt;
-		}
-
-		public static void addPos(@NotNull Level level, @NotNull BlockPos pos) {
-			getAltList().add(new CrownPos(pos, level.dimension().location()));
-		}
-
-		public record CrownPos(@NotNull BlockPos pos, @NotNull ResourceLocation dimension) {
-
+			CROWNS_PER_LEVEL.clear();
 		}
 	}
 
@@ -88,14 +88,20 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	public boolean closing;
 
 	protected long updateTime;
+	@Nullable
+	private StoneChestBlockEntity otherChest;
+	private boolean otherChestResolved;
 
 	public StoneChestBlockEntity(@NotNull BlockPos blockPos, @NotNull BlockState blockState) {
 		super(RegisterBlockEntities.STONE_CHEST, blockPos, blockState);
 	}
 
 	public static void serverStoneTick(@NotNull Level level, BlockPos pos, @NotNull BlockState state, @NotNull StoneChestBlockEntity stoneChest) {
+		if (stoneChest.isIdle()) {
+			return;
+		}
 		ServerLevel serverLevel = (ServerLevel) level;
-		StoneChestBlockEntity otherChest = StoneChestBlock.getOtherChest(serverLevel, pos, state);
+		StoneChestBlockEntity otherChest = stoneChest.getOtherChest(serverLevel, pos, state);
 		long gameTime = level.getGameTime();
 		if (gameTime != stoneChest.updateTime) {
 			if (stoneChest.cooldownTicks > 0) {
@@ -105,10 +111,10 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 			if (stoneChest.stillLidTicks > 0) {
 				stoneChest.stillLidTicks -= 1;
 			} else if (stoneChest.openProgress > 0F) {
-				serverLevel.gameEvent(null, GameEvent.CONTAINER_CLOSE, pos);
 				stoneChest.openProgress = Math.max(0F, stoneChest.openProgress - 0.0425F);
 				if (!stoneChest.closing) {
 					stoneChest.closing = true;
+					serverLevel.gameEvent(null, GameEvent.CONTAINER_CLOSE, pos);
 					playSound(serverLevel, pos, state, RegisterSounds.BLOCK_STONE_CHEST_CLOSE_START, RegisterSounds.BLOCK_STONE_CHEST_CLOSE_START_UNDERWATER, 0.3F);
 				}
 				if (stoneChest.openProgress <= 0F) {
@@ -123,7 +129,10 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	}
 
 	public static void clientStoneTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull StoneChestBlockEntity stoneChest) {
-		StoneChestBlockEntity otherChest = StoneChestBlock.getOtherChest(level, pos, state);
+		if (stoneChest.isIdle()) {
+			return;
+		}
+		StoneChestBlockEntity otherChest = stoneChest.getOtherChest(level, pos, state);
 		long gameTime = level.getGameTime();
 		if (gameTime != stoneChest.updateTime) {
 			stoneChest.prevOpenProgress = stoneChest.openProgress;
@@ -146,6 +155,39 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		}
 	}
 
+	/**
+	 * @return whether the lid is fully closed and has nothing left to count down.
+	 */
+	public boolean isIdle() {
+		return this.openProgress <= 0F && this.prevOpenProgress <= 0F && this.stillLidTicks <= 0 && this.cooldownTicks <= 0 && !this.closing;
+	}
+
+	/**
+	 * Returns the connected half of this chest, only looking it up again after this chest's block state has changed.
+	 */
+	@Nullable
+	private StoneChestBlockEntity getOtherChest(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		if (!this.otherChestResolved || (this.otherChest != null && this.otherChest.isRemoved())) {
+			this.otherChest = StoneChestBlock.getOtherChest(level, pos, state);
+			this.otherChestResolved = true;
+		}
+		return this.otherChest;
+	}
+
+	@Override
+	public void setBlockState(@NotNull BlockState blockState) {
+		super.setBlockState(blockState);
+		this.otherChest = null;
+		this.otherChestResolved = false;
+	}
+
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		this.otherChest = null;
+		this.otherChestResolved = false;
+	}
+
 	public static void playSound(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull SoundEvent soundEvent, @NotNull SoundEvent waterloggedSoundEvent, float volume) {
 		ChestType chestType = state.getValue(ChestBlock.TYPE);
 		double x = (double) pos.getX() + 0.5;
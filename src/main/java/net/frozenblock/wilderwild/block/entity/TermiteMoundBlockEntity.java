@@ -18,15 +18,25 @@
 
 package net.frozenblock.wilderwild.block.entity;
 
+import it.unimi.dsi.fastutil.ints.Int2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntArrayList;
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.ArrayList;
+import java.util.List;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
 import net.frozenblock.wilderwild.misc.client.ClientMethodInteractionHandler;
+import net.frozenblock.wilderwild.misc.server.EasyPacket;
 import net.frozenblock.wilderwild.registry.RegisterBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
-import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
@@ -35,8 +45,16 @@ import org.jetbrains.annotations.NotNull;
 public class TermiteMoundBlockEntity extends BlockEntity {
 
 	public final TermiteManager termiteManager;
-	public final IntArrayList clientTermiteIDs = new IntArrayList();
-	public final IntArrayList prevClientTermiteIDs = new IntArrayList();
+
+	// Server: the last termite states sent to tracking players, used to build deltas.
+	private final Int2LongOpenHashMap syncedTermitePositions = new Int2LongOpenHashMap();
+	private final IntOpenHashSet syncedEatingTermites = new IntOpenHashSet();
+	private final IntArrayList removedTermiteIDs = new IntArrayList();
+	private final ArrayList<TermiteManager.Termite> changedTermites = new ArrayList<>();
+
+	// Client: the eating state each termite's sound was started with.
+	private final Int2BooleanOpenHashMap clientTermiteSounds = new Int2BooleanOpenHashMap();
+	private boolean refreshClientTermiteSounds;
 
 	public TermiteMoundBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(RegisterBlockEntities.TERMITE_MOUND, pos, state);
@@ -48,30 +66,96 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 		this.updateSync();
 	}
 
+	/**
+	 * Sends every termite back into the mound, as dormant mounds have no ticker to do it.
+	 */
+	public void sendTermitesHome() {
+		if (this.level != null && !this.termiteManager.termites().isEmpty()) {
+			this.termiteManager.removeExcessTermites(this.level, this.worldPosition, 0);
+			this.updateSync();
+		}
+	}
+
 	public void tickClient() {
-		for (TermiteManager.Termite termite : this.termiteManager.termites()) {
-			int termiteID = termite.getID();
-			if (clientTermiteIDs.contains(termiteID) && !this.prevClientTermiteIDs.contains(termiteID)) {
-				ClientMethodInteractionHandler.addTermiteSound(this, termiteID, termite.getEating());
+		if (this.refreshClientTermiteSounds) {
+			this.refreshClientTermiteSounds = false;
+			IntIterator iterator = this.clientTermiteSounds.keySet().iterator();
+			while (iterator.hasNext()) {
+				if (this.termiteManager.getTermite(iterator.nextInt()) == null) {
+					iterator.remove();
+				}
+			}
+			for (TermiteManager.Termite termite : this.termiteManager.termites()) {
+				this.updateTermiteSound(termite);
 			}
-		}
-		this.prevClientTermiteIDs.clear();
-		this.prevClientTermiteIDs.addAll(this.clientTermiteIDs);
-		this.clientTermiteIDs.clear();
-		for (TermiteManager.Termite termite : this.termiteManager.termites()) {
-			this.clientTermiteIDs.add(termite.getID());
 		}
 	}
 
+	/**
+	 * Sends only the termites that were added, removed, moved, or changed their eating state since the last sync.
+	 * New trackers receive the full state through the chunk's update tag.
+	 */
 	public void updateSync() {
-		ClientboundBlockEntityDataPacket updatePacket = this.getUpdatePacket();
-		if (updatePacket != null) {
-			for (ServerPlayer player : PlayerLookup.tracking(this)) {
-				player.connection.send(updatePacket);
+		if (this.level instanceof ServerLevel serverLevel) {
+			ObjectIterator<Int2LongMap.Entry> iterator = Int2LongMaps.fastIterator(this.syncedTermitePositions);
+			while (iterator.hasNext()) {
+				int termiteID = iterator.next().getIntKey();
+				if (this.termiteManager.getTermite(termiteID) == null) {
+					iterator.remove();
+					this.syncedEatingTermites.remove(termiteID);
+					this.removedTermiteIDs.add(termiteID);
+				}
+			}
+			for (TermiteManager.Termite termite : this.termiteManager.termites()) {
+				int termiteID = termite.getID();
+				long pos = termite.getPos().asLong();
+				boolean eating = termite.getEating();
+				if (!this.syncedTermitePositions.containsKey(termiteID) || this.syncedTermitePositions.get(termiteID) != pos || this.syncedEatingTermites.contains(termiteID) != eating) {
+					this.syncedTermitePositions.put(termiteID, pos);
+					if (eating) {
+						this.syncedEatingTermites.add(termiteID);
+					} else {
+						this.syncedEatingTermites.remove(termiteID);
+					}
+					this.changedTermites.add(termite);
+				}
+			}
+			if (!this.removedTermiteIDs.isEmpty() || !this.changedTermites.isEmpty()) {
+				EasyPacket.EasyTermiteMoundSyncPacket.sendDelta(serverLevel, this.worldPosition, this.removedTermiteIDs, this.changedTermites);
+				this.removedTermiteIDs.clear();
+				this.changedTermites.clear();
 			}
 		}
 	}
 
+	public void applyClientDelta(@NotNull IntList removedIDs, @NotNull List<TermiteManager.Termite> changed) {
+		for (int i = 0; i < removedIDs.size(); i++) {
+			int termiteID = removedIDs.getInt(i);
+			this.termiteManager.termites().removeIf(termite -> termite.getID() == termiteID);
+			this.clientTermiteSounds.remove(termiteID);
+		}
+		for (TermiteManager.Termite changedTermite : changed) {
+			TermiteManager.Termite termite = this.termiteManager.getTermite(changedTermite.getID());
+			if (termite != null) {
+				termite.setPos(changedTermite.getPos());
+				termite.eating = changedTermite.getEating();
+			} else {
+				termite = changedTermite;
+				this.termiteManager.termites().add(termite);
+			}
+			this.updateTermiteSound(termite);
+		}
+	}
+
+	private void updateTermiteSound(@NotNull TermiteManager.Termite termite) {
+		int termiteID = termite.getID();
+		boolean eating = termite.getEating();
+		if (!this.clientTermiteSounds.containsKey(termiteID) || this.clientTermiteSounds.get(termiteID) != eating) {
+			this.clientTermiteSounds.put(termiteID, eating);
+			ClientMethodInteractionHandler.addTermiteSound(this, termiteID, eating);
+		}
+	}
+
 	@Override
 	public ClientboundBlockEntityDataPacket getUpdatePacket() {
 		return ClientboundBlockEntityDataPacket.create(this);
@@ -93,5 +177,6 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 	public void load(@NotNull CompoundTag tag) {
 		super.load(tag);
 		this.termiteManager.load(tag);
+		this.refreshClientTermiteSounds = true;
 	}
 }
@@ -23,6 +23,7 @@ import net.frozenblock.lib.config.api.instance.Config;
 import net.frozenblock.lib.config.api.instance.json.JsonConfig;
 import net.frozenblock.lib.config.api.instance.json.JsonType;
 import net.frozenblock.lib.config.api.registry.ConfigRegistry;
+import net.minecraft.util.Mth;
 import static net.frozenblock.wilderwild.misc.WilderSharedConstants.MOD_ID;
 import static net.frozenblock.wilderwild.misc.WilderSharedConstants.configPath;
 
@@ -120,9 +121,22 @@ public final class BlockConfig {
 	}
 
 	public static class TermiteConfig {
+		/**
+		 * Termite offsets from their mound are sent to clients as single bytes, so distances are capped well below 127.
+		 */
+		public static final int MAX_DISTANCE = 72;
+
 		public boolean onlyEatNaturalBlocks = true;
 		public int maxDistance = 32;
 		public int maxNaturalDistance = 10;
+
+		public int getMaxDistance() {
+			return Mth.clamp(this.maxDistance, 1, MAX_DISTANCE);
+		}
+
+		public int getMaxNaturalDistance() {
+			return Mth.clamp(this.maxNaturalDistance, 1, MAX_DISTANCE);
+		}
 	}
 
 	public static class MesogleaConfig {
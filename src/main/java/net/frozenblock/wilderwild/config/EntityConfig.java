@@ -79,6 +79,8 @@ public final class EntityConfig {
 
 	public static class FireflyConfig {
 		public int fireflySpawnCap = 56;
+		public int fireflyLowDetailDistance = 48;
+		public int fireflyFullDetailCap = 16;
 	}
 
 	public static class JellyfishConfig {
@@ -225,13 +225,13 @@ public final class BlockConfigGui {
 			.setTooltip(tooltip("termites_only_eat_natural_blocks"))
 			.build();
 
-		var maxTermiteDistance = entryBuilder.startIntSlider(text("max_termite_distance"), termite.maxDistance, 1, 72)
+		var maxTermiteDistance = entryBuilder.startIntSlider(text("max_termite_distance"), termite.maxDistance, 1, BlockConfig.TermiteConfig.MAX_DISTANCE)
 			.setDefaultValue(defaultConfig.termite.maxDistance)
 			.setSaveConsumer(newValue -> termite.maxDistance = newValue)
 			.setTooltip(tooltip("max_termite_distance"))
 			.build();
 
-		var maxNaturalTermiteDistance = entryBuilder.startIntSlider(text("max_natural_termite_distance"), termite.maxNaturalDistance, 1, 72)
+		var maxNaturalTermiteDistance = entryBuilder.startIntSlider(text("max_natural_termite_distance"), termite.maxNaturalDistance, 1, BlockConfig.TermiteConfig.MAX_DISTANCE)
 			.setDefaultValue(defaultConfig.termite.maxNaturalDistance)
 			.setSaveConsumer(newValue -> termite.maxNaturalDistance = newValue)
 			.setTooltip(tooltip("max_natural_termite_distance"))
@@ -88,10 +88,24 @@ public final class EntityConfigGui {
 			.requireRestart()
 			.build();
 
+		var fireflyLowDetailDistance = entryBuilder.startIntSlider(text("firefly_low_detail_distance"), firefly.fireflyLowDetailDistance, 16, 128)
+			.setDefaultValue(defaultConfig.firefly.fireflyLowDetailDistance)
+			.setSaveConsumer(newValue -> firefly.fireflyLowDetailDistance = newValue)
+			.setTooltip(tooltip("firefly_low_detail_distance"))
+			.build();
+
+		var fireflyFullDetailCap = entryBuilder.startIntSlider(text("firefly_full_detail_cap"), firefly.fireflyFullDetailCap, 1, 100)
+			.setDefaultValue(defaultConfig.firefly.fireflyFullDetailCap)
+			.setSaveConsumer(newValue -> firefly.fireflyFullDetailCap = newValue)
+			.setTooltip(tooltip("firefly_full_detail_cap"))
+			.build();
+
 		var fireflyCategory = FrozenClothConfig.createSubCategory(entryBuilder, category, text("firefly"),
 			false,
 			tooltip("firefly"),
-			fireflySpawnCap
+			fireflySpawnCap,
+			fireflyLowDetailDistance,
+			fireflyFullDetailCap
 		);
 
 		var jellyfishSpawnCap = entryBuilder.startIntSlider(text("jellyfish_spawn_cap"), jellyfish.jellyfishSpawnCap, 0, 100)
@@ -19,7 +19,7 @@
 package net.frozenblock.wilderwild.entity;
 
 import io.netty.buffer.Unpooled;
-import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
@@ -29,10 +29,9 @@ import net.fabricmc.fabric.api.tag.convention.v1.ConventionalBlockTags;
 import net.frozenblock.lib.sound.api.FrozenSoundPackets;
 import net.frozenblock.wilderwild.block.entity.HangingTendrilBlockEntity;
 import net.frozenblock.wilderwild.config.ItemConfig;
-import static net.frozenblock.wilderwild.item.AncientHorn.*;
 import net.frozenblock.wilderwild.misc.WilderSharedConstants;
 import net.frozenblock.wilderwild.misc.mod_compat.WilderModIntegrations;
-import net.frozenblock.wilderwild.misc.server.EasyPacket;
+import net.frozenblock.wilderwild.particle.options.FloatingSculkBubbleParticleOptions;
 import net.frozenblock.wilderwild.registry.RegisterBlocks;
 import net.frozenblock.wilderwild.registry.RegisterDamageTypes;
 import net.frozenblock.wilderwild.registry.RegisterEntities;
@@ -98,6 +97,7 @@ import net.minecraft.world.phys.HitResult;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import static net.frozenblock.wilderwild.item.AncientHorn.*;
 
 //TODO: Fix rendering (Renders too bright or too dark depending on direction)
 
@@ -107,6 +107,10 @@ public class AncientHornProjectile extends AbstractArrow {
 	public static final float MAX_SIZE = 30F;
 	private static final TagKey<Block> NON_COLLIDE = WilderBlockTags.ANCIENT_HORN_NON_COLLIDE;
 	private static final EntityDataAccessor<Float> BOUNDING_BOX_MULTIPLIER = SynchedEntityData.defineId(AncientHornProjectile.class, EntityDataSerializers.FLOAT);
+	/**
+	 * The game time the bubble trail ends at, so clients that start tracking the projectile mid-flight only spawn what is left of it.
+	 */
+	private static final EntityDataAccessor<Long> BUBBLES_END_TIME = SynchedEntityData.defineId(AncientHornProjectile.class, EntityDataSerializers.LONG);
 	public boolean canInteractWithPipe = true;
 	private boolean shot;
 	private boolean leftOwner;
@@ -117,7 +121,11 @@ public class AncientHornProjectile extends AbstractArrow {
 	private boolean shotByPlayer;
 	private int bubbles;
 	private BlockState inBlockState;
-	private IntArrayList hitEntities = new IntArrayList();
+	// The IDs of every entity this projectile has hit, and their UUID hash codes, which are what gets saved.
+	private final IntOpenHashSet hitEntities = new IntOpenHashSet();
+	private final IntOpenHashSet hitEntityUUIDs = new IntOpenHashSet();
+	// Entity IDs don't survive a reload, so a loaded projectile also has to compare UUIDs.
+	private boolean checkHitEntityUUIDs;
 
 	public AncientHornProjectile(@NotNull EntityType<? extends AncientHornProjectile> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -140,10 +148,23 @@ public class AncientHornProjectile extends AbstractArrow {
 	protected void defineSynchedData() {
 		super.defineSynchedData();
 		this.entityData.define(BOUNDING_BOX_MULTIPLIER, 0F);
+		this.entityData.define(BUBBLES_END_TIME, 0L);
+	}
+
+	@Override
+	public void onSyncedDataUpdated(@NotNull EntityDataAccessor<?> key) {
+		super.onSyncedDataUpdated(key);
+		if (BUBBLES_END_TIME.equals(key) && this.level().isClientSide) {
+			this.bubbles = (int) Math.max(0L, this.entityData.get(BUBBLES_END_TIME) - this.level().getGameTime());
+		}
 	}
 
-	public List<Entity> collidingEntities() {
-		return this.level().getEntities(this, this.getBoundingBox().expandTowards(this.getDeltaMovement()).inflate(1.0D), this::canHitEntity);
+	/**
+	 * Every pickable entity the projectile could touch this tick, used for both the owner check and entity hits.
+	 */
+	@NotNull
+	private List<Entity> nearbyEntities() {
+		return this.level().getEntities(this, this.getBoundingBox().expandTowards(this.getDeltaMovement()).inflate(1.0D), entity -> !entity.isSpectator() && entity.isPickable());
 	}
 
 	@Override
@@ -161,15 +182,18 @@ public class AncientHornProjectile extends AbstractArrow {
 
 	public void setBubbles(final int amount) {
 		this.bubbles = amount;
+		this.entityData.set(BUBBLES_END_TIME, this.level().getGameTime() + amount);
 	}
 
 	@Override
 	public void tick() {
 		this.baseTick();
 		this.shakeTime = 0;
-		if (this.bubbles > 0 && this.level() instanceof ServerLevel server) {
+		if (this.bubbles > 0) {
 			--this.bubbles;
-			EasyPacket.EasyFloatingSculkBubblePacket.createParticle(server, this.position(), server.random.nextDouble() > 0.7 ? 1 : 0, 20 + server.random.nextInt(40), 0.05, server.random.nextIntBetweenInclusive(1, 3));
+			if (this.level().isClientSide) {
+				this.addBubbleParticles(this.getX(), this.getY(), this.getZ(), this.random.nextDouble() > 0.7 ? 1 : 0, 20 + this.random.nextInt(40), 0.05, this.random.nextIntBetweenInclusive(1, 3));
+			}
 		}
 		if (this.aliveTicks > ItemConfig.get().ancientHorn.ancientHornLifespan) {
 			this.remove(RemovalReason.DISCARDED);
@@ -178,8 +202,10 @@ public class AncientHornProjectile extends AbstractArrow {
 		if (!this.shot) {
 			this.shot = true;
 		}
+		Entity owner = this.getOwner();
+		List<Entity> nearbyEntities = owner != null ? this.nearbyEntities() : List.of();
 		if (!this.leftOwner) {
-			this.leftOwner = this.checkLeftOwner();
+			this.leftOwner = this.checkLeftOwner(owner, nearbyEntities);
 		}
 		Vec3 deltaMovement = this.getDeltaMovement();
 		if (this.xRotO == 0.0F && this.yRotO == 0.0F) {
@@ -193,8 +219,8 @@ public class AncientHornProjectile extends AbstractArrow {
 		BlockState blockState = this.level().getBlockState(blockPos);
 		Vec3 deltaPosition;
 
-		if (this.isInWater() && level() instanceof ServerLevel server) {
-			EasyPacket.EasyFloatingSculkBubblePacket.createParticle(server, new Vec3(this.xo, this.yo, this.zo), 0, 60, 0.05, 4);
+		if (this.isInWater() && this.level().isClientSide) {
+			this.addBubbleParticles(this.xo, this.yo, this.zo, 0, 60, 0.05, 4);
 		}
 		if (this.isInWaterOrRain() || blockState.is(Blocks.POWDER_SNOW)) {
 			this.clearFire();
@@ -202,11 +228,9 @@ public class AncientHornProjectile extends AbstractArrow {
 		Vec3 position = this.position();
 		deltaPosition = position.add(deltaMovement);
 		HitResult hitResult = this.level().clip(new ClipContext(position, deltaPosition, ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, this));
-		if (!this.isRemoved() && canInteract()) {
-			List<Entity> entities = this.collidingEntities();
-			Entity owner = this.getOwner();
-			for (Entity entity : entities) {
-				if (!this.isRemoved() && entity != null && entity != owner) {
+		if (!this.isRemoved() && owner != null) {
+			for (Entity entity : nearbyEntities) {
+				if (!this.isRemoved() && entity != owner && this.canHitEntity(entity)) {
 					boolean shouldDamage = true;
 					if (entity instanceof Player player) {
 						if (player.isCreative()) {
@@ -219,12 +243,12 @@ public class AncientHornProjectile extends AbstractArrow {
 					if (entity.isInvulnerable()) {
 						shouldDamage = false;
 					}
-					int uuid = entity.getUUID().hashCode();
-					if (this.hitEntities.contains(uuid)) {
+					if (this.hitEntities.contains(entity.getId()) || (this.checkHitEntityUUIDs && this.hitEntityUUIDs.contains(entity.getUUID().hashCode()))) {
 						shouldDamage = false;
 					}
 					if (shouldDamage) {
-						this.hitEntities.add(uuid);
+						this.hitEntities.add(entity.getId());
+						this.hitEntityUUIDs.add(entity.getUUID().hashCode());
 						this.hitEntity(entity);
 					}
 				}
@@ -423,11 +447,11 @@ public class AncientHornProjectile extends AbstractArrow {
 		return false;
 	}
 
-	private boolean checkLeftOwner() {
-		Entity owner = this.getOwner();
+	private boolean checkLeftOwner(@Nullable Entity owner, @NotNull List<Entity> nearbyEntities) {
 		if (owner != null) {
-			for (Entity entity2 : this.level().getEntities(this, this.getBoundingBox().expandTowards(this.getDeltaMovement()).inflate(1.0D), (entityx) -> !entityx.isSpectator() && entityx.isPickable())) {
-				if (entity2.getRootVehicle() == owner.getRootVehicle()) {
+			Entity ownerVehicle = owner.getRootVehicle();
+			for (Entity entity : nearbyEntities) {
+				if (entity.getRootVehicle() == ownerVehicle) {
 					return false;
 				}
 			}
@@ -435,6 +459,14 @@ public class AncientHornProjectile extends AbstractArrow {
 		return true;
 	}
 
+	private void addBubbleParticles(double x, double y, double z, double size, int maxAge, double yVel, int count) {
+		for (int i = 0; i < count; i++) {
+			double xVel = (this.random.nextDouble() - 0.5) / (size >= 1 ? 10.5 : 9.5);
+			double zVel = (this.random.nextDouble() - 0.5) / (size >= 1 ? 10.5 : 9.5);
+			this.level().addParticle(new FloatingSculkBubbleParticleOptions(size, maxAge, new Vec3(xVel, yVel, zVel)), x, y, z, 0, 0, 0);
+		}
+	}
+
 	public boolean canInteract() {
 		return this.getOwner() != null;
 	}
@@ -470,7 +502,7 @@ public class AncientHornProjectile extends AbstractArrow {
 			compound.putBoolean("shotByPlayer", this.shotByPlayer);
 			compound.putInt("bubbles", this.bubbles);
 			compound.putFloat("boundingBoxMultiplier", this.getBoundingBoxMultiplier());
-			compound.putIntArray("hitEntities", this.hitEntities);
+			compound.putIntArray("hitEntities", this.hitEntityUUIDs.toIntArray());
 			compound.putBoolean("canInteractWithPipe", this.canInteractWithPipe);
 		}
 	}
@@ -488,9 +520,14 @@ public class AncientHornProjectile extends AbstractArrow {
 			this.vecY = compound.getDouble("originY");
 			this.vecZ = compound.getDouble("originZ");
 			this.shotByPlayer = compound.getBoolean("shotByPlayer");
-			this.bubbles = compound.getInt("bubbles");
+			this.setBubbles(compound.getInt("bubbles"));
 			this.setBoundingBoxMultiplier(compound.getFloat("boundingBoxMultiplier"));
-			this.hitEntities = IntArrayList.wrap(compound.getIntArray("hitEntities"));
+			this.hitEntities.clear();
+			this.hitEntityUUIDs.clear();
+			for (int uuid : compound.getIntArray("hitEntities")) {
+				this.hitEntityUUIDs.add(uuid);
+			}
+			this.checkHitEntityUUIDs = !this.hitEntityUUIDs.isEmpty();
 			if (compound.contains("canInteractWithPipe")) {
 				this.canInteractWithPipe = compound.getBoolean("canInteractWithPipe");
 			}
@@ -590,6 +627,7 @@ public class AncientHornProjectile extends AbstractArrow {
 	@Override
 	public void remove(@NotNull RemovalReason reason) {
 		this.hitEntities.clear();
+		this.hitEntityUUIDs.clear();
 		super.remove(reason);
 	}
 
@@ -19,6 +19,7 @@
 package net.frozenblock.wilderwild.entity;
 
 import net.frozenblock.lib.entity.api.SilentTicker;
+import net.frozenblock.wilderwild.misc.ChestBubbles;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
@@ -33,6 +34,11 @@ import net.minecraft.world.level.block.state.properties.ChestType;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
+/**
+ * Chest bubbles are now run through {@link ChestBubbles}.
+ * <p>
+ * This entity is only kept so chest bubblers saved by older versions still load, finish bubbling and discard themselves.
+ */
 public class ChestBubbleTicker extends SilentTicker {
 
 	public ChestBubbleTicker(@NotNull EntityType<?> entityType, @NotNull Level level) {
@@ -44,11 +50,6 @@ public class ChestBubbleTicker extends SilentTicker {
 		this.setPos(Vec3.atCenterOf(pos));
 	}
 
-	public static void createAndSpawn(@NotNull EntityType<?> entityType, @NotNull Level level, @NotNull BlockPos pos) {
-		ChestBubbleTicker chestBubbleTicker = new ChestBubbleTicker(entityType, level, pos);
-		level.addFreshEntity(chestBubbleTicker);
-	}
-
 	@Override
 	public void tick(@NotNull Level level, @NotNull Vec3 vec3, @NotNull BlockPos pos, int ticks) {
 		if (ticks <= 5) {
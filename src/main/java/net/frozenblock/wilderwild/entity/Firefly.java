@@ -25,6 +25,7 @@ import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.lib.sound.api.FrozenSoundPackets;
+import net.frozenblock.wilderwild.config.EntityConfig;
 import net.frozenblock.wilderwild.entity.ai.firefly.FireflyAi;
 import net.frozenblock.wilderwild.entity.variant.FireflyColor;
 import net.frozenblock.wilderwild.misc.WilderSharedConstants;
@@ -35,6 +36,7 @@ import net.frozenblock.wilderwild.registry.WilderRegistry;
 import net.frozenblock.wilderwild.tag.WilderBiomeTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.game.DebugPackets;
@@ -81,7 +83,9 @@ import net.minecraft.world.level.LightLayer;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.level.pathfinder.BlockPathTypes;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -95,8 +99,15 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	private static final EntityDataAccessor<Boolean> FLICKERS = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Integer> AGE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.INT);
 	private static final EntityDataAccessor<Float> SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
-	private static final EntityDataAccessor<Float> PREV_SCALE = SynchedEntityData.defineId(Firefly.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<FireflyColor> COLOR = SynchedEntityData.defineId(Firefly.class, FireflyColor.SERIALIZER);
+	private static final int LOW_DETAIL_CHECK_INTERVAL = 20;
+	private static final int LOW_DETAIL_BRAIN_INTERVAL = 10;
+	private static final double RENDER_DISTANCE = 64D;
+	private static final EntityTypeTest<Entity, Firefly> FIREFLY_TEST = EntityTypeTest.forClass(Firefly.class);
+	/**
+	 * Only filled and cleared within {@link #shouldUseLowDetail}, which runs on the server thread.
+	 */
+	private static final List<Firefly> CROWD_CHECK = new ArrayList<>();
 
 	public boolean natural;
 	public boolean hasHome;
@@ -104,6 +115,15 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	public int homeCheckCooldown;
 	public boolean wasNamedNectar;
 	public boolean shouldCheckSpawn = true;
+	/**
+	 * Counted locally on both sides, {@link #AGE} is only synced when it's set directly.
+	 */
+	private int flickerAge;
+	private float prevScale = 1.5F;
+	/**
+	 * Set for fireflies far from any player or in a crowded section, which only tick their brain occasionally.
+	 */
+	private boolean lowDetail;
 
 	public Firefly(@NotNull EntityType<? extends Firefly> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -173,7 +193,6 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		this.entityData.define(FLICKERS, false);
 		this.entityData.define(AGE, 0);
 		this.entityData.define(SCALE, 1.5F);
-		this.entityData.define(PREV_SCALE, 1.5F);
 		this.entityData.define(COLOR, FireflyColor.ON);
 	}
 
@@ -220,8 +239,9 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	}
 
 	@Override
-	public boolean shouldRender(double x, double y, double z) {
-		return true;
+	public boolean shouldRenderAtSqrDistance(double distance) {
+		double renderDistance = RENDER_DISTANCE * getViewScale();
+		return distance < renderDistance * renderDistance;
 	}
 
 	@Override
@@ -258,10 +278,11 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	}
 
 	public int getFlickerAge() {
-		return this.entityData.get(AGE);
+		return this.flickerAge;
 	}
 
 	public void setFlickerAge(int value) {
+		this.flickerAge = value;
 		this.entityData.set(AGE, value);
 	}
 
@@ -275,11 +296,11 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	}
 
 	public float getPrevScale() {
-		return this.entityData.get(PREV_SCALE);
+		return this.prevScale;
 	}
 
 	public void setPrevScale(float value) {
-		this.entityData.set(PREV_SCALE, value);
+		this.prevScale = value;
 	}
 
 	public FireflyColor getColor() {
@@ -290,6 +311,66 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		this.entityData.set(COLOR, color);
 	}
 
+	@Override
+	public void onSyncedDataUpdated(@NotNull EntityDataAccessor<?> key) {
+		if (AGE.equals(key)) {
+			this.flickerAge = this.entityData.get(AGE);
+		}
+		super.onSyncedDataUpdated(key);
+	}
+
+	public boolean isLowDetail() {
+		return this.lowDetail;
+	}
+
+	/**
+	 * A firefly is in low detail with no player nearby, or when {@code fireflyFullDetailCap} or more fireflies with lower ids share its chunk section,
+	 * so at most {@code fireflyFullDetailCap} fireflies per section keep their full AI.
+	 * <p>
+	 * The section search stops as soon as it finds that many, instead of collecting every firefly in the section.
+	 */
+	private boolean shouldUseLowDetail() {
+		EntityConfig.FireflyConfig config = EntityConfig.get().firefly;
+		if (!this.level().hasNearbyAlivePlayer(this.getX(), this.getY(), this.getZ(), config.fireflyLowDetailDistance)) {
+			return true;
+		}
+		int cap = config.fireflyFullDetailCap;
+		int minX = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(this.getBlockX()));
+		int minY = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(this.getBlockY()));
+		int minZ = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(this.getBlockZ()));
+		AABB section = new AABB(minX, minY, minZ, minX + 16D, minY + 16D, minZ + 16D);
+		int id = this.getId();
+		this.level().getEntities(FIREFLY_TEST, section, firefly -> firefly.getId() < id, CROWD_CHECK, cap);
+		boolean crowded = CROWD_CHECK.size() >= cap;
+		CROWD_CHECK.clear();
+		return crowded;
+	}
+
+	/**
+	 * A cheap stand-in for the brain while in low detail: drift around randomly, pulled back towards home.
+	 */
+	private void lowDetailFlock() {
+		if (!this.getNavigation().isDone()) {
+			return;
+		}
+		double x = (this.random.nextDouble() - 0.5D) * 0.01D;
+		double y = (this.random.nextDouble() - 0.5D) * 0.01D;
+		double z = (this.random.nextDouble() - 0.5D) * 0.01D;
+		BlockPos home = FireflyAi.getHome(this);
+		if (home != null && FireflyAi.isInHomeDimension(this) && !this.shouldHide()) {
+			double homeX = home.getX() + 0.5D - this.getX();
+			double homeY = home.getY() + 0.5D - this.getY();
+			double homeZ = home.getZ() + 0.5D - this.getZ();
+			double homeDistance = Math.sqrt(homeX * homeX + homeY * homeY + homeZ * homeZ);
+			if (homeDistance > 7D) {
+				x += homeX / homeDistance * 0.01D;
+				y += homeY / homeDistance * 0.01D;
+				z += homeZ / homeDistance * 0.01D;
+			}
+		}
+		this.setDeltaMovement(this.getDeltaMovement().add(x, y, z));
+	}
+
 	@Override
 	public boolean requiresCustomPersistence() {
 		return super.requiresCustomPersistence() || this.isFromBottle();
@@ -403,7 +484,11 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		if (!this.isAlive()) {
 			this.setNoGravity(false);
 		}
-		this.setFlickerAge(this.getFlickerAge() + 1);
+		++this.flickerAge;
+
+		if (!this.level().isClientSide && (this.tickCount + this.getId()) % LOW_DETAIL_CHECK_INTERVAL == 0) {
+			this.lowDetail = this.shouldUseLowDetail();
+		}
 
 		if (this.hasHome) {
 			if (this.homeCheckCooldown > 0) {
@@ -433,12 +518,18 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 
 	@Override
 	protected void customServerAiStep() {
-		this.level().getProfiler().push("fireflyBrain");
-		this.getBrain().tick((ServerLevel) this.level(), this);
-		this.level().getProfiler().pop();
-		this.level().getProfiler().push("fireflyActivityUpdate");
-		FireflyAi.updateActivities(this);
-		this.level().getProfiler().pop();
+		if (!this.lowDetail || (this.tickCount + this.getId()) % LOW_DETAIL_BRAIN_INTERVAL == 0) {
+			this.level().getProfiler().push("fireflyBrain");
+			this.getBrain().tick((ServerLevel) this.level(), this);
+			this.level().getProfiler().pop();
+			this.level().getProfiler().push("fireflyActivityUpdate");
+			FireflyAi.updateActivities(this);
+			this.level().getProfiler().pop();
+		} else {
+			this.level().getProfiler().push("fireflyLowDetailFlock");
+			this.lowDetailFlock();
+			this.level().getProfiler().pop();
+		}
 		super.customServerAiStep();
 	}
 
@@ -472,8 +563,11 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 			if (entity != null) {
 				int i;
 				double d = entity.distanceToSqr(this);
-				boolean dayKey = !this.level().getBiome(this.blockPosition()).is(WilderBiomeTags.FIREFLY_SPAWNABLE_DURING_DAY) && this.level().isDay() && !this.level().getBiome(this.blockPosition()).is(WilderBiomeTags.FIREFLY_SPAWNABLE_CAVE);
-				boolean caveKey = this.level().getBiome(this.blockPosition()).is(WilderBiomeTags.FIREFLY_SPAWNABLE_CAVE) && this.level().getBrightness(LightLayer.SKY, this.blockPosition()) >= 6;
+				BlockPos pos = this.blockPosition();
+				Holder<Biome> biome = this.level().getBiome(pos);
+				boolean isCave = biome.is(WilderBiomeTags.FIREFLY_SPAWNABLE_CAVE);
+				boolean dayKey = !biome.is(WilderBiomeTags.FIREFLY_SPAWNABLE_DURING_DAY) && this.level().isDay() && !isCave;
+				boolean caveKey = isCave && this.level().getBrightness(LightLayer.SKY, pos) >= 6;
 				if (this.removeWhenFarAway(d) && Math.sqrt(d) > 18) {
 					if (dayKey) {
 						this.despawning = true;
@@ -24,7 +24,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import net.frozenblock.lib.entity.api.NoFlopAbstractFish;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishAi;
@@ -105,12 +104,18 @@ public class Jellyfish extends NoFlopAbstractFish {
 		.collect(Collectors.toList())
 	);
 	private static final float MAX_TARGET_DISTANCE = 15F;
+	/**
+	 * Stinging only checks for touching entities every few ticks, staggered by entity ID.
+	 * Anything that was stung can't be hurt again for ten ticks anyway, so this only shortens the shortest brushes.
+	 */
+	public static final int STING_INTERVAL = 2;
 	private static final EntityDataAccessor<JellyfishVariant> VARIANT = SynchedEntityData.defineId(Jellyfish.class, JellyfishVariant.SERIALIZER);
 	private static final EntityDataAccessor<Boolean> CAN_REPRODUCE = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> IS_BABY = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	public final TargetingConditions targetingConditions = TargetingConditions.forNonCombat().ignoreInvisibilityTesting().ignoreLineOfSight().selector(this::canTargetEntity);
-	private static final Map<ServerLevelAccessor, Integer> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new HashMap<>();
+	private static final Map<ServerLevel, int[]> JELLYFISH_PER_LEVEL = new HashMap<>();
 	public float xBodyRot;
+	// Client only: the body rotation of the last six ticks, used to animate the tentacles.
 	public float xRot1;
 	public float xRot2;
 	public float xRot3;
@@ -127,6 +132,9 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public int reproductionCooldown;
 	private int forcedAge;
 	private int forcedAgeTimer;
+	@Nullable
+	private ServerLevel countedLevel;
+	private boolean countedAsPearlescent;
 
 	public Jellyfish(@NotNull EntityType<? extends Jellyfish> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -134,22 +142,37 @@ public class Jellyfish extends NoFlopAbstractFish {
 	}
 
 	public static int getJellyfish(@NotNull ServerLevel level, boolean pearlescent) {
-		AtomicInteger count = new AtomicInteger();
-		if (!NON_PEARLESCENT_JELLYFISH_PER_LEVEL.containsKey(level)) {
-			level.entityManager.getEntityGetter().getAll().forEach(entity -> {
-				if (entity instanceof Jellyfish jellyfish && (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal())) {
-					count.addAndGet(1);
-				}
-			});
-			NON_PEARLESCENT_JELLYFISH_PER_LEVEL.put(level, count.get());
-		} else {
-			count.set(NON_PEARLESCENT_JELLYFISH_PER_LEVEL.get(level));
+		int[] counts = JELLYFISH_PER_LEVEL.get(level);
+		return counts != null ? counts[pearlescent ? 1 : 0] : 0;
+	}
+
+	private static void changeJellyfishCount(@NotNull ServerLevel level, boolean pearlescent, int amount) {
+		JELLYFISH_PER_LEVEL.computeIfAbsent(level, key -> new int[2])[pearlescent ? 1 : 0] += amount;
+	}
+
+	public static void clearJellyfishCounts() {
+		JELLYFISH_PER_LEVEL.clear();
+	}
+
+	/**
+	 * Called when this Jellyfish starts being tracked by a {@link ServerLevel}, adding it to that level's population count.
+	 */
+	public void startCounting(@NotNull ServerLevel level) {
+		if (this.countedLevel == null) {
+			this.countedLevel = level;
+			this.countedAsPearlescent = this.getVariant().pearlescent();
+			changeJellyfishCount(level, this.countedAsPearlescent, 1);
 		}
-		return count.get();
 	}
 
-	public static void clearLevelToNonPearlescentCount() {
-		NON_PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+	/**
+	 * Called when this Jellyfish stops being tracked by its {@link ServerLevel}, removing it from that level's population count.
+	 */
+	public void stopCounting() {
+		if (this.countedLevel != null) {
+			changeJellyfishCount(this.countedLevel, this.countedAsPearlescent, -1);
+			this.countedLevel = null;
+		}
 	}
 
 	public static boolean canSpawn(@NotNull EntityType<Jellyfish> type, @NotNull ServerLevelAccessor level, @NotNull MobSpawnType reason, @NotNull BlockPos pos, @NotNull RandomSource random) {
@@ -237,6 +260,10 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public void onSyncedDataUpdated(@NotNull EntityDataAccessor<?> key) {
 		if (IS_BABY.equals(key)) {
 			this.refreshDimensions();
+			AttributeInstance attributeInstance = this.getAttributes().getInstance(Attributes.MOVEMENT_SPEED);
+			if (attributeInstance != null) {
+				attributeInstance.setBaseValue(this.isBaby() ? 0.25 : 0.5);
+			}
 		}
 		super.onSyncedDataUpdated(key);
 	}
@@ -323,12 +350,14 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public void aiStep() {
 		this.prevScale = this.scale;
 		super.aiStep();
-		this.xRot6 = this.xRot5;
-		this.xRot5 = this.xRot4;
-		this.xRot4 = this.xRot3;
-		this.xRot3 = this.xRot2;
-		this.xRot2 = this.xRot1;
-		this.xRot1 = this.xBodyRot;
+		if (this.level().isClientSide) {
+			this.xRot6 = this.xRot5;
+			this.xRot5 = this.xRot4;
+			this.xRot4 = this.xRot3;
+			this.xRot3 = this.xRot2;
+			this.xRot2 = this.xRot1;
+			this.xRot1 = this.xBodyRot;
+		}
 
 		++this.ticksSinceSpawn;
 
@@ -344,7 +373,9 @@ public class Jellyfish extends NoFlopAbstractFish {
 			this.xBodyRot += (-90.0F - this.xBodyRot) * 0.02F;
 		}
 
-		this.stingEntities();
+		if (!this.level().isClientSide && (this.tickCount + this.getId()) % STING_INTERVAL == 0) {
+			this.stingEntities();
+		}
 
 		LivingEntity target = this.getTarget();
 		if (target != null) {
@@ -396,11 +427,6 @@ public class Jellyfish extends NoFlopAbstractFish {
 				&& this.isAlive()
 				&& !this.isRemoved()
 		);
-
-		AttributeInstance attributeInstance = this.getAttributes().getInstance(Attributes.MOVEMENT_SPEED);
-		if (attributeInstance != null) {
-			attributeInstance.setBaseValue(this.isBaby() ? 0.25 : 0.5);
-		}
 	}
 
 	@Override
@@ -572,7 +598,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 
 	@NotNull
 	private Vec3 rotateVector(@NotNull Vec3 vector) {
-		Vec3 vec3 = vector.xRot(this.xRot1 * ((float) Math.PI / 180F));
+		Vec3 vec3 = vector.xRot(this.xBodyRot * ((float) Math.PI / 180F));
 		vec3 = vec3.yRot(-this.yBodyRotO * ((float) Math.PI / 180F));
 		return vec3;
 	}
@@ -624,6 +650,11 @@ public class Jellyfish extends NoFlopAbstractFish {
 
 	public void setVariant(@NotNull JellyfishVariant variant) {
 		this.entityData.set(VARIANT, variant);
+		if (this.countedLevel != null && variant.pearlescent() != this.countedAsPearlescent) {
+			changeJellyfishCount(this.countedLevel, this.countedAsPearlescent, -1);
+			this.countedAsPearlescent = variant.pearlescent();
+			changeJellyfishCount(this.countedLevel, this.countedAsPearlescent, 1);
+		}
 	}
 
 	public boolean canReproduce() {
@@ -90,6 +90,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	private static final EntityDataAccessor<Float> ITEM_X = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
 	private static final EntityDataAccessor<Float> ITEM_Z = SynchedEntityData.defineId(Tumbleweed.class, EntityDataSerializers.FLOAT);
 	private static final float maxItemOffset = 0.25F;
+	private static final int ITEM_PICKUP_INTERVAL = 10;
 	public NonNullList<ItemStack> inventory;
 	public boolean spawnedFromShears;
 	public int ticksSinceActive;
@@ -105,6 +106,15 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	public float itemX;
 	public float itemZ;
 	private float lookRot;
+	private final BlockPos.MutableBlockPos brightnessPos = new BlockPos.MutableBlockPos();
+	private double deltaX;
+	private double deltaY;
+	private double deltaZ;
+	private double windX;
+	private double windZ;
+	// The squared distance to the nearest player found by checkDespawn this tick, or -1 if it hasn't looked since it was last used.
+	private double nearestPlayerDistanceSqr = -1D;
+	private long lastPickupCheckPos = Long.MIN_VALUE;
 
 	public Tumbleweed(@NotNull EntityType<Tumbleweed> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -154,7 +164,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		if (entity instanceof Tumbleweed) {
 			super.doPush(entity);
 		}
-		if (this.getDeltaPos().length() > (isSmall ? 0.2 : 0.3) && this.isMovingTowards(entity) && !(entity instanceof Tumbleweed)) {
+		if (this.getDeltaPosLength() > (isSmall ? 0.2 : 0.3) && this.isMovingTowards(entity) && !(entity instanceof Tumbleweed)) {
 			boolean hurt = entity.hurt(this.damageSources().source(RegisterDamageTypes.TUMBLEWEED, this), 2F);
 			isSmall = isSmall || !entity.isAlive() || !hurt;
 			if (!isSmall) {
@@ -190,24 +200,26 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 			}
 		}
 		super.tick();
-		Vec3 deltaPos = this.getDeltaPos();
-		this.setAngles(deltaPos);
+		this.deltaX = this.getX() - this.xo;
+		this.deltaY = this.getY() - this.yo;
+		this.deltaZ = this.getZ() - this.zo;
+		this.setAngles(this.deltaX, this.deltaY, this.deltaZ);
 		if (this.level().isClientSide) {
 			this.itemX = this.getItemX();
 			this.itemZ = this.getItemZ();
 		} else if (!this.isRemoved() && this.level() instanceof ServerLevel serverLevel) {
 			this.heal(1F);
-			double brightness = this.level().getBrightness(LightLayer.SKY, BlockPos.containing(this.getEyePosition()));
+			double brightness = this.level().getBrightness(LightLayer.SKY, this.brightnessPos.set(this.getX(), this.getEyeY(), this.getZ()));
 			this.checkActive(brightness);
-			this.moveWithWind(serverLevel, brightness, deltaPos);
+			this.moveWithWind(serverLevel, brightness);
 			this.tickAfterWindLeash();
 			this.pickupItem();
 		}
 	}
 
-	public void setAngles(@NotNull Vec3 deltaPos) {
-		if (deltaPos.horizontalDistance() > 0.01) {
-			this.lookRot = -((float) Mth.atan2(deltaPos.x, deltaPos.z)) * 57.295776F;
+	public void setAngles(double deltaX, double deltaY, double deltaZ) {
+		if (Math.sqrt(deltaX * deltaX + deltaZ * deltaZ) > 0.01) {
+			this.lookRot = -((float) Mth.atan2(deltaX, deltaZ)) * 57.295776F;
 		}
 		float yRot = this.getYRot();
 		this.setYRot(yRot += ((this.lookRot - yRot) * 0.25F));
@@ -215,12 +227,12 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		this.prevPitch = this.pitch;
 		this.prevRoll = this.roll;
 		this.prevTumble = this.tumble;
-		float yRotAmount = (float) ((Math.abs(deltaPos.y) * 0.5F) * rotationAmount);
-		this.pitch -= (float) (deltaPos.z * rotationAmount);
-		this.roll -= (float) (deltaPos.x * rotationAmount);
+		float yRotAmount = (float) ((Math.abs(deltaY) * 0.5F) * rotationAmount);
+		this.pitch -= (float) (deltaZ * rotationAmount);
+		this.roll -= (float) (deltaX * rotationAmount);
 		this.pitch += yRotAmount;
 		this.roll += yRotAmount;
-		this.tumble += (float) (((Math.abs(deltaPos.z) + Math.abs(deltaPos.x) + (Math.abs(deltaPos.x) * 0.5F)) * 0.5F) * rotationAmount);
+		this.tumble += (float) (((Math.abs(deltaZ) + Math.abs(deltaX) + (Math.abs(deltaX) * 0.5F)) * 0.5F) * rotationAmount);
 		if (this.pitch > 360F) {
 			this.pitch -= 360F;
 			this.prevPitch -= 360F;
@@ -244,9 +256,33 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
+	/**
+	 * {@link Mob#checkDespawn()} hands the distance to the nearest player it looks up to {@link #setNearestPlayerDistanceSqr(double)}
+	 * through {@code MobMixin}, so {@link #checkActive(double)} can reuse it instead of searching again.
+	 * When it doesn't look, as for persistent tumbleweeds, the distance stays unknown and is queried on demand.
+	 */
+	@Override
+	public void checkDespawn() {
+		this.nearestPlayerDistanceSqr = -1D;
+		super.checkDespawn();
+	}
+
+	public void setNearestPlayerDistanceSqr(double distanceSqr) {
+		this.nearestPlayerDistanceSqr = distanceSqr;
+	}
+
+	private double getNearestPlayerDistanceSqr() {
+		double distanceSqr = this.nearestPlayerDistanceSqr;
+		this.nearestPlayerDistanceSqr = -1D;
+		if (distanceSqr < 0D) {
+			Player player = this.level().getNearestPlayer(this, -1.0);
+			distanceSqr = player != null ? player.distanceToSqr(this) : Double.MAX_VALUE;
+		}
+		return distanceSqr;
+	}
+
 	private void checkActive(double brightness) {
-		Player entity = this.level().getNearestPlayer(this, -1.0);
-		if (!this.requiresCustomPersistence() && ((brightness < 7 && (entity == null || entity.distanceTo(this) > 24)) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getFeetBlockState().getBlock() instanceof MesogleaBlock)))) {
+		if (!this.requiresCustomPersistence() && ((brightness < 7 && this.getNearestPlayerDistanceSqr() > 24D * 24D) || this.isTouchingStoppingBlock || this.isTouchingStickingBlock || (this.wasTouchingWater && !(this.getFeetBlockState().getBlock() instanceof MesogleaBlock)))) {
 			++this.ticksSinceActive;
 			if (this.ticksSinceActive >= 200) {
 				this.destroy(false);
@@ -256,33 +292,41 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		}
 	}
 
-	private void moveWithWind(@NotNull ServerLevel serverLevel, double brightness, @NotNull Vec3 deltaPos) {
+	private void moveWithWind(@NotNull ServerLevel serverLevel, double brightness) {
 		if (!(this.isTouchingStoppingBlock || this.isTouchingStickingBlock)) {
+			this.sampleWind(serverLevel);
 			Vec3 deltaMovement = this.getDeltaMovement();
-			WindManager windManager = WindManager.getWindManager(serverLevel);
+			double x = deltaMovement.x;
+			double y = deltaMovement.y;
+			double z = deltaMovement.z;
 			double multiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667) * (this.wasTouchingWater ? 0.16777216 : 1);
-			double windX = Mth.clamp(windManager.windX * windMultiplier, -windClamp, windClamp);
-			double windZ = Mth.clamp(windManager.windZ * windMultiplier, -windClamp, windClamp);
-			deltaMovement = deltaMovement.add((windX * 0.2) * multiplier, 0, (windZ * 0.2) * multiplier);
-			deltaMovement = new Vec3(deltaMovement.x, deltaMovement.y < 0 ? deltaMovement.y * 0.88 : deltaMovement.y, deltaMovement.z);
-			if (deltaPos.y <= 0 && this.onGround()) {
-				deltaMovement = deltaMovement.add(0, Math.min(0.65, ((deltaPos.horizontalDistance() * 1.2))) * multiplier, 0);
+			x += (this.windX * 0.2) * multiplier;
+			z += (this.windZ * 0.2) * multiplier;
+			if (y < 0) {
+				y *= 0.88;
+			}
+			if (this.deltaY <= 0 && this.onGround()) {
+				y += Math.min(0.65, (Math.sqrt(this.deltaX * this.deltaX + this.deltaZ * this.deltaZ) * 1.2)) * multiplier;
 			}
-			if (deltaPos.x == 0) {
-				double nonNegX = deltaMovement.x < 0 ? -deltaMovement.x : deltaMovement.x;
-				deltaMovement = deltaMovement.add(0, (nonNegX * 1.8) * multiplier, 0);
+			if (this.deltaX == 0) {
+				y += (Math.abs(x) * 1.8) * multiplier;
 			}
-			if (deltaPos.z == 0) {
-				double nonNegZ = deltaMovement.z < 0 ? -deltaMovement.z : deltaMovement.z;
-				deltaMovement = deltaMovement.add(0, (nonNegZ * 1.8) * multiplier, 0);
+			if (this.deltaZ == 0) {
+				y += (Math.abs(z) * 1.8) * multiplier;
 			}
 			if (this.wasEyeInWater) {
-				deltaMovement = deltaMovement.add(0, 0.01, 0);
+				y += 0.01;
 			}
-			this.setDeltaMovement(deltaMovement);
+			this.setDeltaMovement(x, y, z);
 		}
 	}
 
+	private void sampleWind(@NotNull ServerLevel serverLevel) {
+		WindManager windManager = WindManager.getWindManager(serverLevel);
+		this.windX = Mth.clamp(windManager.windX * windMultiplier, -windClamp, windClamp);
+		this.windZ = Mth.clamp(windManager.windZ * windMultiplier, -windClamp, windClamp);
+	}
+
 	protected void tickAfterWindLeash() {
 		Entity entity = this.getLeashHolder();
 		if (entity != null && entity.level() == this.level()) {
@@ -304,7 +348,7 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		if (inventoryStack.getCount() > 1) {
 			this.level().addFreshEntity(new ItemEntity(this.level(), this.getX(), this.getY(), this.getZ(), inventoryStack.split(inventoryStack.getCount() - 1)));
 		}
-		if (!this.level().isClientSide && inventoryStack.isEmpty() && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
+		if (!this.level().isClientSide && inventoryStack.isEmpty() && this.shouldCheckForItems() && this.level().getGameRules().getBoolean(GameRules.RULE_MOBGRIEFING) && !this.isRemoved()) {
 			List<ItemEntity> list = this.level().getEntitiesOfClass(ItemEntity.class, this.getBoundingBox().inflate(0.15));
 			for (ItemEntity item : list) {
 				if (this.isMovingTowards(item)) {
@@ -321,6 +365,18 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 		this.setVisibleItem(this.inventory.get(0));
 	}
 
+	/**
+	 * Only looks for items to pick up when the tumbleweed has moved into a new block, or every {@link #ITEM_PICKUP_INTERVAL} ticks.
+	 */
+	private boolean shouldCheckForItems() {
+		long pos = this.blockPosition().asLong();
+		if (pos != this.lastPickupCheckPos || (this.tickCount + this.getId()) % ITEM_PICKUP_INTERVAL == 0) {
+			this.lastPickupCheckPos = pos;
+			return true;
+		}
+		return false;
+	}
+
 	public void dropItem(boolean killed) {
 		if (!this.isItemNatural || killed) {
 			this.level().addFreshEntity(new ItemEntity(this.level(), this.getX(), this.getY() + 0.4375, this.getZ(), this.inventory.get(0).split(1)));
@@ -343,12 +399,20 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	}
 
 	public boolean isMovingTowards(@NotNull Entity entity) {
-		return entity.getPosition(0).distanceTo(this.getPosition(0)) > entity.getPosition(1).distanceTo(this.getPosition(1));
-	}
-
-	@NotNull
-	public Vec3 getDeltaPos() {
-		return this.getPosition(1).subtract(this.getPosition(0));
+		double oldX = entity.xo - this.xo;
+		double oldY = entity.yo - this.yo;
+		double oldZ = entity.zo - this.zo;
+		double x = entity.getX() - this.getX();
+		double y = entity.getY() - this.getY();
+		double z = entity.getZ() - this.getZ();
+		return oldX * oldX + oldY * oldY + oldZ * oldZ > x * x + y * y + z * z;
+	}
+
+	public double getDeltaPosLength() {
+		double x = this.getX() - this.xo;
+		double y = this.getY() - this.yo;
+		double z = this.getZ() - this.zo;
+		return Math.sqrt(x * x + y * y + z * z);
 	}
 
 	@Override
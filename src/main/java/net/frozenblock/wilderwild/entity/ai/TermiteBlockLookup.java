@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.entity.ai;
+
+import net.frozenblock.wilderwild.registry.RegisterProperties;
+import net.frozenblock.wilderwild.tag.WilderBlockTags;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves everything a termite needs to know about a block state into flags indexed by block state ID.
+ * <p>
+ * The table is built from {@link TermiteManager.Termite#DEGRADABLE_BLOCKS}, {@link TermiteManager.Termite#NATURAL_DEGRADABLE_BLOCKS}
+ * and the termite block tags, so it is rebuilt whenever tags are reloaded or a degradable block is added.
+ */
+public final class TermiteBlockLookup {
+	public static final int DEGRADABLE = 1;
+	public static final int NATURAL_DEGRADABLE = 1 << 1;
+	public static final int BREAKABLE = 1 << 2;
+	public static final int LEAVES = 1 << 3;
+	/**
+	 * Set if the state can be eaten while {@code onlyEatNaturalBlocks} is enabled.
+	 */
+	public static final int NATURALLY_EDIBLE = 1 << 4;
+	public static final int BLOCKS_TERMITE = 1 << 5;
+	public static final int KILLS_TERMITE = 1 << 6;
+	public static final int BLOCKS_UPWARD_MOVEMENT = 1 << 7;
+	public static final int BLOCKS_DOWNWARD_MOVEMENT = 1 << 8;
+
+	@Nullable
+	private static volatile Table table;
+
+	private TermiteBlockLookup() {
+		throw new UnsupportedOperationException("TermiteBlockLookup contains only static declarations.");
+	}
+
+	public static void invalidate() {
+		table = null;
+	}
+
+	public static void rebuild() {
+		table = new Table();
+	}
+
+	@NotNull
+	private static Table table() {
+		Table currentTable = table;
+		if (currentTable == null) {
+			currentTable = new Table();
+			table = currentTable;
+		}
+		return currentTable;
+	}
+
+	public static int flags(@NotNull BlockState state) {
+		int id = Block.getId(state);
+		Table currentTable = table();
+		return id >= 0 && id < currentTable.flags.length ? currentTable.flags[id] : computeFlags(state);
+	}
+
+	public static boolean hasFlag(int flags, int flag) {
+		return (flags & flag) != 0;
+	}
+
+	public static boolean isDegradable(int flags, boolean natural) {
+		return hasFlag(flags, natural ? NATURAL_DEGRADABLE : DEGRADABLE);
+	}
+
+	public static boolean isEdible(int flags, boolean onlyEatNaturalBlocks) {
+		return !onlyEatNaturalBlocks || hasFlag(flags, NATURALLY_EDIBLE);
+	}
+
+	public static boolean canEat(int flags, boolean natural, boolean onlyEatNaturalBlocks) {
+		return (isDegradable(flags, natural) || hasFlag(flags, BREAKABLE)) && isEdible(flags, onlyEatNaturalBlocks);
+	}
+
+	public static boolean isSafe(int flags) {
+		return !hasFlag(flags, KILLS_TERMITE);
+	}
+
+	public static boolean isMovable(int flags, boolean up, boolean down) {
+		return !hasFlag(flags, BLOCKS_TERMITE) && !(up && hasFlag(flags, BLOCKS_UPWARD_MOVEMENT)) && !(down && hasFlag(flags, BLOCKS_DOWNWARD_MOVEMENT));
+	}
+
+	/**
+	 * Returns the state a degradable block state turns into once eaten, or {@code null} if it isn't degradable.
+	 */
+	@Nullable
+	public static BlockState degradedState(@NotNull BlockState state, boolean natural) {
+		int id = Block.getId(state);
+		Table currentTable = table();
+		if (id >= 0 && id < currentTable.flags.length) {
+			return natural ? currentTable.naturalDegradedStates[id] : currentTable.degradedStates[id];
+		}
+		return computeDegradedState(state, natural);
+	}
+
+	private static int computeFlags(@NotNull BlockState state) {
+		Block block = state.getBlock();
+		boolean leaves = state.is(BlockTags.LEAVES);
+		boolean waterlogged = state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED);
+		int flags = 0;
+		if (TermiteManager.Termite.DEGRADABLE_BLOCKS.containsKey(block)) flags |= DEGRADABLE;
+		if (TermiteManager.Termite.NATURAL_DEGRADABLE_BLOCKS.containsKey(block)) flags |= NATURAL_DEGRADABLE;
+		if (state.is(WilderBlockTags.TERMITE_BREAKABLE)) flags |= BREAKABLE;
+		if (leaves) flags |= LEAVES;
+		if (state.hasProperty(RegisterProperties.TERMITE_EDIBLE) ? state.getValue(RegisterProperties.TERMITE_EDIBLE) : !leaves || !state.hasProperty(BlockStateProperties.PERSISTENT) || !state.getValue(BlockStateProperties.PERSISTENT)) {
+			flags |= NATURALLY_EDIBLE;
+		}
+		if (state.is(WilderBlockTags.BLOCKS_TERMITE)) flags |= BLOCKS_TERMITE;
+		if (state.is(WilderBlockTags.KILLS_TERMITE) || waterlogged) flags |= KILLS_TERMITE;
+		if (state.is(BlockTags.INSIDE_STEP_SOUND_BLOCKS) || state.is(BlockTags.REPLACEABLE_BY_TREES) || state.is(BlockTags.FLOWERS)) {
+			flags |= BLOCKS_UPWARD_MOVEMENT;
+		}
+		if (state.is(Blocks.WATER) || state.is(Blocks.LAVA) || waterlogged) flags |= BLOCKS_DOWNWARD_MOVEMENT;
+		return flags;
+	}
+
+	@Nullable
+	private static BlockState computeDegradedState(@NotNull BlockState state, boolean natural) {
+		Block result = (natural ? TermiteManager.Termite.NATURAL_DEGRADABLE_BLOCKS : TermiteManager.Termite.DEGRADABLE_BLOCKS).get(state.getBlock());
+		return result != null ? result.withPropertiesOf(state) : null;
+	}
+
+	private static final class Table {
+		private final int[] flags;
+		private final BlockState[] degradedStates;
+		private final BlockState[] naturalDegradedStates;
+
+		private Table() {
+			int size = Block.BLOCK_STATE_REGISTRY.size();
+			this.flags = new int[size];
+			this.degradedStates = new BlockState[size];
+			this.naturalDegradedStates = new BlockState[size];
+			for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+				int id = Block.getId(state);
+				this.flags[id] = computeFlags(state);
+				this.degradedStates[id] = computeDegradedState(state, false);
+				this.naturalDegradedStates[id] = computeDegradedState(state, true);
+			}
+		}
+	}
+}
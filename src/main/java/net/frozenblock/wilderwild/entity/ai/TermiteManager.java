@@ -34,10 +34,7 @@ import net.frozenblock.wilderwild.config.BlockConfig;
 import net.frozenblock.wilderwild.misc.WilderSharedConstants;
 import net.frozenblock.wilderwild.misc.server.EasyPacket;
 import net.frozenblock.wilderwild.registry.RegisterBlocks;
-import net.frozenblock.wilderwild.registry.RegisterProperties;
 import net.frozenblock.wilderwild.registry.RegisterSounds;
-import net.frozenblock.wilderwild.tag.WilderBlockTags;
-import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -47,8 +44,8 @@ import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.tags.BlockTags;
 import net.minecraft.tags.ItemTags;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelAccessor;
@@ -64,7 +61,14 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 
 public class TermiteManager {
+	private static final Direction[] DIRECTIONS = Direction.values();
+	/**
+	 * Every ordering of {@link #DIRECTIONS}, so a random search order can be picked without copying and shuffling a list.
+	 */
+	private static final Direction[][] DIRECTION_PERMUTATIONS = makeDirectionPermutations();
+
 	private final ArrayList<Termite> termites = new ArrayList<>();
+	private final TickContext tickContext = new TickContext();
 	public int ticksToNextTermite;
 	public int highestID;
 
@@ -92,6 +96,15 @@ public class TermiteManager {
 		return true;
 	}
 
+	private static boolean areNeighboursSafe(@NotNull BlockState[] neighbourStates) {
+		for (BlockState state : neighbourStates) {
+			if (!isStateSafeForTermites(state) || !state.getFluidState().isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	public static boolean isPosSafeForTermites(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
 		return isStateSafeForTermites(level.getBlockState(pos)) && level.getFluidState(pos).isEmpty();
 	}
@@ -101,7 +114,7 @@ public class TermiteManager {
 	}
 
 	public static boolean isStateSafeForTermites(@NotNull BlockState state) {
-		return !state.is(WilderBlockTags.KILLS_TERMITE) && (!state.hasProperty(BlockStateProperties.WATERLOGGED) || !state.getValue(BlockStateProperties.WATERLOGGED));
+		return TermiteBlockLookup.isSafe(TermiteBlockLookup.flags(state));
 	}
 
 	public void addTermite(@NotNull BlockPos pos) {
@@ -111,20 +124,23 @@ public class TermiteManager {
 
 	public void tick(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
 		int maxTermites = maxTermites(natural, awake, canSpawn);
-		ArrayList<Termite> termitesToRemove = new ArrayList<>();
-		for (Termite termite : this.termites) {
-			if (termite.tick(level, natural)) {
-				EasyPacket.EasyTermitePacket.createParticle(level, Vec3.atCenterOf(termite.pos), termite.eating ? 4 : 6);
+		this.tickContext.update(natural);
+		int termiteCount = this.termites.size();
+		int keptTermites = 0;
+		for (int i = 0; i < termiteCount; i++) {
+			Termite termite = this.termites.get(i);
+			if (termite.tick(level, this.tickContext)) {
+				this.termites.set(keptTermites++, termite);
 			} else {
 				level.playSound(null, termite.pos, RegisterSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, 0.6F, 1.0F);
-				termitesToRemove.add(termite);
+				level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
+				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 			}
 		}
-		for (Termite termite : termitesToRemove) {
-			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			this.termites.remove(termite);
-			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
+		for (int i = termiteCount - 1; i >= keptTermites; i--) {
+			this.termites.remove(i);
 		}
+		EasyPacket.EasyTermitePacket.createParticles(level, pos, this.termites);
 		if (this.termites.size() < maxTermites) {
 			if (this.ticksToNextTermite > 0) {
 				--this.ticksToNextTermite;
@@ -135,6 +151,13 @@ public class TermiteManager {
 				this.ticksToNextTermite = natural ? 320 : 200;
 			}
 		}
+		this.removeExcessTermites(level, pos, maxTermites);
+	}
+
+	/**
+	 * Sends random termites back into the mound until at most {@code maxTermites} are left.
+	 */
+	public void removeExcessTermites(@NotNull Level level, @NotNull BlockPos pos, int maxTermites) {
 		while (this.termites.size() > maxTermites) {
 			Termite termite = this.termites.get(AdvancedMath.random().nextInt(this.termites.size()));
 			level.playSound(null, termite.pos, RegisterSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, 0.6F, 1.0F);
@@ -142,7 +165,6 @@ public class TermiteManager {
 			this.termites.remove(termite);
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 		}
-		termitesToRemove.clear();
 	}
 
 	public void clearTermites(@NotNull Level level) {
@@ -157,6 +179,16 @@ public class TermiteManager {
 		return this.termites;
 	}
 
+	@Nullable
+	public Termite getTermite(int id) {
+		for (Termite termite : this.termites) {
+			if (termite.getID() == id) {
+				return termite;
+			}
+		}
+		return null;
+	}
+
 	public void saveAdditional(@NotNull CompoundTag tag) {
 		tag.putInt("ticksToNextTermite", this.ticksToNextTermite);
 		tag.putInt("highestID", this.highestID);
@@ -182,10 +214,82 @@ public class TermiteManager {
 		}
 	}
 
+	@NotNull
+	private static Direction[][] makeDirectionPermutations() {
+		List<Direction[]> permutations = new ArrayList<>();
+		addDirectionPermutations(DIRECTIONS.clone(), 0, permutations);
+		return permutations.toArray(new Direction[0][]);
+	}
+
+	private static void addDirectionPermutations(@NotNull Direction[] directions, int index, @NotNull List<Direction[]> permutations) {
+		if (index == directions.length) {
+			permutations.add(directions.clone());
+			return;
+		}
+		for (int i = index; i < directions.length; i++) {
+			swapDirections(directions, index, i);
+			addDirectionPermutations(directions, index + 1, permutations);
+			swapDirections(directions, index, i);
+		}
+	}
+
+	private static void swapDirections(@NotNull Direction[] directions, int first, int second) {
+		Direction direction = directions[first];
+		directions[first] = directions[second];
+		directions[second] = direction;
+	}
+
+	@NotNull
+	private static Direction[] randomDirectionOrder(@NotNull RandomSource random) {
+		return DIRECTION_PERMUTATIONS[random.nextInt(DIRECTION_PERMUTATIONS.length)];
+	}
+
+	/**
+	 * Holds the config values a mound's termites need, read once per mound tick,
+	 * along with the positions and neighbour states reused by every termite of that mound.
+	 */
+	static final class TickContext {
+		private static final ThreadLocal<TickContext> THREAD_CONTEXT = ThreadLocal.withInitial(TickContext::new);
+
+		final BlockState[] neighbourStates = new BlockState[DIRECTIONS.length];
+		final BlockPos.MutableBlockPos offsetPos = new BlockPos.MutableBlockPos();
+		final BlockPos.MutableBlockPos ledgePos = new BlockPos.MutableBlockPos();
+		final BlockPos.MutableBlockPos scanPos = new BlockPos.MutableBlockPos();
+		boolean natural;
+		boolean onlyEatNaturalBlocks;
+		int maxDistance;
+
+		/**
+		 * Returns this thread's context for the public helpers called without a mound, updated for {@code natural}.
+		 * Those helpers don't call each other through it, so one context per thread is enough.
+		 */
+		@NotNull
+		static TickContext forCurrentThread(boolean natural) {
+			TickContext context = THREAD_CONTEXT.get();
+			context.update(natural);
+			return context;
+		}
+
+		void update(boolean natural) {
+			BlockConfig.TermiteConfig config = BlockConfig.get().termite;
+			this.natural = natural;
+			this.onlyEatNaturalBlocks = config.onlyEatNaturalBlocks;
+			this.maxDistance = natural ? config.getMaxNaturalDistance() : config.getMaxDistance();
+		}
+
+		@NotNull
+		BlockState[] readNeighbours(@NotNull Level level, @NotNull BlockPos pos) {
+			for (Direction direction : DIRECTIONS) {
+				this.neighbourStates[direction.ordinal()] = level.getBlockState(this.scanPos.setWithOffset(pos, direction));
+			}
+			return this.neighbourStates;
+		}
+	}
+
 	public static class Termite {
 		public static final Codec<Termite> CODEC = RecordCodecBuilder.create((instance) -> instance.group(
 			BlockPos.CODEC.fieldOf("mound").forGetter(Termite::getMoundPos),
-			BlockPos.CODEC.fieldOf("pos").forGetter(Termite::getPos),
+			BlockPos.CODEC.fieldOf("pos").forGetter(termite -> termite.getPos().immutable()),
 			Codec.intRange(0, 10000).fieldOf("blockDestroyPower").orElse(0).forGetter(Termite::getPower),
 			Codec.intRange(0, 2002).fieldOf("aliveTicks").orElse(0).forGetter(Termite::getAliveTicks),
 			Codec.intRange(0, 5).fieldOf("update").orElse(0).forGetter(Termite::getUpdateTicks),
@@ -197,7 +301,10 @@ public class TermiteManager {
 		public static final Map<Block, Block> NATURAL_DEGRADABLE_BLOCKS = new Object2ObjectOpenHashMap<>();
 
 		public BlockPos mound;
-		public BlockPos pos;
+		/**
+		 * Moved in place as the termite walks, so ticking a termite doesn't allocate a position per move.
+		 */
+		private final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
 		public int blockDestroyPower;
 		public int aliveTicks;
 		public int update;
@@ -206,7 +313,7 @@ public class TermiteManager {
 
 		public Termite(@NotNull BlockPos mound, @NotNull BlockPos pos, int blockDestroyPower, int aliveTicks, int update) {
 			this.mound = mound;
-			this.pos = pos;
+			this.pos.set(pos);
 			this.blockDestroyPower = blockDestroyPower;
 			this.aliveTicks = aliveTicks;
 			this.update = update;
@@ -214,7 +321,7 @@ public class TermiteManager {
 
 		public Termite(@NotNull BlockPos mound, @NotNull BlockPos pos, int blockDestroyPower, int aliveTicks, int update, boolean eating, int id) {
 			this.mound = mound;
-			this.pos = pos;
+			this.pos.set(pos);
 			this.blockDestroyPower = blockDestroyPower;
 			this.aliveTicks = aliveTicks;
 			this.update = update;
@@ -224,19 +331,29 @@ public class TermiteManager {
 
 		@Nullable
 		public static BlockPos ledgePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
+			BlockPos ledgePos = ledgePos(level, pos, TickContext.forCurrentThread(natural));
+			return ledgePos != null ? ledgePos.immutable() : null;
+		}
+
+		/**
+		 * Returns {@link TickContext#ledgePos}, which is only valid until the context is next used.
+		 */
+		@Nullable
+		private static BlockPos ledgePos(@NotNull Level level, @NotNull BlockPos pos, @NotNull TickContext context) {
+			BlockPos.MutableBlockPos mutableBlockPos = context.ledgePos.set(pos);
 			BlockState state = level.getBlockState(mutableBlockPos);
-			if (DEGRADABLE_BLOCKS.containsKey(state.getBlock()) || state.is(WilderBlockTags.TERMITE_BREAKABLE)) {
+			int flags = TermiteBlockLookup.flags(state);
+			if (TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.DEGRADABLE | TermiteBlockLookup.BREAKABLE)) {
 				return mutableBlockPos;
 			}
 			mutableBlockPos.move(Direction.DOWN);
 			state = level.getBlockState(mutableBlockPos);
-			if (!state.isAir() && isBlockMovable(state, Direction.DOWN) && exposedToAir(level, mutableBlockPos, natural)) {
+			if (!state.isAir() && isBlockMovable(state, Direction.DOWN) && exposedToAir(level, mutableBlockPos, context)) {
 				return mutableBlockPos;
 			}
 			mutableBlockPos.move(Direction.UP, 2);
 			state = level.getBlockState(mutableBlockPos);
-			if (!state.isAir() && isBlockMovable(state, Direction.UP) && exposedToAir(level, mutableBlockPos, natural)) {
+			if (!state.isAir() && isBlockMovable(state, Direction.UP) && exposedToAir(level, mutableBlockPos, context)) {
 				return mutableBlockPos;
 			}
 			return null;
@@ -244,21 +361,39 @@ public class TermiteManager {
 
 		@Nullable
 		public static BlockPos degradableBreakablePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
+			boolean onlyEatNaturalBlocks = BlockConfig.get().termite.onlyEatNaturalBlocks;
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-			List<Direction> directions = Util.shuffledCopy(Direction.values(), level.random);
 			BlockState upState = level.getBlockState(mutableBlockPos.move(Direction.UP));
-			if (canEatBlock(natural, mutableBlockPos, upState)) return mutableBlockPos;
+			if (canEatBlock(natural, onlyEatNaturalBlocks, mutableBlockPos, upState)) return mutableBlockPos;
 			mutableBlockPos.move(Direction.DOWN);
-			for (Direction direction : directions) {
+			for (Direction direction : randomDirectionOrder(level.random)) {
 				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
-				if (canEatBlock(natural, mutableBlockPos, state)) return mutableBlockPos;
+				if (canEatBlock(natural, onlyEatNaturalBlocks, mutableBlockPos, state)) return mutableBlockPos;
 				mutableBlockPos.move(direction, -1);
 			}
 			return null;
 		}
 
-		private static boolean canEatBlock(boolean natural, @NotNull BlockPos.MutableBlockPos mutableBlockPos, @NotNull BlockState state) {
-			if (((!natural ? DEGRADABLE_BLOCKS.containsKey(state.getBlock()) : NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WilderBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
+		/**
+		 * Returns {@link TickContext#offsetPos}, which is only valid until the context is next used.
+		 */
+		@Nullable
+		private static BlockPos degradableBreakablePos(@NotNull Level level, @NotNull BlockPos pos, @NotNull TickContext context) {
+			BlockPos.MutableBlockPos mutableBlockPos = context.offsetPos;
+			BlockState[] neighbourStates = context.neighbourStates;
+			if (canEatBlock(context.natural, context.onlyEatNaturalBlocks, mutableBlockPos.setWithOffset(pos, Direction.UP), neighbourStates[Direction.UP.ordinal()])) {
+				return mutableBlockPos;
+			}
+			for (Direction direction : randomDirectionOrder(level.random)) {
+				if (canEatBlock(context.natural, context.onlyEatNaturalBlocks, mutableBlockPos.setWithOffset(pos, direction), neighbourStates[direction.ordinal()])) {
+					return mutableBlockPos;
+				}
+			}
+			return null;
+		}
+
+		private static boolean canEatBlock(boolean natural, boolean onlyEatNaturalBlocks, @NotNull BlockPos.MutableBlockPos mutableBlockPos, @NotNull BlockState state) {
+			if (TermiteBlockLookup.canEat(TermiteBlockLookup.flags(state), natural, onlyEatNaturalBlocks)) {
 				if (state.hasProperty(BlockStateProperties.DOUBLE_BLOCK_HALF) && state.getValue(BlockStateProperties.DOUBLE_BLOCK_HALF) == DoubleBlockHalf.UPPER) {
 					mutableBlockPos.move(Direction.DOWN);
 				}
@@ -268,21 +403,44 @@ public class TermiteManager {
 		}
 
 		public static boolean isEdibleProperty(@NotNull BlockState state) {
-			return !BlockConfig.get().termite.onlyEatNaturalBlocks || (state.hasProperty(RegisterProperties.TERMITE_EDIBLE) ? state.getValue(RegisterProperties.TERMITE_EDIBLE) : !state.is(BlockTags.LEAVES) || !state.hasProperty(BlockStateProperties.PERSISTENT) || !state.getValue(BlockStateProperties.PERSISTENT));
+			return TermiteBlockLookup.isEdible(TermiteBlockLookup.flags(state), BlockConfig.get().termite.onlyEatNaturalBlocks);
 		}
 
 		public static boolean exposedToAir(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-			for (Direction direction : Direction.values()) {
-				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
-				if (state.isAir() || (!state.isRedstoneConductor(level, mutableBlockPos) && !state.is(WilderBlockTags.BLOCKS_TERMITE)) || ((!natural && DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || (natural && NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WilderBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
+			return exposedToAir(level, pos, TickContext.forCurrentThread(natural));
+		}
+
+		private static boolean exposedToAir(@NotNull Level level, @NotNull BlockPos pos, @NotNull TickContext context) {
+			BlockPos.MutableBlockPos mutableBlockPos = context.scanPos;
+			for (Direction direction : DIRECTIONS) {
+				if (exposesTermite(level, mutableBlockPos.setWithOffset(pos, direction), level.getBlockState(mutableBlockPos), context)) {
 					return true;
 				}
-				mutableBlockPos.move(direction, -1);
 			}
 			return false;
 		}
 
+		/**
+		 * Same as {@link #exposedToAir(Level, BlockPos, TickContext)}, using the neighbour states already read for {@code pos}.
+		 */
+		private static boolean exposedToAir(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState[] neighbourStates, @NotNull TickContext context) {
+			BlockPos.MutableBlockPos mutableBlockPos = context.scanPos;
+			for (Direction direction : DIRECTIONS) {
+				if (exposesTermite(level, mutableBlockPos.setWithOffset(pos, direction), neighbourStates[direction.ordinal()], context)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private static boolean exposesTermite(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull TickContext context) {
+			if (state.isAir()) {
+				return true;
+			}
+			int flags = TermiteBlockLookup.flags(state);
+			return (!TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.BLOCKS_TERMITE) && !state.isRedstoneConductor(level, pos)) || TermiteBlockLookup.canEat(flags, context.natural, context.onlyEatNaturalBlocks);
+		}
+
 		public static boolean canMove(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
 			if (level instanceof ServerLevel serverLevel) {
 				return serverLevel.shouldTickBlocksAt(pos);
@@ -291,16 +449,12 @@ public class TermiteManager {
 		}
 
 		public static boolean isBlockMovable(@NotNull BlockState state, @NotNull Direction direction) {
-			if (state.is(WilderBlockTags.BLOCKS_TERMITE)) {
-				return false;
-			}
-			boolean moveableUp = !(direction == Direction.UP && (state.is(BlockTags.INSIDE_STEP_SOUND_BLOCKS) || state.is(BlockTags.REPLACEABLE_BY_TREES) || state.is(BlockTags.FLOWERS)));
-			boolean moveableDown = !(direction == Direction.DOWN && (state.is(Blocks.WATER) || state.is(Blocks.LAVA) || (state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED))));
-			return moveableUp && moveableDown;
+			return TermiteBlockLookup.isMovable(TermiteBlockLookup.flags(state), direction == Direction.UP, direction == Direction.DOWN);
 		}
 
 		public static boolean isTooFar(boolean natural, @NotNull BlockPos mound, @NotNull BlockPos pos) {
-			return !mound.closerThan(pos, natural ? BlockConfig.get().termite.maxNaturalDistance : BlockConfig.get().termite.maxDistance);
+			BlockConfig.TermiteConfig config = BlockConfig.get().termite;
+			return !mound.closerThan(pos, natural ? config.getMaxNaturalDistance() : config.getMaxDistance());
 		}
 
 		public static void addDegradableBlocks() {
@@ -347,6 +501,7 @@ public class TermiteManager {
 
 		public static void addDegradable(Block degradable, Block result) {
 			DEGRADABLE_BLOCKS.put(degradable, result);
+			TermiteBlockLookup.invalidate();
 		}
 
 		public static void addNaturalDegradableBlocks() {
@@ -368,6 +523,7 @@ public class TermiteManager {
 
 		public static void addNaturalDegradable(@NotNull Block degradable, @NotNull Block result) {
 			NATURAL_DEGRADABLE_BLOCKS.put(degradable, result);
+			TermiteBlockLookup.invalidate();
 		}
 
 		public static void spawnGnawParticles(@NotNull Level level, @NotNull BlockState eatState, @NotNull BlockPos pos) {
@@ -383,42 +539,48 @@ public class TermiteManager {
 		}
 
 		public boolean tick(@NotNull Level level, boolean natural) {
+			return this.tick(level, TickContext.forCurrentThread(natural));
+		}
+
+		boolean tick(@NotNull Level level, @NotNull TickContext context) {
+			boolean natural = context.natural;
 			boolean exit = false;
 			++this.aliveTicks;
-			if (this.aliveTicks > (natural ? 1200 : 2000) || isTooFar(natural, this.mound, this.pos)) {
+			if (this.aliveTicks > (natural ? 1200 : 2000) || !this.mound.closerThan(this.pos, context.maxDistance)) {
 				return false;
 			}
-			if (!areTermitesSafe(level, this.pos)) {
+			BlockState[] neighbourStates = context.readNeighbours(level, this.pos);
+			if (!areNeighboursSafe(neighbourStates)) {
 				return false;
 			}
 			if (canMove(level, this.pos)) {
 				BlockState blockState = level.getBlockState(this.pos);
-				Block block = blockState.getBlock();
-				boolean degradable = !natural ? DEGRADABLE_BLOCKS.containsKey(block) : NATURAL_DEGRADABLE_BLOCKS.containsKey(block);
-				boolean breakable = blockState.is(WilderBlockTags.TERMITE_BREAKABLE);
-				boolean leaves = blockState.is(BlockTags.LEAVES);
-				if ((degradable || breakable) && isEdibleProperty(blockState)) {
+				int flags = TermiteBlockLookup.flags(blockState);
+				boolean breakable = TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.BREAKABLE);
+				boolean leaves = TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.LEAVES);
+				if (TermiteBlockLookup.canEat(flags, natural, context.onlyEatNaturalBlocks)) {
 					this.eating = true;
 					exit = true;
 					int additionalPower = breakable ? leaves ? 4 : 2 : 1;
 					this.blockDestroyPower += additionalPower;
 					spawnGnawParticles(level, blockState, this.pos);
 					if (this.blockDestroyPower > 200) {
+						BlockPos pos = this.pos.immutable();
 						this.blockDestroyPower = 0;
 						this.aliveTicks = natural ? Math.max(0, this.aliveTicks - (200 / additionalPower)) : 0;
 						if (breakable) {
-							level.destroyBlock(this.pos, true);
+							level.destroyBlock(pos, true);
 						} else {
-							level.addDestroyBlockEffect(this.pos, blockState);
-							Block setBlock = !natural ? DEGRADABLE_BLOCKS.get(block) : NATURAL_DEGRADABLE_BLOCKS.get(block);
-							BlockState setState = setBlock.withPropertiesOf(blockState);
-							level.setBlockAndUpdate(this.pos, setState);
+							level.addDestroyBlockEffect(pos, blockState);
+							BlockState setState = Objects.requireNonNull(TermiteBlockLookup.degradedState(blockState, natural));
+							Block setBlock = setState.getBlock();
+							level.setBlockAndUpdate(pos, setState);
 							if (setBlock instanceof HollowedLogBlock) {
 								boolean nether = new ItemStack(setBlock.asItem()).is(ItemTags.NON_FLAMMABLE_WOOD);
 								level.playSound(null, pos, nether ? RegisterSounds.STEM_HOLLOWED : RegisterSounds.LOG_HOLLOWED, SoundSource.BLOCKS, 0.6F, 0.95F + (level.random.nextFloat() * 0.2F));
 							}
 						}
-						spawnEatParticles(level, blockState, this.pos);
+						spawnEatParticles(level, blockState, pos);
 						level.playSound(null, pos, RegisterSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS, 0.6F, 0.9F + (level.random.nextFloat() * 0.25F));
 					}
 				} else {
@@ -428,8 +590,7 @@ public class TermiteManager {
 					if (blockState.isAir()) {
 						direction = Direction.DOWN;
 					}
-					BlockPos offset = this.pos.relative(direction);
-					BlockState state = level.getBlockState(offset);
+					BlockState state = neighbourStates[direction.ordinal()];
 					if (!isStateSafeForTermites(state)) {
 						return false;
 					}
@@ -439,32 +600,29 @@ public class TermiteManager {
 						return true;
 					} else {
 						this.update = 1;
-						BlockPos priority = degradableBreakablePos(level, this.pos, natural);
+						BlockPos priority = degradableBreakablePos(level, this.pos, context);
 						if (priority != null) {
-							this.pos = priority;
+							this.pos.set(priority);
 							exit = true;
 						} else {
-							BlockPos ledge = ledgePos(level, offset, natural);
-							BlockPos posUp = this.pos.above();
-							BlockState stateUp = level.getBlockState(posUp);
-							if (exposedToAir(level, offset, natural) && isBlockMovable(state, direction) && !(direction != Direction.DOWN && state.isAir() && (!this.mound.closerThan(this.pos, 1.5)) && ledge == null)) {
-								this.pos = offset;
-								if (ledge != null) {
-									this.pos = ledge;
-								}
+							BlockPos.MutableBlockPos offset = context.offsetPos.setWithOffset(this.pos, direction);
+							BlockPos ledge = ledgePos(level, offset, context);
+							BlockState stateUp = neighbourStates[Direction.UP.ordinal()];
+							if (exposedToAir(level, offset, context) && isBlockMovable(state, direction) && !(direction != Direction.DOWN && state.isAir() && (!this.mound.closerThan(this.pos, 1.5)) && ledge == null)) {
+								this.pos.set(ledge != null ? ledge : offset);
 								exit = true;
-							} else if (ledge != null && exposedToAir(level, ledge, natural)) {
-								this.pos = ledge;
+							} else if (ledge != null && exposedToAir(level, ledge, context)) {
+								this.pos.set(ledge);
 								exit = true;
-							} else if (!stateUp.isAir() && isBlockMovable(stateUp, Direction.UP) && exposedToAir(level, posUp, natural)) {
-								this.pos = posUp;
+							} else if (!stateUp.isAir() && isBlockMovable(stateUp, Direction.UP) && exposedToAir(level, offset.setWithOffset(this.pos, Direction.UP), context)) {
+								this.pos.set(offset);
 								exit = true;
 							}
 						}
 					}
 				}
 			}
-			return exit || (exposedToAir(level, this.pos, natural));
+			return exit || exposedToAir(level, this.pos, neighbourStates, context);
 		}
 
 		@NotNull
@@ -472,11 +630,18 @@ public class TermiteManager {
 			return this.mound;
 		}
 
+		/**
+		 * Returns the termite's current position, which changes as it moves; call {@link BlockPos#immutable()} to keep it.
+		 */
 		@NotNull
 		public BlockPos getPos() {
 			return this.pos;
 		}
 
+		public void setPos(@NotNull BlockPos pos) {
+			this.pos.set(pos);
+		}
+
 		public int getPower() {
 			return this.blockDestroyPower;
 		}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.entity.ai.warden;
+
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ClipBlockStateContext;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The first Echo Glass block blocking a Warden's Sonic Boom, and how far along the beam it was found.
+ */
+public record SonicBoomOcclusion(@NotNull BlockPos pos, double distance) {
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static final double RAY_OFFSET = 9.999999747378752E-6D;
+
+	/**
+	 * Samples the beam one block apart, like the Sonic Boom's own particle loop, and returns the first sample that Echo Glass hides from the start.
+	 * <p>
+	 * A sample counts as hidden when six rays, cast from just off each face of the start block's centre to the sample block's centre, all hit Echo Glass.
+	 * Those rays are only cast for samples the beam reaches after first passing next to Echo Glass, and consecutive samples in the same block share one check.
+	 *
+	 * @param start     where the beam starts
+	 * @param direction the normalized direction of the beam
+	 * @param samples   how many samples to check, starting one block from the start
+	 * @return the Echo Glass hit by the last ray and the distance of the hidden sample, or null if the beam is not occluded
+	 */
+	@Nullable
+	public static SonicBoomOcclusion trace(@NotNull BlockGetter level, @NotNull Vec3 start, @NotNull Vec3 direction, int samples) {
+		double echoGlassDistance = findEchoGlass(level, start, direction, samples);
+		if (echoGlassDistance > samples) {
+			return null;
+		}
+		Vec3 startCenter = Vec3.atCenterOf(BlockPos.containing(start));
+		BlockPos.MutableBlockPos samplePos = new BlockPos.MutableBlockPos();
+		long lastSample = Long.MAX_VALUE;
+		for (int i = Math.max(1, Mth.ceil(echoGlassDistance)); i <= samples; i++) {
+			samplePos.set(start.x + direction.x * i, start.y + direction.y * i, start.z + direction.z * i);
+			long sample = samplePos.asLong();
+			if (sample == lastSample) {
+				continue;
+			}
+			lastSample = sample;
+			BlockPos hitPos = getOccludingPos(level, startCenter, Vec3.atCenterOf(samplePos));
+			if (hitPos != null) {
+				return new SonicBoomOcclusion(hitPos, i);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Walks the blocks the beam passes through, up to {@code length} along it, and returns how far along the beam
+	 * the first block with Echo Glass in or next to it starts, or {@link Double#POSITIVE_INFINITY} if there is none.
+	 * <p>
+	 * Every point of a ray cast to a sample is less than a block from the beam before that sample, on each axis,
+	 * so a ray can only hit Echo Glass next to a block the beam has already passed through.
+	 */
+	private static double findEchoGlass(@NotNull BlockGetter level, @NotNull Vec3 start, @NotNull Vec3 direction, double length) {
+		BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+		int x = Mth.floor(start.x);
+		int y = Mth.floor(start.y);
+		int z = Mth.floor(start.z);
+		int stepX = (int) Math.signum(direction.x);
+		int stepY = (int) Math.signum(direction.y);
+		int stepZ = (int) Math.signum(direction.z);
+		double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : 1D / Math.abs(direction.x);
+		double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : 1D / Math.abs(direction.y);
+		double deltaZ = stepZ == 0 ? Double.POSITIVE_INFINITY : 1D / Math.abs(direction.z);
+		double nextX = stepX == 0 ? Double.POSITIVE_INFINITY : (stepX > 0 ? x + 1 - start.x : start.x - x) * deltaX;
+		double nextY = stepY == 0 ? Double.POSITIVE_INFINITY : (stepY > 0 ? y + 1 - start.y : start.y - y) * deltaY;
+		double nextZ = stepZ == 0 ? Double.POSITIVE_INFINITY : (stepZ > 0 ? z + 1 - start.z : start.z - z) * deltaZ;
+		if (hasEchoGlass(level, pos, x - 1, x + 1, y - 1, y + 1, z - 1, z + 1)) {
+			return 0D;
+		}
+		// Each step only brings in the blocks on the far side of the one entered, as the rest were next to the previous block.
+		while (true) {
+			double distance;
+			boolean found;
+			if (nextX <= nextY && nextX <= nextZ) {
+				distance = nextX;
+				x += stepX;
+				nextX += deltaX;
+				found = distance <= length && hasEchoGlass(level, pos, x + stepX, x + stepX, y - 1, y + 1, z - 1, z + 1);
+			} else if (nextY <= nextZ) {
+				distance = nextY;
+				y += stepY;
+				nextY += deltaY;
+				found = distance <= length && hasEchoGlass(level, pos, x - 1, x + 1, y + stepY, y + stepY, z - 1, z + 1);
+			} else {
+				distance = nextZ;
+				z += stepZ;
+				nextZ += deltaZ;
+				found = distance <= length && hasEchoGlass(level, pos, x - 1, x + 1, y - 1, y + 1, z + stepZ, z + stepZ);
+			}
+			if (distance > length) {
+				return Double.POSITIVE_INFINITY;
+			}
+			if (found) {
+				return distance;
+			}
+		}
+	}
+
+	private static boolean hasEchoGlass(@NotNull BlockGetter level, @NotNull BlockPos.MutableBlockPos pos, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					if (level.getBlockState(pos.set(x, y, z)).is(RegisterBlocks.ECHO_GLASS)) {
+						return true;
+					}
+				}
+			}
+		}
+		return false;
+	}
+
+	@Nullable
+	private static BlockPos getOccludingPos(@NotNull BlockGetter level, @NotNull Vec3 startCenter, @NotNull Vec3 end) {
+		BlockPos hitPos = null;
+		for (Direction direction : DIRECTIONS) {
+			BlockHitResult hit = level.isBlockInLine(new ClipBlockStateContext(startCenter.relative(direction, RAY_OFFSET), end, state -> state.is(RegisterBlocks.ECHO_GLASS)));
+			if (hit.getType() != HitResult.Type.BLOCK) {
+				return null;
+			}
+			hitPos = hit.getBlockPos();
+		}
+		return hitPos;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc;
+
+import net.frozenblock.wilderwild.misc.server.LevelEffectScheduler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.ChestBlock;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.ChestType;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Bubbles released by waterlogged chests when they are opened, run through {@link LevelEffectScheduler}.
+ */
+public final class ChestBubbles {
+	public static final int BUBBLE_TICKS = 5;
+	private static final LevelEffectScheduler.Effect BUBBLES = (level, pos, ticks) -> ticks <= BUBBLE_TICKS && emitBubbles(level, pos);
+
+	private ChestBubbles() {
+		throw new UnsupportedOperationException("ChestBubbles contains only static declarations.");
+	}
+
+	public static void scheduleBubbles(@NotNull Level level, @NotNull BlockPos pos) {
+		if (level instanceof ServerLevel server) {
+			LevelEffectScheduler.schedule(server, pos, BUBBLES);
+		}
+	}
+
+	/**
+	 * @return false once the chest can no longer bubble.
+	 */
+	private static boolean emitBubbles(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		BlockState state = level.getBlockState(pos);
+		if (level.getBlockEntity(pos) instanceof ChestBlockEntity && state.getBlock() instanceof ChestBlock) {
+			if (state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED)) {
+				double additionalX = 0;
+				double additionalZ = 0;
+				if (state.hasProperty(BlockStateProperties.CHEST_TYPE) && state.getValue(BlockStateProperties.CHEST_TYPE) != ChestType.SINGLE) {
+					Direction direction = ChestBlock.getConnectedDirection(state);
+					additionalX += (double) direction.getStepX() * 0.125;
+					additionalZ += (double) direction.getStepZ() * 0.125;
+				}
+				level.sendParticles(ParticleTypes.BUBBLE, pos.getX() + 0.5 + additionalX, pos.getY() + 0.625, pos.getZ() + 0.5 + additionalZ, level.random.nextInt(4, 10), 0.21875F, 0, 0.21875F, 0.2D);
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -34,6 +34,8 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.shapes.BooleanOp;
 import net.minecraft.world.phys.shapes.CollisionContext;
@@ -75,9 +77,11 @@ public class JellyfishBlockCollisions extends AbstractIterator<VoxelShape> {
 	}
 
 	public static boolean noJellyCollision(Level level, @Nullable Entity entity, AABB collisionBox) {
-		for (VoxelShape voxelShape : JellyfishBlockCollisions.getJellyBlockCollisions(entity, collisionBox, level)) {
-			if (voxelShape.isEmpty()) continue;
-			return false;
+		if (!onlyAirOrWater(level, collisionBox)) {
+			for (VoxelShape voxelShape : JellyfishBlockCollisions.getJellyBlockCollisions(entity, collisionBox, level)) {
+				if (voxelShape.isEmpty()) continue;
+				return false;
+			}
 		}
 		if (!level.getEntityCollisions(entity, collisionBox).isEmpty()) {
 			return false;
@@ -90,6 +94,39 @@ public class JellyfishBlockCollisions extends AbstractIterator<VoxelShape> {
 		return true;
 	}
 
+	/**
+	 * Returns true if every chunk section the collision search would visit can only contain air or water,
+	 * in which case no block can collide with the box and the shape search can be skipped.
+	 * <p>
+	 * Palettes may still list states that were removed from a section, so this can return false for sections that are actually clear, but never true for one that isn't.
+	 */
+	public static boolean onlyAirOrWater(@NotNull CollisionGetter collisionGetter, @NotNull AABB box) {
+		int minSectionX = SectionPos.blockToSectionCoord(Mth.floor(box.minX - 1.0E-7) - 1);
+		int maxSectionX = SectionPos.blockToSectionCoord(Mth.floor(box.maxX + 1.0E-7) + 1);
+		int minSectionY = SectionPos.blockToSectionCoord(Mth.floor(box.minY - 1.0E-7) - 1);
+		int maxSectionY = SectionPos.blockToSectionCoord(Mth.floor(box.maxY + 1.0E-7) + 1);
+		int minSectionZ = SectionPos.blockToSectionCoord(Mth.floor(box.minZ - 1.0E-7) - 1);
+		int maxSectionZ = SectionPos.blockToSectionCoord(Mth.floor(box.maxZ + 1.0E-7) + 1);
+		for (int sectionX = minSectionX; sectionX <= maxSectionX; sectionX++) {
+			for (int sectionZ = minSectionZ; sectionZ <= maxSectionZ; sectionZ++) {
+				BlockGetter blockGetter = collisionGetter.getChunkForCollisions(sectionX, sectionZ);
+				if (blockGetter == null) continue;
+				if (!(blockGetter instanceof ChunkAccess chunk)) return false;
+				for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+					int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+					if (sectionIndex < 0 || sectionIndex >= chunk.getSectionsCount()) continue;
+					LevelChunkSection section = chunk.getSection(sectionIndex);
+					if (!section.hasOnlyAir() && section.maybeHas(JellyfishBlockCollisions::canCollide)) return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean canCollide(@NotNull BlockState state) {
+		return !state.isAir() && !state.is(Blocks.WATER);
+	}
+
 	@NotNull
 	public static Iterable<VoxelShape> getJellyBlockCollisions(@Nullable Entity entity, AABB collisionBox, Level level) {
 		return () -> new JellyfishBlockCollisions(level, entity, collisionBox);
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.misc;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds Wilder Wild's state for a single {@link net.minecraft.world.level.block.SculkBlock#attemptUseCharge} call.
+ * <p>
+ * A new context is created for every call, so sculk can spread on several threads at once.
+ */
+public class SculkGrowthContext {
+	public final boolean isWorldGen;
+	public boolean isPlacingBelow;
+	public boolean canPlaceOsseousSculk;
+	@Nullable
+	public BlockPos placementPos;
+	@Nullable
+	public BlockState placementState;
+	public int additionalGrowthCost;
+	public boolean canPlace;
+	@Nullable
+	public BlockPos placedPos;
+	@Nullable
+	public BlockState placedState;
+
+	public SculkGrowthContext(boolean isWorldGen) {
+		this.isWorldGen = isWorldGen;
+	}
+}
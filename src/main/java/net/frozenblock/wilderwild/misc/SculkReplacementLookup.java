@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+package net.frozenblock.wilderwild.misc;
+
+import net.frozenblock.lib.sculk.api.BooleanPropertySculkBehavior;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.frozenblock.wilderwild.registry.RegisterProperties;
+import net.frozenblock.wilderwild.tag.WilderBlockTags;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.SculkBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Resolves which of Wilder Wild's sculk replacements apply to a block state, indexed by block state ID and rebuilt whenever tags are reloaded.
+ */
+public final class SculkReplacementLookup {
+	private static final int REPLACEABLE = 1;
+	private static final int REPLACEABLE_WORLDGEN = 1 << 1;
+	private static final int STONE_CHEST = 1 << 2;
+	private static final int UNSCULKED_STONE_CHEST = 1 << 3;
+	private static final SculkBehaviour STONE_CHEST_BEHAVIOUR = new BooleanPropertySculkBehavior(RegisterProperties.HAS_SCULK, true);
+
+	@Nullable
+	private static volatile int[] table;
+
+	private SculkReplacementLookup() {
+		throw new UnsupportedOperationException("SculkReplacementLookup contains only static declarations.");
+	}
+
+	public static void rebuild() {
+		int[] newTable = new int[Block.BLOCK_STATE_REGISTRY.size()];
+		for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+			newTable[Block.getId(state)] = computeFlags(state);
+		}
+		table = newTable;
+	}
+
+	private static int flags(@NotNull BlockState state) {
+		int[] currentTable = table;
+		if (currentTable == null) {
+			rebuild();
+			currentTable = table;
+		}
+		int id = Block.getId(state);
+		return id >= 0 && id < currentTable.length ? currentTable[id] : computeFlags(state);
+	}
+
+	private static int computeFlags(@NotNull BlockState state) {
+		int flags = 0;
+		if (state.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE) || state.is(WilderBlockTags.SCULK_WALL_REPLACEABLE) || state.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE)) {
+			flags |= REPLACEABLE;
+		}
+		if (state.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN) || state.is(WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN) || state.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN)) {
+			flags |= REPLACEABLE_WORLDGEN;
+		}
+		if (state.is(RegisterBlocks.STONE_CHEST)) {
+			flags |= STONE_CHEST;
+			if (!state.getValue(RegisterProperties.HAS_SCULK)) {
+				flags |= UNSCULKED_STONE_CHEST;
+			}
+		}
+		return flags;
+	}
+
+	/**
+	 * Returns true if the charge cursor can move into this state, before the vanilla checks run.
+	 */
+	public static boolean canCursorMoveInto(@NotNull BlockState state, boolean worldGeneration) {
+		return (flags(state) & (worldGeneration ? REPLACEABLE_WORLDGEN | UNSCULKED_STONE_CHEST : REPLACEABLE)) != 0;
+	}
+
+	/**
+	 * Returns the shared behaviour that replaces this state with sculk, or {@code null} if vanilla's should be used.
+	 */
+	@Nullable
+	public static SculkBehaviour getBehaviour(@NotNull BlockState state, boolean worldGeneration) {
+		int flags = flags(state);
+		if (worldGeneration) {
+			if ((flags & REPLACEABLE_WORLDGEN) != 0) {
+				return SlabWallStairSculkBehavior.INSTANCE;
+			}
+			return (flags & STONE_CHEST) != 0 ? STONE_CHEST_BEHAVIOUR : null;
+		}
+		return (flags & REPLACEABLE) != 0 ? SlabWallStairSculkBehavior.INSTANCE : null;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc;
+
+import net.frozenblock.wilderwild.misc.interfaces.SculkSensorTickInterface;
+import net.frozenblock.wilderwild.registry.RegisterProperties;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.block.state.properties.SculkSensorPhase;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps the tendril animation and hiccup particles of Sculk Sensors in sync without sending block entity data.
+ * <p>
+ * Whether a sensor is active and hiccupping is already known to the client through its block state,
+ * so only the start of a tendril animation is sent, as a block event.
+ */
+public final class SculkSensorEffects {
+	public static final int ANIMATION_EVENT = 1;
+	private static final int HICCUP_COLOR = 5578058;
+
+	private SculkSensorEffects() {
+		throw new UnsupportedOperationException("SculkSensorEffects contains only static declarations.");
+	}
+
+	public static void startAnimation(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, int animTicks) {
+		if (level instanceof ServerLevel) {
+			level.blockEvent(pos, state.getBlock(), ANIMATION_EVENT, animTicks);
+		}
+	}
+
+	/**
+	 * @return whether the event was an animation event, so the server knows to send it to clients.
+	 */
+	public static boolean handleEvent(@NotNull SculkSensorTickInterface sensor, @NotNull Level level, int id, int param) {
+		if (id != ANIMATION_EVENT) {
+			return false;
+		}
+		if (level.isClientSide) {
+			sensor.wilderWild$setActive(true);
+			sensor.wilderWild$setAnimTicks(param);
+			sensor.wilderWild$setPrevAnimTicks(param);
+		}
+		return true;
+	}
+
+	public static void tickClient(@NotNull SculkSensorTickInterface sensor, @NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		sensor.wilderWild$setActive(state.getValue(BlockStateProperties.SCULK_SENSOR_PHASE) != SculkSensorPhase.INACTIVE);
+		if (state.getValue(RegisterProperties.HICCUPPING)) {
+			RandomSource random = level.random;
+			if (random.nextBoolean() && random.nextBoolean()) {
+				double x = (pos.getX() - 0.1) + (random.nextFloat() * 1.2);
+				double y = pos.getY() + random.nextFloat();
+				double z = (pos.getZ() - 0.1) + (random.nextFloat() * 1.2);
+				double red = (double) (HICCUP_COLOR >> 16 & 255) / 255.0D;
+				double green = (double) (HICCUP_COLOR >> 8 & 255) / 255.0D;
+				double blue = (double) (HICCUP_COLOR & 255) / 255.0D;
+				level.addParticle(ParticleTypes.ENTITY_EFFECT, x, y, z, red, green, blue);
+			}
+		}
+	}
+}
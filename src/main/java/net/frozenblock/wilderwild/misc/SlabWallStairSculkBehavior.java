@@ -37,6 +37,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class SlabWallStairSculkBehavior implements SculkBehaviour {
+	public static final SlabWallStairSculkBehavior INSTANCE = new SlabWallStairSculkBehavior();
 
 	public static void clearSculkVeins(@NotNull LevelAccessor level, @NotNull BlockPos pos) {
 		BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
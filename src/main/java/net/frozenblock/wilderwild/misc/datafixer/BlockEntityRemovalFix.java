@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc.datafixer;
+
+import com.mojang.datafixers.DataFix;
+import com.mojang.datafixers.TypeRewriteRule;
+import com.mojang.datafixers.schemas.Schema;
+import com.mojang.serialization.Dynamic;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.datafix.fixes.References;
+
+public class BlockEntityRemovalFix extends DataFix {
+
+	private static final String BLOCK_ENTITIES = "block_entities";
+
+	private final String name;
+	private final String blockEntityId;
+
+	public BlockEntityRemovalFix(Schema outputSchema, String name, ResourceLocation blockEntityId) {
+		this(outputSchema, name, blockEntityId.toString());
+	}
+
+	private BlockEntityRemovalFix(Schema outputSchema, String name, String blockEntityId) {
+		super(outputSchema, false);
+		this.name = name;
+		this.blockEntityId = blockEntityId;
+	}
+
+	private Dynamic<?> fix(Dynamic<?> dynamic) {
+		return dynamic.update(BLOCK_ENTITIES, blockEntities -> blockEntities.createList(
+			blockEntities.asStream().filter(blockEntity -> !blockEntity.get("id").asString("").equals(this.blockEntityId))
+		));
+	}
+
+	@Override
+	protected TypeRewriteRule makeRule() {
+		return this.writeFixAndRead(
+			this.name, this.getInputSchema().getType(References.CHUNK), this.getOutputSchema().getType(References.CHUNK), this::fix
+		);
+	}
+}
@@ -19,54 +19,53 @@
 package net.frozenblock.wilderwild.misc.server;
 
 import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.List;
+import java.util.Map;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.frozenblock.wilderwild.WilderWild;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class EasyPacket {
 
 	public static void sendJellySting(ServerPlayer player, boolean baby) {
-		FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+		FriendlyByteBuf byteBuf = EasyParticleBatch.startEvent(player, EasyParticleBatch.JELLY_STING);
 		byteBuf.writeBoolean(baby);
-		ServerPlayNetworking.send(player, WilderWild.JELLY_STING_PACKET, byteBuf);
 	}
 
 	public static class EasySeedPacket {
 		public static void createParticle(Level level, Vec3 pos, int count, boolean isMilkweed) {
 			if (level.isClientSide)
 				throw new IllegalStateException("Particle attempting spawning on THE CLIENT JESUS CHRIST WHAT THE HECK SPAWN ON SERVER NEXT TIME PLS");
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(pos.x);
-			byteBuf.writeDouble(pos.y);
-			byteBuf.writeDouble(pos.z);
-			byteBuf.writeVarInt(count);
-			byteBuf.writeBoolean(isMilkweed);
 			for (ServerPlayer player : PlayerLookup.around((ServerLevel) level, pos, 128)) {
-				ServerPlayNetworking.send(player, WilderWild.SEED_PACKET, byteBuf);
+				FriendlyByteBuf byteBuf = EasyParticleBatch.startEvent(player, EasyParticleBatch.SEED, pos);
+				byteBuf.writeVarInt(count);
+				byteBuf.writeBoolean(isMilkweed);
 			}
 		}
 
 		public static void createControlledParticle(Level level, Vec3 pos, double xvel, double yvel, double zvel, int count, boolean isMilkweed, int radius, double posRandomizer) {
 			if (level.isClientSide)
 				throw new IllegalStateException("Particle attempting spawning on THE CLIENT JESUS CHRIST WHAT THE HECK SPAWN ON SERVER NEXT TIME PLS");
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(pos.x);
-			byteBuf.writeDouble(pos.y);
-			byteBuf.writeDouble(pos.z);
-			byteBuf.writeDouble(xvel * 1.5);
-			byteBuf.writeDouble(yvel);
-			byteBuf.writeDouble(zvel * 1.5);
-			byteBuf.writeVarInt(count);
-			byteBuf.writeBoolean(isMilkweed);
-			byteBuf.writeDouble(posRandomizer);
 			for (ServerPlayer player : PlayerLookup.around((ServerLevel) level, pos, radius)) {
-				ServerPlayNetworking.send(player, WilderWild.CONTROLLED_SEED_PACKET, byteBuf);
+				FriendlyByteBuf byteBuf = EasyParticleBatch.startEvent(player, EasyParticleBatch.CONTROLLED_SEED, pos);
+				byteBuf.writeFloat((float) (xvel * 1.5));
+				byteBuf.writeFloat((float) yvel);
+				byteBuf.writeFloat((float) (zvel * 1.5));
+				byteBuf.writeVarInt(count);
+				byteBuf.writeBoolean(isMilkweed);
+				byteBuf.writeFloat((float) posRandomizer);
 			}
 		}
 	}
@@ -75,45 +74,193 @@ public class EasyPacket {
 		public static void createParticle(Level level, Vec3 pos, double size, int maxAge, double yVel, int count) {
 			if (level.isClientSide)
 				throw new IllegalStateException("Particle attempting spawning on THE CLIENT JESUS CHRIST WHAT THE HECK SPAWN ON SERVER NEXT TIME PLS");
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(pos.x);
-			byteBuf.writeDouble(pos.y);
-			byteBuf.writeDouble(pos.z);
-			byteBuf.writeDouble(size);
-			byteBuf.writeInt(maxAge);
-			byteBuf.writeDouble(yVel);
-			byteBuf.writeVarInt(count);
 			for (ServerPlayer player : PlayerLookup.around((ServerLevel) level, pos, 32)) {
-				ServerPlayNetworking.send(player, WilderWild.FLOATING_SCULK_BUBBLE_PACKET, byteBuf);
+				FriendlyByteBuf byteBuf = EasyParticleBatch.startEvent(player, EasyParticleBatch.FLOATING_SCULK_BUBBLE, pos);
+				byteBuf.writeFloat((float) size);
+				byteBuf.writeVarInt(maxAge);
+				byteBuf.writeFloat((float) yVel);
+				byteBuf.writeVarInt(count);
 			}
 		}
 	}
 
-	public static class EasySensorHiccupPacket {
-		public static void createParticle(Level level, Vec3 pos) {
+	public static class EasyTermitePacket {
+		private static final double FULL_RATE_DISTANCE_SQR = 16D * 16D;
+		private static final double HALF_RATE_DISTANCE_SQR = 32D * 32D;
+
+		/**
+		 * Sends the particles of every termite of a mound as one event.
+		 * Players further than 16 blocks from the mound receive it every other tick, and players further than 32 blocks every fourth tick.
+		 */
+		public static void createParticles(@NotNull Level level, @NotNull BlockPos mound, @NotNull List<TermiteManager.Termite> termites) {
 			if (level.isClientSide)
-				throw new IllegalStateException("Particle attempting spawning on THE CLIENT JESUS CHRIST WHAT THE HECK SPAWN ON SERVER NEXT TIME STUPID IDIOT");
-			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(pos.x);
-			byteBuf.writeDouble(pos.y);
-			byteBuf.writeDouble(pos.z);
-			for (ServerPlayer player : PlayerLookup.around((ServerLevel) level, pos, 32)) {
-				ServerPlayNetworking.send(player, WilderWild.SENSOR_HICCUP_PACKET, byteBuf);
+				throw new IllegalStateException("Particle attempting spawning on THE CLIENT JESUS CHRIST WHAT THE HECK SPAWN ON SERVER NEXT TIME PLS");
+			if (termites.isEmpty()) {
+				return;
+			}
+			Vec3 center = Vec3.atCenterOf(mound);
+			long tick = level.getGameTime() + mound.hashCode();
+			int termiteCount = Math.min(termites.size(), 255);
+			for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, mound)) {
+				if (Math.floorMod(tick, emissionInterval(player.distanceToSqr(center))) != 0) {
+					continue;
+				}
+				FriendlyByteBuf byteBuf = EasyParticleBatch.startEvent(player, EasyParticleBatch.TERMITE_MOUND, center);
+				byteBuf.writeByte(termiteCount);
+				for (int i = 0; i < termiteCount; i++) {
+					TermiteManager.Termite termite = termites.get(i);
+					BlockPos pos = termite.getPos();
+					byteBuf.writeByte(pos.getX() - mound.getX());
+					byteBuf.writeByte(pos.getY() - mound.getY());
+					byteBuf.writeByte(pos.getZ() - mound.getZ());
+					byteBuf.writeByte(termite.getEating() ? 4 : 6);
+				}
+			}
+		}
+
+		private static int emissionInterval(double distanceSqr) {
+			if (distanceSqr <= FULL_RATE_DISTANCE_SQR) {
+				return 1;
 			}
+			return distanceSqr <= HALF_RATE_DISTANCE_SQR ? 2 : 4;
 		}
 	}
 
-	public static class EasyTermitePacket {
-		public static void createParticle(Level level, Vec3 pos, int count) {
-			if (level.isClientSide)
-				throw new IllegalStateException("Particle attempting spawning on THE CLIENT JESUS CHRIST WHAT THE HECK SPAWN ON SERVER NEXT TIME PLS");
+	/**
+	 * Collects every particle and sound event sent to a player during a tick into a single packet, flushed at the end of the server tick.
+	 * <p>
+	 * A batch starts with the origin of the section it was created around,
+	 * followed by events that each begin with their type and, if they have one, a position relative to that origin.
+	 * A batch is sent early once it grows past {@link #MAX_BATCH_BYTES}, or when an event is too far from its origin to be encoded,
+	 * so a busy tick becomes a few packets rather than one that exceeds the custom payload limit.
+	 */
+	public static class EasyParticleBatch {
+		public static final byte SEED = 0;
+		public static final byte CONTROLLED_SEED = 1;
+		public static final byte FLOATING_SCULK_BUBBLE = 2;
+		public static final byte TERMITE_MOUND = 4;
+		public static final byte JELLY_STING = 5;
+		public static final double POSITION_SCALE = 32D;
+		/**
+		 * Kept well below the 1 MiB limit on clientbound custom payloads, as a single event never takes more than a few KiB.
+		 */
+		public static final int MAX_BATCH_BYTES = 256 * 1024;
+		private static final double MAX_OFFSET = Short.MAX_VALUE / POSITION_SCALE;
+
+		private static final Map<ServerPlayer, Batch> BATCHES = new Reference2ObjectOpenHashMap<>();
+
+		@NotNull
+		private static FriendlyByteBuf startEvent(@NotNull ServerPlayer player, byte type) {
+			Batch batch = BATCHES.get(player);
+			if (batch == null || batch.isFull()) {
+				batch = startBatch(player, batch, null);
+			}
+			batch.byteBuf.writeByte(type);
+			return batch.byteBuf;
+		}
+
+		@NotNull
+		private static FriendlyByteBuf startEvent(@NotNull ServerPlayer player, byte type, @NotNull Vec3 pos) {
+			Batch batch = BATCHES.get(player);
+			if (batch == null || batch.isFull() || !canEncode(batch.origin, pos)) {
+				batch = startBatch(player, batch, pos);
+			}
+			BlockPos origin = batch.origin;
+			FriendlyByteBuf byteBuf = batch.byteBuf;
+			byteBuf.writeByte(type);
+			byteBuf.writeShort(quantize(pos.x - origin.getX()));
+			byteBuf.writeShort(quantize(pos.y - origin.getY()));
+			byteBuf.writeShort(quantize(pos.z - origin.getZ()));
+			return byteBuf;
+		}
+
+		/**
+		 * Sends the player's current batch, if any, and starts a new one around the player,
+		 * or around the first event's position if that is too far from the player to be encoded.
+		 */
+		@NotNull
+		private static Batch startBatch(@NotNull ServerPlayer player, @Nullable Batch previous, @Nullable Vec3 pos) {
+			if (previous != null) {
+				previous.send();
+			}
+			BlockPos origin = SectionPos.of(player).origin();
+			if (pos != null && !canEncode(origin, pos)) {
+				origin = SectionPos.of(BlockPos.containing(pos)).origin();
+			}
+			Batch batch = new Batch(player, origin);
+			BATCHES.put(player, batch);
+			return batch;
+		}
+
+		private static boolean canEncode(@NotNull BlockPos origin, @NotNull Vec3 pos) {
+			return Math.abs(pos.x - origin.getX()) <= MAX_OFFSET
+				&& Math.abs(pos.y - origin.getY()) <= MAX_OFFSET
+				&& Math.abs(pos.z - origin.getZ()) <= MAX_OFFSET;
+		}
+
+		private static int quantize(double offset) {
+			int quantized = (int) Math.round(offset * POSITION_SCALE);
+			if (quantized < Short.MIN_VALUE || quantized > Short.MAX_VALUE) {
+				throw new IllegalArgumentException("Particle offset " + offset + " is too far from its batch origin to be encoded");
+			}
+			return quantized;
+		}
+
+		public static void flush() {
+			if (BATCHES.isEmpty()) {
+				return;
+			}
+			for (Batch batch : BATCHES.values()) {
+				batch.send();
+			}
+			BATCHES.clear();
+		}
+
+		public static void clear() {
+			BATCHES.clear();
+		}
+
+		private static class Batch {
+			private final ServerPlayer player;
+			private final Level level;
+			private final BlockPos origin;
+			private final FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
+
+			private Batch(@NotNull ServerPlayer player, @NotNull BlockPos origin) {
+				this.player = player;
+				this.level = player.level();
+				this.origin = origin;
+				this.byteBuf.writeBlockPos(this.origin);
+			}
+
+			private boolean isFull() {
+				return this.byteBuf.writerIndex() >= MAX_BATCH_BYTES;
+			}
+
+			private void send() {
+				if (!this.player.hasDisconnected() && this.player.level() == this.level) {
+					ServerPlayNetworking.send(this.player, WilderWild.PARTICLE_BATCH_PACKET, this.byteBuf);
+				}
+			}
+		}
+	}
+
+	public static class EasyTermiteMoundSyncPacket {
+		public static void sendDelta(ServerLevel level, BlockPos mound, IntList removedIDs, List<TermiteManager.Termite> changedTermites) {
 			FriendlyByteBuf byteBuf = new FriendlyByteBuf(Unpooled.buffer());
-			byteBuf.writeDouble(pos.x);
-			byteBuf.writeDouble(pos.y);
-			byteBuf.writeDouble(pos.z);
-			byteBuf.writeVarInt(count);
-			for (ServerPlayer player : PlayerLookup.tracking((ServerLevel) level, BlockPos.containing(pos))) {
-				ServerPlayNetworking.send(player, WilderWild.TERMITE_PARTICLE_PACKET, byteBuf);
+			byteBuf.writeBlockPos(mound);
+			byteBuf.writeVarInt(removedIDs.size());
+			for (int i = 0; i < removedIDs.size(); i++) {
+				byteBuf.writeVarInt(removedIDs.getInt(i));
+			}
+			byteBuf.writeVarInt(changedTermites.size());
+			for (TermiteManager.Termite termite : changedTermites) {
+				byteBuf.writeVarInt(termite.getID());
+				byteBuf.writeBlockPos(termite.getPos());
+				byteBuf.writeBoolean(termite.getEating());
+			}
+			for (ServerPlayer player : PlayerLookup.tracking(level, mound)) {
+				ServerPlayNetworking.send(player, WilderWild.TERMITE_MOUND_SYNC_PACKET, byteBuf);
 			}
 		}
 	}
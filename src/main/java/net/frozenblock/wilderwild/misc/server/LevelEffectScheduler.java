@@ -0,0 +1,110 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc.server;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runs short-lived positional effects, such as particles, for a few ticks without spawning an entity for them.
+ * <p>
+ * Effects are kept per level, are never saved, and are dropped when the level unloads or the server stops.
+ */
+public final class LevelEffectScheduler {
+	public static final int MAX_EFFECTS_PER_LEVEL = 512;
+	private static final Map<ResourceKey<Level>, ArrayList<ScheduledEffect>> EFFECTS_PER_LEVEL = new HashMap<>();
+
+	private LevelEffectScheduler() {
+		throw new UnsupportedOperationException("LevelEffectScheduler contains only static declarations.");
+	}
+
+	/**
+	 * Schedules an effect at the given position, starting at the end of the next tick of {@code level}.
+	 * <p>
+	 * This is the first tick an entity spawned at the same moment would have been ticked on,
+	 * so effects that replace entities keep their timing whether they are scheduled during a level tick or between ticks.
+	 *
+	 * @return false if the level already has {@link #MAX_EFFECTS_PER_LEVEL} effects running.
+	 */
+	public static boolean schedule(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull Effect effect) {
+		ArrayList<ScheduledEffect> effects = EFFECTS_PER_LEVEL.computeIfAbsent(level.dimension(), key -> new ArrayList<>());
+		if (effects.size() >= MAX_EFFECTS_PER_LEVEL) {
+			return false;
+		}
+		effects.add(new ScheduledEffect(pos.immutable(), effect, level.getGameTime() + 1L));
+		return true;
+	}
+
+	public static void tick(@NotNull ServerLevel level) {
+		ArrayList<ScheduledEffect> effects = EFFECTS_PER_LEVEL.get(level.dimension());
+		if (effects == null || effects.isEmpty()) {
+			return;
+		}
+		long gameTime = level.getGameTime();
+		int size = effects.size();
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			ScheduledEffect scheduledEffect = effects.get(i);
+			if (gameTime < scheduledEffect.startTime || scheduledEffect.effect.tick(level, scheduledEffect.pos, scheduledEffect.ticks++)) {
+				effects.set(kept++, scheduledEffect);
+			}
+		}
+		// Effects scheduled by other effects this tick start running next tick anyway.
+		for (int i = size; i < effects.size(); i++) {
+			effects.set(kept++, effects.get(i));
+		}
+		effects.subList(kept, effects.size()).clear();
+	}
+
+	public static void clear(@NotNull ServerLevel level) {
+		EFFECTS_PER_LEVEL.remove(level.dimension());
+	}
+
+	public static void clearAll() {
+		EFFECTS_PER_LEVEL.clear();
+	}
+
+	@FunctionalInterface
+	public interface Effect {
+		/**
+		 * @param ticks how many times this effect has already been ticked.
+		 * @return whether the effect should keep running.
+		 */
+		boolean tick(@NotNull ServerLevel level, @NotNull BlockPos pos, int ticks);
+	}
+
+	private static final class ScheduledEffect {
+		private final BlockPos pos;
+		private final Effect effect;
+		private final long startTime;
+		private int ticks;
+
+		private ScheduledEffect(@NotNull BlockPos pos, @NotNull Effect effect, long startTime) {
+			this.pos = pos;
+			this.effect = effect;
+			this.startTime = startTime;
+		}
+	}
+}
@@ -51,11 +51,7 @@ public class TermiteSoundInstance<T extends TermiteMoundBlockEntity> extends Abs
 	@Nullable
 	public TermiteManager.Termite getTermite() {
 		if (this.mound != null && !this.mound.isRemoved()) {
-			for (TermiteManager.Termite termite : this.mound.termiteManager.termites()) {
-				if (termite.getID() == this.termiteID) {
-					return termite;
-				}
-			}
+			return this.mound.termiteManager.getTermite(this.termiteID);
 		}
 		return null;
 	}
@@ -74,7 +70,6 @@ public class TermiteSoundInstance<T extends TermiteMoundBlockEntity> extends Abs
 			this.y = pos.getY();
 			this.z = pos.getZ();
 			if (termite.getEating() != this.eating) {
-				this.mound.clientTermiteIDs.removeIf((i -> i == this.termiteID));
 				this.stop();
 			}
 		} else {
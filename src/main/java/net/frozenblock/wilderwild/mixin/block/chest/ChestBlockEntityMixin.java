@@ -18,9 +18,8 @@
 
 package net.frozenblock.wilderwild.mixin.block.chest;
 
-import net.frozenblock.wilderwild.entity.ChestBubbleTicker;
+import net.frozenblock.wilderwild.misc.ChestBubbles;
 import net.frozenblock.wilderwild.misc.interfaces.ChestBlockEntityInterface;
-import net.frozenblock.wilderwild.registry.RegisterEntities;
 import net.frozenblock.wilderwild.registry.RegisterSounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -92,11 +91,11 @@ public class ChestBlockEntityMixin implements ChestBlockEntityInterface {
 	public void wilderWild$bubble(Level level, BlockPos pos, BlockState state) {
 		if (level != null) {
 			if (this.wilderWild$canBubble && state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED)) {
-				ChestBubbleTicker.createAndSpawn(RegisterEntities.CHEST_BUBBLER, level, pos);
+				ChestBubbles.scheduleBubbles(level, pos);
 				this.wilderWild$canBubble = false;
 				ChestBlockEntity otherChest = wilderWild$getOtherEntity(level, pos, state);
 				if (otherChest != null) {
-					ChestBubbleTicker.createAndSpawn(RegisterEntities.CHEST_BUBBLER, level, otherChest.getBlockPos());
+					ChestBubbles.scheduleBubbles(level, otherChest.getBlockPos());
 					((ChestBlockEntityInterface) otherChest).wilderWild$setCanBubble(false);
 				}
 			}
@@ -19,15 +19,14 @@
 package net.frozenblock.wilderwild.mixin.item.brush;
 
 import net.frozenblock.wilderwild.block.ScorchedBlock;
-import net.frozenblock.wilderwild.block.entity.ScorchedBlockEntity;
 import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.BrushItem;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.BlockHitResult;
 import org.jetbrains.annotations.NotNull;
@@ -76,11 +75,10 @@ public class BrushItemMixin {
 
 	@Unique
 	private boolean wilderWild$brushScorchedBlocks(@NotNull Level level, LivingEntity livingEntity, @NotNull ItemStack stack) {
-		if (!level.isClientSide() && this.wilderWild$blockHitResult != null && this.wilderWild$blockState != null && livingEntity instanceof Player player) {
+		if (level instanceof ServerLevel serverLevel && this.wilderWild$blockHitResult != null && this.wilderWild$blockState != null && livingEntity instanceof Player player) {
 			BlockPos blockPos = this.wilderWild$blockHitResult.getBlockPos();
-			BlockEntity blockEntity = level.getBlockEntity(blockPos);
-			if (blockEntity instanceof ScorchedBlockEntity scorchedBlockEntity && this.wilderWild$blockState.getBlock() instanceof ScorchedBlock scorchedBlock && scorchedBlock.canBrush) {
-				boolean shouldDegrade = scorchedBlockEntity.brush(level.getGameTime());
+			if (this.wilderWild$blockState.getBlock() instanceof ScorchedBlock scorchedBlock && scorchedBlock.canBrush && serverLevel.getBlockState(blockPos).is(scorchedBlock)) {
+				boolean shouldDegrade = scorchedBlock.brush(serverLevel, blockPos, level.getGameTime());
 				if (shouldDegrade) {
 					EquipmentSlot equipmentSlot = stack.equals(player.getItemBySlot(EquipmentSlot.OFFHAND)) ? EquipmentSlot.OFFHAND : EquipmentSlot.MAINHAND;
 					stack.hurtAndBreak(1, livingEntity, (entity) -> entity.broadcastBreakEvent(equipmentSlot));
@@ -18,20 +18,15 @@
 
 package net.frozenblock.wilderwild.mixin.sculk;
 
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.misc.SculkSensorEffects;
 import net.frozenblock.wilderwild.misc.interfaces.SculkSensorTickInterface;
-import net.frozenblock.wilderwild.misc.server.EasyPacket;
 import net.frozenblock.wilderwild.registry.RegisterGameEvents;
 import net.frozenblock.wilderwild.registry.RegisterProperties;
 import net.frozenblock.wilderwild.registry.RegisterSounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.SculkSensorBlock;
@@ -43,7 +38,6 @@ import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.SculkSensorPhase;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.level.gameevent.vibrations.VibrationSystem;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
@@ -60,14 +54,7 @@ public abstract class CalibratedSculkSensorBlockEntityMixin extends BlockEntity
 	public void wilderWild$tickServer(ServerLevel level, BlockPos pos, BlockState state) {
 		CalibratedSculkSensorBlockEntity sensor = CalibratedSculkSensorBlockEntity.class.cast(this);
 		VibrationSystem.Ticker.tick(level, sensor.getVibrationData(), sensor.createVibrationUser());
-		boolean bl2 = level.random.nextBoolean();
 		if (state.getValue(RegisterProperties.HICCUPPING)) {
-			if (bl2) {
-				double x = (pos.getX() - 0.1) + (level.random.nextFloat() * 1.2);
-				double y = pos.getY() + level.random.nextFloat();
-				double z = (pos.getZ() - 0.1) + (level.random.nextFloat() * 1.2);
-				EasyPacket.EasySensorHiccupPacket.createParticle(level, new Vec3(x, y, z));
-			}
 			if (SculkSensorBlock.canActivate(state) && level.random.nextInt(320) <= 1) {
 				((SculkSensorBlock) state.getBlock()).activate(null, level, pos, state, AdvancedMath.random().nextInt(15), sensor.getLastVibrationFrequency());
 				level.gameEvent(null, GameEvent.SCULK_SENSOR_TENDRILS_CLICKING, pos);
@@ -82,20 +69,13 @@ public abstract class CalibratedSculkSensorBlockEntityMixin extends BlockEntity
 		}
 		this.wilderWild$setAge(this.wilderWild$getAge() + 1);
 		this.wilderWild$setActive(state.getValue(BlockStateProperties.SCULK_SENSOR_PHASE) != SculkSensorPhase.INACTIVE);
-		if (this.wilderWild$isActive() != this.wilderWild$isPrevActive() || animTicks == 10) {
-			Packet<ClientGamePacketListener> sensorUpdatePacket = sensor.getUpdatePacket();
-			if (sensorUpdatePacket != null) {
-				for (ServerPlayer player : PlayerLookup.tracking(level, pos)) {
-					player.connection.send(sensorUpdatePacket);
-				}
-			}
-		}
 		this.wilderWild$setPrevActive(this.wilderWild$isActive());
 	}
 
 	@Unique
 	@Override
 	public void wilderWild$tickClient(Level level, BlockPos pos, BlockState state) {
+		SculkSensorEffects.tickClient(this, level, pos, state);
 		int animTicks = this.wilderWild$getAnimTicks();
 		this.wilderWild$setPrevAnimTicks(animTicks);
 		if (animTicks > 0) {
@@ -105,12 +85,6 @@ public abstract class CalibratedSculkSensorBlockEntityMixin extends BlockEntity
 		this.wilderWild$setAge(this.wilderWild$getAge() + 1);
 	}
 
-	@Unique
-	@Override
-	public ClientboundBlockEntityDataPacket getUpdatePacket() {
-		return ClientboundBlockEntityDataPacket.create(CalibratedSculkSensorBlockEntity.class.cast(this));
-	}
-
 	@Unique
 	@Override
 	@NotNull
@@ -19,17 +19,24 @@
 package net.frozenblock.wilderwild.mixin.sculk;
 
 import com.llamalad7.mixinextras.injector.ModifyExpressionValue;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import com.llamalad7.mixinextras.sugar.Share;
+import com.llamalad7.mixinextras.sugar.ref.LocalRef;
 import java.util.Iterator;
-import java.util.Optional;
 import net.frozenblock.lib.math.api.EasyNoiseSampler;
 import net.frozenblock.wilderwild.block.OsseousSculkBlock;
+import net.frozenblock.wilderwild.misc.SculkGrowthContext;
 import net.frozenblock.wilderwild.misc.SlabWallStairSculkBehavior;
 import net.frozenblock.wilderwild.registry.RegisterBlocks;
 import net.frozenblock.wilderwild.tag.WilderBlockTags;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
 import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -39,14 +46,13 @@ import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.ModifyArgs;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
-import org.spongepowered.asm.mixin.injection.invoke.arg.Args;
 
 @Mixin(value = SculkBlock.class, priority = 69420)
 public abstract class SculkBlockMixin {
@@ -92,30 +98,6 @@ public abstract class SculkBlockMixin {
 	@Unique
 	private static final double WILDERWILD$OSSEOUS_SCULK_WORLD_GEN_THRESHOLD = 0.16;
 
-	@Unique
-	private boolean wilderWild$isPlacingBelow;
-
-	@Unique
-	private boolean wilderWild$canPlaceOsseousSculk;
-	@Unique
-	private BlockPos wilderWild$placementPos = null;
-	@Unique
-	private BlockState wilderWild$placementState = null;
-	@Unique
-	private Optional<Integer> wilderWild$additionalGrowthCost = Optional.empty();
-	@Unique
-	private boolean wilderWild$isWorldgen;
-	@Unique
-	private boolean wilderWild$canPlace;
-	@Unique
-	private LevelAccessor wilderWild$level;
-	@Unique
-	private RandomSource wilderWild$randomSource;
-	@Unique
-	private BlockPos wilderWild$placedPos;
-	@Unique
-	private BlockState wilderWild$placedState;
-
 	@Inject(method = "canPlaceGrowth", at = @At("HEAD"), cancellable = true)
 	private static void wilderWild$canPlaceGrowth(LevelAccessor level, BlockPos pos, CallbackInfoReturnable<Boolean> info) {
 		if (!level.getBlockState(pos).isFaceSturdy(level, pos, Direction.UP)) {
@@ -143,125 +125,122 @@ public abstract class SculkBlockMixin {
 	}
 
 	@Unique
-	private static boolean wilderWild$canPlaceOsseousSculk(BlockPos pos, boolean worldGen, LevelAccessor level) {
+	private static boolean wilderWild$canPlaceOsseousSculk(BlockPos pos, boolean worldGen, LevelAccessor level, RandomSource random) {
 		if (worldGen) {
 			if (!wilderWild$ancientCityOrPillarNearby(level, pos)) {
 				return EasyNoiseSampler.sample(EasyNoiseSampler.perlinXoro, pos, WILDERWILD$OSSEOUS_SCULK_AREA_SIZE, true, true) > WILDERWILD$OSSEOUS_SCULK_WORLD_GEN_THRESHOLD;
 			}
 			return false;
 		}
-		return level.getRandom().nextInt(0, 7) == 3;
+		return random.nextInt(0, 7) == 3;
 	}
 
 	@ModifyExpressionValue(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/SculkBlock;canPlaceGrowth(Lnet/minecraft/world/level/LevelAccessor;Lnet/minecraft/core/BlockPos;)Z"))
-	private boolean wilderWild$newWorldgenCharge(boolean original, SculkSpreader.ChargeCursor chargeCursor, LevelAccessor levelAccessor, BlockPos blockPos, RandomSource randomSource, SculkSpreader sculkSpreader, boolean bl) {
-		return this.wilderWild$canPlaceGrowth(levelAccessor, chargeCursor.getPos(), sculkSpreader.isWorldGeneration()) || original;
+	private boolean wilderWild$newWorldgenCharge(boolean original, SculkSpreader.ChargeCursor chargeCursor, LevelAccessor levelAccessor, BlockPos blockPos, RandomSource randomSource, SculkSpreader sculkSpreader, boolean bl, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		SculkGrowthContext context = new SculkGrowthContext(sculkSpreader.isWorldGeneration());
+		contextRef.set(context);
+		return wilderWild$canPlaceGrowth(context, levelAccessor, chargeCursor.getPos(), randomSource) || original;
 	}
 
 	@Inject(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/SculkBlock;getRandomGrowthState(Lnet/minecraft/world/level/LevelAccessor;Lnet/minecraft/core/BlockPos;Lnet/minecraft/util/RandomSource;Z)Lnet/minecraft/world/level/block/state/BlockState;", shift = At.Shift.BEFORE), locals = LocalCapture.CAPTURE_FAILHARD)
-	private void wilderWild$getPlacementState(SculkSpreader.ChargeCursor charge, LevelAccessor level, BlockPos catalystPos, RandomSource random, SculkSpreader sculkChargeHandler, boolean spread, CallbackInfoReturnable<Integer> info, int chargeAmount, BlockPos chargePos, boolean bl, int growthSpawnCost, BlockPos aboveChargePos) {
-		this.wilderWild$placementState = null;
-		this.wilderWild$placementPos = null;
-		this.wilderWild$additionalGrowthCost = Optional.empty();
-		this.wilderWild$isWorldgen = sculkChargeHandler.isWorldGeneration();
-		this.wilderWild$level = level;
-		this.wilderWild$randomSource = random;
-
-		if (this.wilderWild$isPlacingBelow) {
+	private void wilderWild$getPlacementState(SculkSpreader.ChargeCursor charge, LevelAccessor level, BlockPos catalystPos, RandomSource random, SculkSpreader sculkChargeHandler, boolean spread, CallbackInfoReturnable<Integer> info, int chargeAmount, BlockPos chargePos, boolean bl, int growthSpawnCost, BlockPos aboveChargePos, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		SculkGrowthContext context = contextRef.get();
+		if (context.isPlacingBelow) {
 			BlockPos belowCharge = chargePos.below();
-			if (this.wilderWild$canPlaceOsseousSculk) {
+			if (context.canPlaceOsseousSculk) {
 				int pillarHeight = (int) Mth.clamp(EasyNoiseSampler.sample(EasyNoiseSampler.perlinXoro, belowCharge, WILDERWILD$RANDOMNESS, false, false) * WILDERWILD$HEIGHT_MULTIPLIER, 2, WILDERWILD$MAX_HEIGHT);
-				this.wilderWild$placementState = RegisterBlocks.OSSEOUS_SCULK.defaultBlockState().setValue(OsseousSculkBlock.HEIGHT_LEFT, pillarHeight).setValue(OsseousSculkBlock.TOTAL_HEIGHT, pillarHeight + 1).setValue(OsseousSculkBlock.FACING, Direction.DOWN);
+				context.placementState = RegisterBlocks.OSSEOUS_SCULK.defaultBlockState().setValue(OsseousSculkBlock.HEIGHT_LEFT, pillarHeight).setValue(OsseousSculkBlock.TOTAL_HEIGHT, pillarHeight + 1).setValue(OsseousSculkBlock.FACING, Direction.DOWN);
 			} else {
-				this.wilderWild$placementState = RegisterBlocks.HANGING_TENDRIL.defaultBlockState();
+				context.placementState = RegisterBlocks.HANGING_TENDRIL.defaultBlockState();
 			}
-			this.wilderWild$placementPos = belowCharge;
-			this.wilderWild$additionalGrowthCost = Optional.of(1);
+			context.placementPos = belowCharge;
+			context.additionalGrowthCost = 1;
 		}
 
-		if (this.wilderWild$isWorldgen && this.wilderWild$placementState != null && this.wilderWild$placementState.is(RegisterBlocks.OSSEOUS_SCULK)) {
-			this.wilderWild$additionalGrowthCost = Optional.of(growthSpawnCost + 2);
+		if (context.isWorldGen && context.placementState != null && context.placementState.is(RegisterBlocks.OSSEOUS_SCULK)) {
+			context.additionalGrowthCost = growthSpawnCost + 2;
 		}
 
 		BlockState chargePosState = level.getBlockState(chargePos);
-		if ((this.wilderWild$isWorldgen && chargePosState.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN)) || chargePosState.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE)) {
-			this.wilderWild$placementState = RegisterBlocks.SCULK_STAIRS.withPropertiesOf(chargePosState);
-		} else if ((this.wilderWild$isWorldgen && chargePosState.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN)) || chargePosState.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE)) {
-			this.wilderWild$placementState = RegisterBlocks.SCULK_SLAB.withPropertiesOf(chargePosState);
-		} else if ((this.wilderWild$isWorldgen && chargePosState.is(WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN)) || chargePosState.is(WilderBlockTags.SCULK_WALL_REPLACEABLE)) {
-			this.wilderWild$placementState = RegisterBlocks.SCULK_WALL.withPropertiesOf(chargePosState);
+		if ((context.isWorldGen && chargePosState.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN)) || chargePosState.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE)) {
+			context.placementState = RegisterBlocks.SCULK_STAIRS.withPropertiesOf(chargePosState);
+		} else if ((context.isWorldGen && chargePosState.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN)) || chargePosState.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE)) {
+			context.placementState = RegisterBlocks.SCULK_SLAB.withPropertiesOf(chargePosState);
+		} else if ((context.isWorldGen && chargePosState.is(WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN)) || chargePosState.is(WilderBlockTags.SCULK_WALL_REPLACEABLE)) {
+			context.placementState = RegisterBlocks.SCULK_WALL.withPropertiesOf(chargePosState);
 		}
 
-		this.wilderWild$canPlace = this.wilderWild$placementState != null && this.wilderWild$placementPos != null;
+		context.canPlace = context.placementState != null && context.placementPos != null;
 	}
 
-	@ModifyArgs(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/LevelAccessor;setBlock(Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;I)Z"))
-	private void wilderWild$newPlace(Args args) {
-		if (this.wilderWild$canPlace) {
-			args.set(0, this.wilderWild$placementPos);
-			args.set(1, this.wilderWild$placementState);
+	@WrapOperation(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/LevelAccessor;setBlock(Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/level/block/state/BlockState;I)Z"))
+	private boolean wilderWild$newPlace(LevelAccessor level, BlockPos pos, BlockState state, int flags, Operation<Boolean> operation, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		SculkGrowthContext context = contextRef.get();
+		if (context.canPlace) {
+			pos = context.placementPos;
+			state = context.placementState;
 		}
-		this.wilderWild$placedPos = args.get(0);
-		this.wilderWild$placedState = args.get(1);
+		context.placedPos = pos;
+		context.placedState = state;
+		return operation.call(level, pos, state, flags);
 	}
 
-	@ModifyArgs(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/LevelAccessor;playSound(Lnet/minecraft/world/entity/player/Player;Lnet/minecraft/core/BlockPos;Lnet/minecraft/sounds/SoundEvent;Lnet/minecraft/sounds/SoundSource;FF)V"))
-	private void wilderWild$newSounds(Args args) {
-		if(this.wilderWild$placedState == null) {
-			return;
+	@WrapOperation(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/LevelAccessor;playSound(Lnet/minecraft/world/entity/player/Player;Lnet/minecraft/core/BlockPos;Lnet/minecraft/sounds/SoundEvent;Lnet/minecraft/sounds/SoundSource;FF)V"))
+	private void wilderWild$newSounds(LevelAccessor level, @Nullable Player player, BlockPos pos, SoundEvent sound, SoundSource source, float volume, float pitch, Operation<Void> operation, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		SculkGrowthContext context = contextRef.get();
+		if (context.placedState != null) {
+			SoundType soundType = context.placedState.getSoundType();
+			pos = context.placedPos;
+			sound = soundType.getPlaceSound();
+			volume = soundType.getVolume();
+			pitch = soundType.getPitch();
 		}
-		args.set(1, this.wilderWild$placedPos);
-		SoundType soundType = this.wilderWild$placedState.getSoundType();
-		args.set(2, soundType.getPlaceSound());
-		args.set(4, soundType.getVolume());
-		args.set(5, soundType.getPitch());
+		operation.call(level, player, pos, sound, source, volume, pitch);
 	}
 
 	@Inject(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/LevelAccessor;playSound(Lnet/minecraft/world/entity/player/Player;Lnet/minecraft/core/BlockPos;Lnet/minecraft/sounds/SoundEvent;Lnet/minecraft/sounds/SoundSource;FF)V", shift = At.Shift.AFTER))
-	private void wilderWild$handlePlacement(SculkSpreader.ChargeCursor chargeCursor, LevelAccessor levelAccessor, BlockPos blockPos, RandomSource randomSource, SculkSpreader sculkSpreader, boolean bl, CallbackInfoReturnable<Integer> cir) {
-		if(this.wilderWild$placedState == null) {
+	private void wilderWild$handlePlacement(SculkSpreader.ChargeCursor chargeCursor, LevelAccessor levelAccessor, BlockPos blockPos, RandomSource randomSource, SculkSpreader sculkSpreader, boolean bl, CallbackInfoReturnable<Integer> cir, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		SculkGrowthContext context = contextRef.get();
+		if (context.placedState == null) {
 			return;
 		}
-		if (this.wilderWild$isWorldgen && this.wilderWild$placedState.getBlock() instanceof OsseousSculkBlock osseousSculkBlock) {
-			int growthAmount = Math.max(0, this.wilderWild$placedState.getValue(OsseousSculkBlock.HEIGHT_LEFT) - this.wilderWild$randomSource.nextInt(2));
-			for (int a = 0; a < growthAmount; a++) {
-				osseousSculkBlock.worldGenSpread(this.wilderWild$placedPos, this.wilderWild$level, this.wilderWild$randomSource);
-			}
-		} else if (this.wilderWild$placedState.is(RegisterBlocks.SCULK_STAIRS) || this.wilderWild$placedState.is(RegisterBlocks.SCULK_SLAB) || this.wilderWild$placedState.is(RegisterBlocks.SCULK_WALL)) {
-			SlabWallStairSculkBehavior.clearSculkVeins(levelAccessor, this.wilderWild$placedPos);
+		if (context.isWorldGen && context.placedState.getBlock() instanceof OsseousSculkBlock osseousSculkBlock) {
+			int growthAmount = Math.max(0, context.placedState.getValue(OsseousSculkBlock.HEIGHT_LEFT) - randomSource.nextInt(2));
+			osseousSculkBlock.worldGenSpread(context.placedPos, levelAccessor, randomSource, growthAmount);
+		} else if (context.placedState.is(RegisterBlocks.SCULK_STAIRS) || context.placedState.is(RegisterBlocks.SCULK_SLAB) || context.placedState.is(RegisterBlocks.SCULK_WALL)) {
+			SlabWallStairSculkBehavior.clearSculkVeins(levelAccessor, context.placedPos);
 		}
-		this.wilderWild$level = null;
-		this.wilderWild$randomSource = null;
-		this.wilderWild$placedPos = null;
-		this.wilderWild$placedState = null;
 	}
 
 	@ModifyExpressionValue(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Ljava/lang/Math;max(II)I"))
-	private int wilderWild$newReturnValue(int original) {
-		return this.wilderWild$additionalGrowthCost.map(integer -> original + integer).orElse(original);
+	private int wilderWild$newReturnValue(int original, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		SculkGrowthContext context = contextRef.get();
+		return context != null ? original + context.additionalGrowthCost : original;
 	}
 
-	@Inject(method = "getRandomGrowthState", at = @At(value = "RETURN", shift = At.Shift.BEFORE), locals = LocalCapture.CAPTURE_FAILHARD, cancellable = true)
-	private void wilderWild$getRandomGrowthState(LevelAccessor level, BlockPos pos, RandomSource random, boolean randomize, CallbackInfoReturnable<BlockState> info, BlockState blockState) {
-		if (this.wilderWild$canPlaceOsseousSculk && !blockState.is(Blocks.SCULK_SHRIEKER)) {
+	@ModifyExpressionValue(method = "attemptUseCharge", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/SculkBlock;getRandomGrowthState(Lnet/minecraft/world/level/LevelAccessor;Lnet/minecraft/core/BlockPos;Lnet/minecraft/util/RandomSource;Z)Lnet/minecraft/world/level/block/state/BlockState;"))
+	private BlockState wilderWild$getRandomGrowthState(BlockState original, SculkSpreader.ChargeCursor chargeCursor, LevelAccessor level, BlockPos catalystPos, RandomSource random, SculkSpreader spreader, boolean shouldConvertToBlock, @Share("wilderWild$context") LocalRef<SculkGrowthContext> contextRef) {
+		if (contextRef.get().canPlaceOsseousSculk && !original.is(Blocks.SCULK_SHRIEKER)) {
+			BlockPos pos = chargeCursor.getPos().above();
 			int pillarHeight = (int) Mth.clamp(EasyNoiseSampler.sampleAbs(EasyNoiseSampler.perlinXoro, pos, WILDERWILD$RANDOMNESS, false, false) * WILDERWILD$HEIGHT_MULTIPLIER, 2, WILDERWILD$MAX_HEIGHT);
-			blockState = RegisterBlocks.OSSEOUS_SCULK.defaultBlockState().setValue(OsseousSculkBlock.HEIGHT_LEFT, pillarHeight).setValue(OsseousSculkBlock.TOTAL_HEIGHT, pillarHeight + 1);
-			info.setReturnValue(blockState.hasProperty(BlockStateProperties.WATERLOGGED) && !level.getFluidState(pos).isEmpty() ? blockState.setValue(BlockStateProperties.WATERLOGGED, true) : blockState);
+			BlockState blockState = RegisterBlocks.OSSEOUS_SCULK.defaultBlockState().setValue(OsseousSculkBlock.HEIGHT_LEFT, pillarHeight).setValue(OsseousSculkBlock.TOTAL_HEIGHT, pillarHeight + 1);
+			return blockState.hasProperty(BlockStateProperties.WATERLOGGED) && !level.getFluidState(pos).isEmpty() ? blockState.setValue(BlockStateProperties.WATERLOGGED, true) : blockState;
 		}
+		return original;
 	}
 
 	@Unique
-	private boolean wilderWild$canPlaceGrowth(@NotNull LevelAccessor level, @NotNull BlockPos pos, boolean isWorldGen) {
-		this.wilderWild$canPlaceOsseousSculk = wilderWild$canPlaceOsseousSculk(pos, isWorldGen, level);
+	private static boolean wilderWild$canPlaceGrowth(@NotNull SculkGrowthContext context, @NotNull LevelAccessor level, @NotNull BlockPos pos, @NotNull RandomSource random) {
+		context.canPlaceOsseousSculk = wilderWild$canPlaceOsseousSculk(pos, context.isWorldGen, level, random);
 		if (level.getBlockState(pos).isFaceSturdy(level, pos, Direction.DOWN)) {
 			BlockState blockState = level.getBlockState(pos.below());
 			Block block = blockState.getBlock();
-			if ((blockState.isAir() || block == Blocks.WATER || (this.wilderWild$canPlaceOsseousSculk && block == Blocks.LAVA) || block == Blocks.SCULK_VEIN) && level.getRandom().nextFloat() >= 0.75F) {
-				this.wilderWild$isPlacingBelow = true;
+			if ((blockState.isAir() || block == Blocks.WATER || (context.canPlaceOsseousSculk && block == Blocks.LAVA) || block == Blocks.SCULK_VEIN) && random.nextFloat() >= 0.75F) {
+				context.isPlacingBelow = true;
 				return true;
 			}
 		}
-		this.wilderWild$isPlacingBelow = false;
+		context.isPlacingBelow = false;
 		return false;
 	}
 
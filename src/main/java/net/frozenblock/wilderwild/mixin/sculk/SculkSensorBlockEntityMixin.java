@@ -18,20 +18,15 @@
 
 package net.frozenblock.wilderwild.mixin.sculk;
 
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.misc.SculkSensorEffects;
 import net.frozenblock.wilderwild.misc.interfaces.SculkSensorTickInterface;
-import net.frozenblock.wilderwild.misc.server.EasyPacket;
 import net.frozenblock.wilderwild.registry.RegisterGameEvents;
 import net.frozenblock.wilderwild.registry.RegisterProperties;
 import net.frozenblock.wilderwild.registry.RegisterSounds;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
@@ -44,7 +39,6 @@ import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.SculkSensorPhase;
 import net.minecraft.world.level.gameevent.GameEvent;
 import net.minecraft.world.level.gameevent.vibrations.VibrationSystem;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
@@ -85,14 +79,7 @@ public abstract class SculkSensorBlockEntityMixin extends BlockEntity implements
 		SculkSensorBlockEntity sensor = SculkSensorBlockEntity.class.cast(this);
 		VibrationSystem.Ticker.tick(level, this.getVibrationData(), this.getVibrationUser());
 
-		boolean bl2 = level.random.nextBoolean();
 		if (state.getValue(RegisterProperties.HICCUPPING)) {
-			if (bl2) {
-				double x = (pos.getX() - 0.1) + (level.random.nextFloat() * 1.2);
-				double y = pos.getY() + level.random.nextFloat();
-				double z = (pos.getZ() - 0.1) + (level.random.nextFloat() * 1.2);
-				EasyPacket.EasySensorHiccupPacket.createParticle(level, new Vec3(x, y, z));
-			}
 			if (SculkSensorBlock.canActivate(state) && level.random.nextInt(320) <= 1) {
 				((SculkSensorBlock) state.getBlock()).activate(null, level, pos, state, AdvancedMath.random().nextInt(15), sensor.getLastVibrationFrequency());
 				level.gameEvent(null, GameEvent.SCULK_SENSOR_TENDRILS_CLICKING, pos);
@@ -107,20 +94,13 @@ public abstract class SculkSensorBlockEntityMixin extends BlockEntity implements
 		}
 		this.wilderWild$setAge(this.wilderWild$getAge() + 1);
 		this.wilderWild$setActive(state.getValue(BlockStateProperties.SCULK_SENSOR_PHASE) != SculkSensorPhase.INACTIVE);
-		if (this.wilderWild$isActive() != this.wilderWild$isPrevActive() || animTicks == 10) {
-			Packet<ClientGamePacketListener> sensorUpdatePacket = sensor.getUpdatePacket();
-			if (sensorUpdatePacket != null) {
-				for (ServerPlayer player : PlayerLookup.tracking(level, pos)) {
-					player.connection.send(sensorUpdatePacket);
-				}
-			}
-		}
 		this.wilderWild$setPrevActive(this.wilderWild$isActive());
 	}
 
 	@Unique
 	@Override
 	public void wilderWild$tickClient(Level level, BlockPos pos, BlockState state) {
+		SculkSensorEffects.tickClient(this, level, pos, state);
 		int animTicks = this.wilderWild$getAnimTicks();
 		this.wilderWild$setPrevAnimTicks(animTicks);
 		if (animTicks > 0) {
@@ -130,10 +110,9 @@ public abstract class SculkSensorBlockEntityMixin extends BlockEntity implements
 		this.wilderWild$setAge(this.wilderWild$getAge() + 1);
 	}
 
-	@Unique
 	@Override
-	public ClientboundBlockEntityDataPacket getUpdatePacket() {
-		return ClientboundBlockEntityDataPacket.create(SculkSensorBlockEntity.class.cast(this));
+	public boolean triggerEvent(int id, int type) {
+		return (this.level != null && SculkSensorEffects.handleEvent(this, this.level, id, type)) || super.triggerEvent(id, type);
 	}
 
 	@Unique
@@ -18,6 +18,7 @@
 
 package net.frozenblock.wilderwild.mixin.sculk;
 
+import net.frozenblock.wilderwild.misc.SculkSensorEffects;
 import net.frozenblock.wilderwild.misc.interfaces.SculkSensorTickInterface;
 import net.frozenblock.wilderwild.registry.RegisterProperties;
 import net.minecraft.core.BlockPos;
@@ -75,6 +76,7 @@ public abstract class SculkSensorBlockMixin extends BaseEntityBlock implements S
 		if (level.getBlockEntity(pos) instanceof SculkSensorBlockEntity blockEntity) {
 			((SculkSensorTickInterface) blockEntity).wilderWild$setActive(true);
 			((SculkSensorTickInterface) blockEntity).wilderWild$setAnimTicks(10);
+			SculkSensorEffects.startAnimation(level, pos, state, 10);
 		}
 	}
 
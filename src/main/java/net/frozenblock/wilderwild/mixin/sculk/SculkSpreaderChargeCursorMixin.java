@@ -22,13 +22,8 @@ import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import java.util.Iterator;
 import java.util.List;
-import net.frozenblock.lib.sculk.api.BooleanPropertySculkBehavior;
-import net.frozenblock.wilderwild.misc.SlabWallStairSculkBehavior;
-import net.frozenblock.wilderwild.registry.RegisterBlocks;
-import net.frozenblock.wilderwild.registry.RegisterProperties;
-import net.frozenblock.wilderwild.tag.WilderBlockTags;
+import net.frozenblock.wilderwild.misc.SculkReplacementLookup;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.LevelAccessor;
@@ -54,8 +49,7 @@ public class SculkSpreaderChargeCursorMixin {
 
 	@Inject(method = "isMovementUnobstructed", at = @At(value = "INVOKE", target = "Lnet/minecraft/core/BlockPos;subtract(Lnet/minecraft/core/Vec3i;)Lnet/minecraft/core/BlockPos;", shift = At.Shift.BEFORE), cancellable = true)
 	private static void wilderWild$isMovementUnobstructed(LevelAccessor level, BlockPos startPos, BlockPos spreadPos, CallbackInfoReturnable<Boolean> cir) {
-		BlockState cheatState = level.getBlockState(spreadPos);
-		if (cheatState.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE) || cheatState.is(WilderBlockTags.SCULK_WALL_REPLACEABLE) || cheatState.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE)) {
+		if (SculkReplacementLookup.canCursorMoveInto(level.getBlockState(spreadPos), false)) {
 			cir.setReturnValue(true);
 		}
 	}
@@ -64,8 +58,7 @@ public class SculkSpreaderChargeCursorMixin {
 	private static void wilderWild$getValidMovementPos(LevelAccessor level, BlockPos pos, RandomSource random, CallbackInfoReturnable<BlockPos> cir, BlockPos.MutableBlockPos mutable, BlockPos.MutableBlockPos mutable2, Iterator<Vec3i> var5, Vec3i vec3i) {
 		boolean canReturn = false;
 		BlockState state = level.getBlockState(mutable2);
-		boolean isInTags = state.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE) || state.is(WilderBlockTags.SCULK_WALL_REPLACEABLE) || state.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE);
-		if (isInTags && isMovementUnobstructed(level, pos, mutable2)) {
+		if (SculkReplacementLookup.canCursorMoveInto(state, false) && isMovementUnobstructed(level, pos, mutable2)) {
 			mutable.set(mutable2);
 			canReturn = true;
 			if (SculkVeinBlock.hasSubstrateAccess(level, state, mutable2)) {
@@ -78,29 +71,6 @@ public class SculkSpreaderChargeCursorMixin {
 		}
 	}
 
-	@Unique
-	@NotNull
-	private static boolean wilderWild$isMovementUnobstructedWorldgen(LevelAccessor level, BlockPos fromPos, BlockPos toPos) {
-		if (fromPos.distManhattan(toPos) == 1) {
-			return true;
-		}
-		BlockState cheatState = level.getBlockState(toPos);
-		if (cheatState.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN) || cheatState.is(WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN) || cheatState.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN) || (cheatState.is(RegisterBlocks.STONE_CHEST) && !cheatState.getValue(RegisterProperties.HAS_SCULK))) {
-			return true;
-		}
-		BlockPos blockPos = toPos.subtract(fromPos);
-		Direction direction = Direction.fromAxisAndDirection(Direction.Axis.X, blockPos.getX() < 0 ? Direction.AxisDirection.NEGATIVE : Direction.AxisDirection.POSITIVE);
-		Direction direction2 = Direction.fromAxisAndDirection(Direction.Axis.Y, blockPos.getY() < 0 ? Direction.AxisDirection.NEGATIVE : Direction.AxisDirection.POSITIVE);
-		Direction direction3 = Direction.fromAxisAndDirection(Direction.Axis.Z, blockPos.getZ() < 0 ? Direction.AxisDirection.NEGATIVE : Direction.AxisDirection.POSITIVE);
-		if (blockPos.getX() == 0) {
-			return isUnobstructed(level, fromPos, direction2) || isUnobstructed(level, fromPos, direction3);
-		}
-		if (blockPos.getY() == 0) {
-			return isUnobstructed(level, fromPos, direction) || isUnobstructed(level, fromPos, direction3);
-		}
-		return isUnobstructed(level, fromPos, direction) || isUnobstructed(level, fromPos, direction2);
-	}
-
 	@Unique
 	@NotNull
 	private static BlockPos wilderWild$getValidMovementPosWorldgen(LevelAccessor level, BlockPos pos, RandomSource random) {
@@ -109,18 +79,9 @@ public class SculkSpreaderChargeCursorMixin {
 		for (Vec3i vec3i : getRandomizedNonCornerNeighbourOffsets(random)) {
 			mutableBlockPos2.setWithOffset(pos, vec3i);
 			BlockState blockState = level.getBlockState(mutableBlockPos2);
-			boolean canReturn = false;
-			BlockState state = level.getBlockState(mutableBlockPos2);
-			boolean isInTags = state.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN) || state.is(WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN) || state.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN) || (state.is(RegisterBlocks.STONE_CHEST) && !state.getValue(RegisterProperties.HAS_SCULK));
-			if (isInTags && wilderWild$isMovementUnobstructedWorldgen(level, pos, mutableBlockPos2)) {
+			// Replaceable states always let the cursor through, so the worldgen movement check can be skipped for them.
+			if (SculkReplacementLookup.canCursorMoveInto(blockState, true)) {
 				mutableBlockPos.set(mutableBlockPos2);
-				canReturn = true;
-				if (SculkVeinBlock.hasSubstrateAccess(level, state, mutableBlockPos2)) {
-					return mutableBlockPos.equals(pos) ? null : mutableBlockPos;
-				}
-			}
-
-			if (canReturn) {
 				return mutableBlockPos.equals(pos) ? null : mutableBlockPos;
 			}
 			if (!(blockState.getBlock() instanceof SculkBehaviour) || !isMovementUnobstructed(level, pos, mutableBlockPos2))
@@ -143,11 +104,6 @@ public class SculkSpreaderChargeCursorMixin {
 		throw new AssertionError("Mixin injection failed - WilderWild SculkSpreaderChargeCursorMixin.");
 	}
 
-	@Shadow
-	private static boolean isUnobstructed(LevelAccessor level, BlockPos pos, Direction direction) {
-		throw new AssertionError("Mixin injection failed - WilderWild SculkSpreaderChargeCursorMixin.");
-	}
-
 	@Inject(method = "update", at = @At("HEAD"))
 	private void wilderWild$newSculkBehaviour(LevelAccessor level, BlockPos pos, RandomSource random, SculkSpreader spreader, boolean spread, CallbackInfo info) {
 		this.wilderWild$isWorldGen = spreader.isWorldGeneration();
@@ -155,18 +111,8 @@ public class SculkSpreaderChargeCursorMixin {
 
 	@WrapOperation(method = "update", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/SculkSpreader$ChargeCursor;getBlockBehaviour(Lnet/minecraft/world/level/block/state/BlockState;)Lnet/minecraft/world/level/block/SculkBehaviour;"))
 	private SculkBehaviour wilderWild$newSculkBehaviour(BlockState par1, Operation<SculkBehaviour> operation) {
-		if (this.wilderWild$isWorldGen) {
-			if (par1.is(WilderBlockTags.SCULK_WALL_REPLACEABLE_WORLDGEN) || par1.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE_WORLDGEN) || par1.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE_WORLDGEN)) {
-				return new SlabWallStairSculkBehavior();
-			} else if (par1.is(RegisterBlocks.STONE_CHEST)) {
-				return new BooleanPropertySculkBehavior(RegisterProperties.HAS_SCULK, true);
-			}
-		} else {
-			if (par1.is(WilderBlockTags.SCULK_WALL_REPLACEABLE) || par1.is(WilderBlockTags.SCULK_SLAB_REPLACEABLE) || par1.is(WilderBlockTags.SCULK_STAIR_REPLACEABLE)) {
-				return new SlabWallStairSculkBehavior();
-			}
-		}
-		return operation.call(par1);
+		SculkBehaviour behaviour = SculkReplacementLookup.getBehaviour(par1, this.wilderWild$isWorldGen);
+		return behaviour != null ? behaviour : operation.call(par1);
 	}
 
 	@WrapOperation(method = "update", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/block/SculkSpreader$ChargeCursor;getValidMovementPos(Lnet/minecraft/world/level/LevelAccessor;Lnet/minecraft/core/BlockPos;Lnet/minecraft/util/RandomSource;)Lnet/minecraft/core/BlockPos;"))
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.MultifaceBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Grows worldgen osseous sculk pillars for fixed seeds with the single pass {@link OsseousSculkBlock#worldGenSpread(BlockPos, LevelAccessor, RandomSource, int)}
+ * and with the one-block-per-call growth it replaced, which is kept here as the reference, checking that both leave
+ * the same blocks behind and draw the same amount of randomness.
+ */
+public class OsseousSculkGrowthTest {
+	private static final int PILLARS = 24;
+	private static final int FLOOR_Y = 64;
+	private static final int CEILING_Y = 84;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	/**
+	 * A sculk floor and ceiling with upward and hanging pillar bases, some sculk veins in the way, and water in one corner.
+	 */
+	@NotNull
+	private static BenchmarkWorld createWorld(long seed) {
+		BenchmarkWorld world = new BenchmarkWorld(seed);
+		RandomSource layout = RandomSource.create(seed);
+		world.fill(new BlockPos(-16, FLOOR_Y, -16), new BlockPos(16, FLOOR_Y, 16), Blocks.SCULK.defaultBlockState());
+		world.fill(new BlockPos(-16, CEILING_Y, -16), new BlockPos(16, CEILING_Y, 16), Blocks.SCULK.defaultBlockState());
+		world.fill(new BlockPos(8, FLOOR_Y + 1, 8), new BlockPos(16, CEILING_Y - 1, 16), Blocks.WATER.defaultBlockState());
+		for (int i = 0; i < 80; i++) {
+			BlockPos pos = new BlockPos(layout.nextInt(33) - 16, FLOOR_Y + 1 + layout.nextInt(CEILING_Y - FLOOR_Y - 1), layout.nextInt(33) - 16);
+			world.setBlock(pos, Blocks.SCULK_VEIN.defaultBlockState().setValue(MultifaceBlock.getFaceProperty(Direction.DOWN), true));
+		}
+		for (int i = 0; i < PILLARS; i++) {
+			boolean hanging = i % 3 == 0;
+			BlockPos pos = hanging ? pillarPos(i).atY(CEILING_Y - 1) : pillarPos(i);
+			int height = 2 + layout.nextInt(14);
+			world.setBlock(pos, RegisterBlocks.OSSEOUS_SCULK.defaultBlockState()
+				.setValue(OsseousSculkBlock.HEIGHT_LEFT, height)
+				.setValue(OsseousSculkBlock.TOTAL_HEIGHT, height + 1)
+				.setValue(OsseousSculkBlock.FACING, hanging ? Direction.DOWN : Direction.UP));
+		}
+		return world;
+	}
+
+	@NotNull
+	private static BlockPos pillarPos(int i) {
+		return new BlockPos((i % 6) * 5 - 14, FLOOR_Y + 1, (i / 6) * 5 - 14);
+	}
+
+	@NotNull
+	private static BlockPos basePos(@NotNull BenchmarkWorld world, int i) {
+		BlockPos pos = pillarPos(i);
+		return world.getBlockState(pos).is(RegisterBlocks.OSSEOUS_SCULK) ? pos : pos.atY(CEILING_Y - 1);
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {0L, 1L, 7L, 42L, 1337L, 123456789L})
+	public void singlePassMatchesPerBlockGrowth(long seed) {
+		BenchmarkWorld expectedWorld = createWorld(seed);
+		BenchmarkWorld actualWorld = createWorld(seed);
+		RandomSource expectedRandom = RandomSource.create(seed);
+		RandomSource actualRandom = RandomSource.create(seed);
+		OsseousSculkBlock block = RegisterBlocks.OSSEOUS_SCULK;
+
+		for (int i = 0; i < PILLARS; i++) {
+			BlockPos expectedBase = basePos(expectedWorld, i);
+			int expectedGrowth = Math.max(0, expectedWorld.getBlockState(expectedBase).getValue(OsseousSculkBlock.HEIGHT_LEFT) - expectedRandom.nextInt(2));
+			for (int a = 0; a < expectedGrowth; a++) {
+				ReferenceGrowth.worldGenSpread(block, expectedBase, expectedWorld.level(), expectedRandom);
+			}
+
+			BlockPos actualBase = basePos(actualWorld, i);
+			int actualGrowth = Math.max(0, actualWorld.getBlockState(actualBase).getValue(OsseousSculkBlock.HEIGHT_LEFT) - actualRandom.nextInt(2));
+			block.worldGenSpread(actualBase, actualWorld.level(), actualRandom, actualGrowth);
+
+			assertEquals(expectedWorld.copyBlocks(), actualWorld.copyBlocks(), "pillar " + i + " grew differently");
+		}
+		assertEquals(expectedRandom.nextLong(), actualRandom.nextLong(), "the single pass drew a different amount of randomness");
+
+		Long2ObjectMap<BlockState> blocks = actualWorld.copyBlocks();
+		long osseous = blocks.values().stream().filter(state -> state.is(RegisterBlocks.OSSEOUS_SCULK)).count();
+		assertTrue(osseous > PILLARS * 2L, "pillars barely grew, so the comparison proves little");
+	}
+
+	/**
+	 * The per-block worldgen growth as it was before it became a single pass.
+	 */
+	private static final class ReferenceGrowth {
+		private static void worldGenSpread(@NotNull OsseousSculkBlock block, @NotNull BlockPos blockPos, @NotNull ServerLevel level, @NotNull RandomSource random) {
+			BlockState firstState = level.getBlockState(blockPos);
+			if (firstState.is(block)) {
+				int pillarHeightLeft = firstState.getValue(OsseousSculkBlock.HEIGHT_LEFT);
+				if (pillarHeightLeft > 0) {
+					BlockPos topPos = getTop(block, level, blockPos, pillarHeightLeft);
+					if (topPos != null) {
+						BlockPos.MutableBlockPos mutableBlockPos = topPos.mutable();
+						BlockState state = level.getBlockState(topPos);
+						pillarHeightLeft = state.getValue(OsseousSculkBlock.HEIGHT_LEFT);
+						Direction direction = state.getValue(OsseousSculkBlock.FACING);
+						BlockState offsetState = level.getBlockState(mutableBlockPos.move(direction));
+						if (offsetState.isAir() || offsetState.getBlock() == Blocks.SCULK_VEIN) {
+							BlockState blockState = getGrowthState(block, random, pillarHeightLeft, state, direction);
+							if (blockState.getBlock() == block) {
+								blockState = blockState.setValue(OsseousSculkBlock.TOTAL_HEIGHT, state.getValue(OsseousSculkBlock.TOTAL_HEIGHT)).setValue(OsseousSculkBlock.FACING, direction);
+								if (direction == Direction.DOWN && random.nextDouble() > 0.8) {
+									Direction nextDirection = OsseousSculkBlock.getDir(OsseousSculkBlock.getAxis(random), random);
+									if (OsseousSculkBlock.isSafeToReplace(level.getBlockState(mutableBlockPos.setWithOffset(topPos, nextDirection)))) {
+										level.setBlock(mutableBlockPos, block.defaultBlockState().setValue(OsseousSculkBlock.FACING, nextDirection).setValue(OsseousSculkBlock.TOTAL_HEIGHT, state.getValue(OsseousSculkBlock.TOTAL_HEIGHT)).setValue(OsseousSculkBlock.HEIGHT_LEFT, 0), 3);
+										if (OsseousSculkBlock.isSafeToReplace(level.getBlockState(mutableBlockPos.move(Direction.DOWN)))) {
+											if (random.nextDouble() > 0.6) {
+												level.setBlock(mutableBlockPos, RegisterBlocks.HANGING_TENDRIL.defaultBlockState(), 3);
+											}
+										}
+									}
+								}
+							}
+							level.setBlock(mutableBlockPos.setWithOffset(topPos, direction), blockState, 3);
+							workOnBottom(block, level, topPos, state);
+						}
+					}
+				}
+			}
+		}
+
+		@NotNull
+		private static BlockState getGrowthState(@NotNull OsseousSculkBlock block, @NotNull RandomSource random, int pillarHeightLeft, @NotNull BlockState state, @NotNull Direction direction) {
+			BlockState blockState = block.defaultBlockState().setValue(OsseousSculkBlock.HEIGHT_LEFT, Math.max(0, pillarHeightLeft - 1));
+			if (
+				pillarHeightLeft == 1 && direction == Direction.UP && state.getValue(OsseousSculkBlock.TOTAL_HEIGHT) > 0
+					&& random.nextInt(Math.max(1, state.getValue(OsseousSculkBlock.TOTAL_HEIGHT) / 2)) <= 1
+					&& random.nextInt(11) == 0
+			) {
+				blockState = Blocks.SCULK_CATALYST.defaultBlockState();
+			}
+			return blockState;
+		}
+
+		private static void workOnBottom(@NotNull OsseousSculkBlock block, @NotNull LevelAccessor level, @NotNull BlockPos topPos, @NotNull BlockState state) {
+			BlockPos bottom = block.getBottom(level, topPos, state.getValue(OsseousSculkBlock.TOTAL_HEIGHT));
+			if (bottom != null) {
+				BlockState bottomState = level.getBlockState(bottom);
+				if (bottomState.is(block)) {
+					int total = bottomState.getValue(OsseousSculkBlock.TOTAL_HEIGHT);
+					if ((total) - bottomState.getValue(OsseousSculkBlock.HEIGHT_LEFT) <= total / 3) {
+						block.convertToSculk(level, bottom);
+					}
+				}
+			}
+		}
+
+		@Nullable
+		private static BlockPos getTop(@NotNull OsseousSculkBlock block, @NotNull LevelAccessor level, @NotNull BlockPos pos, int max) {
+			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
+			BlockPos.MutableBlockPos mutableBlockPos2 = pos.mutable();
+			for (int i = 0; i < max; i++) {
+				BlockState blockState = level.getBlockState(mutableBlockPos);
+				if (blockState.getBlock() != block) {
+					return null;
+				}
+				BlockState offsetState = level.getBlockState(mutableBlockPos2.move(blockState.getValue(OsseousSculkBlock.FACING)));
+				if (offsetState.isAir() || offsetState.getBlock() == Blocks.SCULK_VEIN) {
+					return mutableBlockPos.immutable();
+				}
+				mutableBlockPos.set(mutableBlockPos2);
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block;
+
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.block.entity.TermiteMoundBlockEntity;
+import net.frozenblock.wilderwild.registry.RegisterBlockEntities;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.frozenblock.wilderwild.registry.RegisterProperties;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+/**
+ * Measures how long a sleeping, tickerless termite mound takes to wake up after what put it to sleep goes away.
+ * <p>
+ * Neighbour changes must wake it on the same tick; light and day/night changes only reach it through its scheduled tick,
+ * so they must wake it within a few ticks.
+ */
+public class TermiteMoundWakeTest {
+	private static final BlockPos MOUND = new BlockPos(0, 64, 0);
+	private static final int MAX_SCHEDULE_DELAY = 5;
+
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private boolean night;
+	private int light;
+	private long time;
+	private long scheduledTick = -1L;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	public void setup() {
+		this.world = new BenchmarkWorld(0L);
+		this.level = this.world.level();
+		Mockito.when(this.level.isNight()).thenAnswer(invocation -> this.night);
+		Mockito.when(this.level.getMaxLocalRawBrightness(any())).thenAnswer(invocation -> this.light);
+		// Like LevelTicks, a tick that is already pending for the mound is kept and the new one is dropped.
+		Mockito.doAnswer(invocation -> {
+			if (this.scheduledTick < this.time) {
+				this.scheduledTick = this.time + (int) invocation.getArgument(2);
+			}
+			return null;
+		}).when(this.level).scheduleTick(any(BlockPos.class), any(Block.class), anyInt());
+	}
+
+	@NotNull
+	private BlockState placeMound(boolean awake) {
+		BlockState state = RegisterBlocks.TERMITE_MOUND.defaultBlockState()
+			.setValue(RegisterProperties.NATURAL, true)
+			.setValue(RegisterProperties.TERMITES_AWAKE, awake)
+			.setValue(RegisterProperties.CAN_SPAWN_TERMITE, true);
+		this.world.setBlock(MOUND, state);
+		RegisterBlocks.TERMITE_MOUND.onPlace(state, this.level, MOUND, Blocks.AIR.defaultBlockState(), false);
+		return state;
+	}
+
+	/**
+	 * Runs the mound's pending scheduled tick, which is taken off the schedule before it runs.
+	 */
+	private void runScheduledTick() {
+		this.scheduledTick = -1L;
+		RegisterBlocks.TERMITE_MOUND.tick(this.world.getBlockState(MOUND), this.level, MOUND, this.world.random());
+	}
+
+	@NotNull
+	private TermiteMoundBlockEntity addTermites(@NotNull BlockState state, int count) {
+		TermiteMoundBlockEntity mound = new TermiteMoundBlockEntity(MOUND, state);
+		mound.setLevel(this.level);
+		for (int i = 0; i < count; i++) {
+			mound.termiteManager.addTermite(MOUND);
+		}
+		Mockito.when(this.level.getBlockEntity(MOUND)).thenReturn(mound);
+		return mound;
+	}
+
+	private boolean hasTicker(@NotNull BlockState state) {
+		return RegisterBlocks.TERMITE_MOUND.getTicker(this.level, state, RegisterBlockEntities.TERMITE_MOUND) != null;
+	}
+
+	/**
+	 * Runs the mound's scheduled ticks until it is awake, returning how many ticks that took.
+	 */
+	private long ticksUntilAwake(long limit) {
+		long start = this.time;
+		while (this.time - start <= limit) {
+			if (this.time == this.scheduledTick) {
+				this.runScheduledTick();
+			}
+			if (this.world.getBlockState(MOUND).getValue(RegisterProperties.TERMITES_AWAKE)) {
+				return this.time - start;
+			}
+			this.time++;
+		}
+		return Long.MAX_VALUE;
+	}
+
+	@Test
+	public void unsafeNeighbourChangesApplyOnTheSameTick() {
+		BlockState state = this.placeMound(true);
+		assertTrue(this.hasTicker(state));
+
+		BlockPos neighbour = MOUND.east();
+		this.world.setBlock(neighbour, Blocks.WATER.defaultBlockState());
+		BlockState flooded = RegisterBlocks.TERMITE_MOUND.updateShape(state, Direction.EAST, Blocks.WATER.defaultBlockState(), this.level, MOUND, neighbour);
+		assertFalse(flooded.getValue(RegisterProperties.TERMITES_AWAKE));
+		assertTrue(TermiteMound.isDormant(flooded));
+		assertFalse(this.hasTicker(flooded));
+
+		this.world.setBlock(neighbour, Blocks.AIR.defaultBlockState());
+		BlockState drained = RegisterBlocks.TERMITE_MOUND.updateShape(flooded, Direction.EAST, Blocks.AIR.defaultBlockState(), this.level, MOUND, neighbour);
+		assertTrue(drained.getValue(RegisterProperties.TERMITES_AWAKE));
+		assertTrue(drained.getValue(RegisterProperties.CAN_SPAWN_TERMITE));
+		assertTrue(this.hasTicker(drained));
+	}
+
+	@Test
+	public void lightingANeighbourWakesOnTheSameTick() {
+		this.night = true;
+		BlockState state = this.placeMound(false);
+		assertTrue(TermiteMound.isDormant(state));
+		assertFalse(this.hasTicker(state));
+
+		BlockPos neighbour = MOUND.above();
+		this.world.setBlock(neighbour, Blocks.TORCH.defaultBlockState());
+		this.light = 14;
+		BlockState lit = RegisterBlocks.TERMITE_MOUND.updateShape(state, Direction.UP, Blocks.TORCH.defaultBlockState(), this.level, MOUND, neighbour);
+		assertTrue(lit.getValue(RegisterProperties.TERMITES_AWAKE));
+		assertTrue(this.hasTicker(lit));
+	}
+
+	@Test
+	public void sunriseWakesWithinAFewTicks() {
+		this.night = true;
+		this.placeMound(true);
+		assertTrue(this.scheduledTick >= 0L);
+		long fallAsleep = this.time;
+		while (this.world.getBlockState(MOUND).getValue(RegisterProperties.TERMITES_AWAKE)) {
+			assertTrue(this.time - fallAsleep <= MAX_SCHEDULE_DELAY, "mound took too long to fall asleep at night");
+			if (this.time == this.scheduledTick) {
+				this.runScheduledTick();
+			}
+			this.time++;
+		}
+		BlockState asleep = this.world.getBlockState(MOUND);
+		assertTrue(TermiteMound.isDormant(asleep));
+		assertFalse(this.hasTicker(asleep));
+
+		// Let the mound sleep through a few scheduled ticks before the sun comes up mid-interval.
+		this.time += 17L;
+		while (this.scheduledTick < this.time) {
+			this.time = this.scheduledTick;
+			this.runScheduledTick();
+			this.time++;
+		}
+		this.night = false;
+		long latency = this.ticksUntilAwake(MAX_SCHEDULE_DELAY);
+		assertTrue(latency <= MAX_SCHEDULE_DELAY, "mound took " + latency + " ticks to wake after sunrise");
+		assertNotNull(RegisterBlocks.TERMITE_MOUND.getTicker(this.level, this.world.getBlockState(MOUND), RegisterBlockEntities.TERMITE_MOUND));
+	}
+
+	@Test
+	public void dormantMoundStaysTickerless() {
+		this.night = true;
+		BlockState state = this.placeMound(false);
+		assertNull(RegisterBlocks.TERMITE_MOUND.getTicker(this.level, state, RegisterBlockEntities.TERMITE_MOUND));
+		BlockState stillDark = RegisterBlocks.TERMITE_MOUND.updateShape(state, Direction.NORTH, Blocks.STONE.defaultBlockState(), this.level, MOUND, MOUND.north());
+		assertFalse(stillDark.getValue(RegisterProperties.TERMITES_AWAKE));
+		assertNull(RegisterBlocks.TERMITE_MOUND.getTicker(this.level, stillDark, RegisterBlockEntities.TERMITE_MOUND));
+	}
+
+	@Test
+	public void floodingSendsTermitesHomeBeforeTheBlockChanges() {
+		BlockState state = this.placeMound(true);
+		TermiteMoundBlockEntity mound = this.addTermites(state, 3);
+
+		BlockPos neighbour = MOUND.east();
+		this.world.setBlock(neighbour, Blocks.WATER.defaultBlockState());
+		BlockState flooded = RegisterBlocks.TERMITE_MOUND.updateShape(state, Direction.EAST, Blocks.WATER.defaultBlockState(), this.level, MOUND, neighbour);
+		assertTrue(TermiteMound.isDormant(flooded));
+		assertTrue(mound.termiteManager.termites().isEmpty());
+
+		// The block entity no longer reacts to its state being set, so nothing happens inside the chunk's block change.
+		mound.termiteManager.addTermite(MOUND);
+		mound.setBlockState(flooded);
+		assertEquals(1, mound.termiteManager.termites().size());
+	}
+
+	@Test
+	public void nightfallSendsTermitesHomeBeforeTheBlockChanges() {
+		this.night = true;
+		BlockState state = this.placeMound(true);
+		TermiteMoundBlockEntity mound = this.addTermites(state, 3);
+		int[] termitesWhenSet = {-1};
+		Mockito.doAnswer(invocation -> {
+			termitesWhenSet[0] = mound.termiteManager.termites().size();
+			this.world.setBlock(invocation.getArgument(0), invocation.getArgument(1));
+			return true;
+		}).when(this.level).setBlock(any(), any(), anyInt());
+
+		this.time = this.scheduledTick;
+		this.runScheduledTick();
+		assertTrue(TermiteMound.isDormant(this.world.getBlockState(MOUND)));
+		assertEquals(0, termitesWhenSet[0]);
+		assertTrue(mound.termiteManager.termites().isEmpty());
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.block.HangingTendrilBlock;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Counts the block updates {@link HangingTendrilBlockEntity#serverTick} sends, checking that it only writes its state
+ * on the tick a twitch or wring-out actually ends.
+ */
+public class HangingTendrilUpdateTest {
+	private static final BlockPos POS = new BlockPos(0, 64, 0);
+	private static final int TICKS = 200;
+
+	private final List<BlockState> updates = new ArrayList<>();
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private HangingTendrilBlockEntity tendril;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	public void setup() {
+		this.world = new BenchmarkWorld(0L);
+		this.level = this.world.level();
+		Mockito.when(this.level.setBlockAndUpdate(any(), any())).thenAnswer(invocation -> {
+			BlockState state = invocation.getArgument(1);
+			this.world.setBlock(invocation.getArgument(0), state);
+			this.updates.add(state);
+			return true;
+		});
+	}
+
+	private void place(boolean twitching, boolean wringingOut) {
+		BlockState state = RegisterBlocks.HANGING_TENDRIL.defaultBlockState()
+			.setValue(HangingTendrilBlock.TWITCHING, twitching)
+			.setValue(HangingTendrilBlock.WRINGING_OUT, wringingOut);
+		this.world.setBlock(POS, state);
+		this.tendril = new HangingTendrilBlockEntity(POS, state);
+		this.tendril.ringOutTicksLeft = -1;
+	}
+
+	private void tick(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			this.tendril.serverTick(this.level, POS, this.world.getBlockState(POS));
+		}
+	}
+
+	@NotNull
+	private BlockState state() {
+		return this.world.getBlockState(POS);
+	}
+
+	@Test
+	public void idleTendrilSendsNoUpdates() {
+		this.place(false, false);
+		this.tick(TICKS);
+		assertEquals(List.of(), this.updates);
+		// Only the first tick runs the vibration ticker, which is the only caller of getGameTime here.
+		Mockito.verify(this.level, Mockito.atMost(1)).getGameTime();
+	}
+
+	@Test
+	public void twitchEndsWithOneUpdate() {
+		this.place(true, false);
+		this.tendril.ticksToStopTwitching = 10;
+		this.tick(TICKS);
+		assertEquals(1, this.updates.size());
+		assertFalse(this.state().getValue(HangingTendrilBlock.TWITCHING));
+	}
+
+	@Test
+	public void wringOutEndsWithOneUpdate() {
+		this.place(false, true);
+		this.tendril.ringOutTicksLeft = 5;
+		this.tick(TICKS);
+		assertEquals(1, this.updates.size());
+		assertFalse(this.state().getValue(HangingTendrilBlock.WRINGING_OUT));
+		assertFalse(this.state().getValue(HangingTendrilBlock.TWITCHING));
+	}
+
+	@Test
+	public void twitchAndWringOutEndingTogetherStayEnded() {
+		this.place(true, true);
+		this.tick(TICKS);
+		assertEquals(2, this.updates.size());
+		assertFalse(this.state().getValue(HangingTendrilBlock.TWITCHING));
+		assertFalse(this.state().getValue(HangingTendrilBlock.WRINGING_OUT));
+		assertFalse(this.updates.get(1).getValue(HangingTendrilBlock.TWITCHING), "wring-out update brought the twitch back");
+	}
+
+	@Test
+	public void repeatedTwitchesUpdateOncePerTwitch() {
+		this.place(false, false);
+		for (int twitch = 0; twitch < 5; twitch++) {
+			this.world.setBlock(POS, this.state().setValue(HangingTendrilBlock.TWITCHING, true));
+			this.tendril.ticksToStopTwitching = 20;
+			this.tick(40);
+		}
+		assertEquals(5, this.updates.size());
+	}
+}
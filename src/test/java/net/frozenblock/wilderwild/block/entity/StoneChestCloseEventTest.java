@@ -0,0 +1,146 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.entity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.ChestBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.ChestType;
+import net.minecraft.world.level.gameevent.GameEvent;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Opens and closes stone chests on the mocked benchmark level, counting {@link GameEvent#CONTAINER_CLOSE} events per
+ * open and close cycle. A double chest must fire one event per cycle whichever half ticks first.
+ */
+public class StoneChestCloseEventTest {
+	private static final BlockPos LEFT = new BlockPos(0, 64, 0);
+	private static final BlockPos RIGHT = LEFT.east();
+	private static final int CYCLES = 5;
+	private static final int MAX_CYCLE_TICKS = 2000;
+
+	private final Map<BlockPos, StoneChestBlockEntity> chests = new HashMap<>();
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private long gameTime;
+	private int closeEvents;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	public void setup() {
+		this.world = new BenchmarkWorld(0L);
+		this.level = this.world.level();
+		Mockito.when(this.level.getGameTime()).thenAnswer(invocation -> this.gameTime);
+		Mockito.when(this.level.getBlockEntity(any())).thenAnswer(invocation -> this.chests.get((BlockPos) invocation.getArgument(0)));
+		Mockito.doAnswer(invocation -> {
+			this.closeEvents++;
+			return null;
+		}).when(this.level).gameEvent(Mockito.<Entity>any(), eq(GameEvent.CONTAINER_CLOSE), any(BlockPos.class));
+	}
+
+	@NotNull
+	private StoneChestBlockEntity place(@NotNull BlockPos pos, @NotNull ChestType type) {
+		BlockState state = RegisterBlocks.STONE_CHEST.defaultBlockState().setValue(ChestBlock.FACING, Direction.NORTH).setValue(ChestBlock.TYPE, type);
+		this.world.setBlock(pos, state);
+		StoneChestBlockEntity chest = new StoneChestBlockEntity(pos, state);
+		this.chests.put(pos.immutable(), chest);
+		return chest;
+	}
+
+	/**
+	 * Lifts the lid the way a player opening the chest does, then ticks every chest in the given order until they are all idle.
+	 */
+	private void cycle(@NotNull StoneChestBlockEntity opened, @NotNull List<StoneChestBlockEntity> tickOrder) {
+		opened.liftLid(0.2F, false);
+		for (StoneChestBlockEntity chest : tickOrder) {
+			if (chest != opened) {
+				opened.syncLidValuesWith(chest);
+			}
+		}
+		int ticks = 0;
+		do {
+			this.gameTime++;
+			for (StoneChestBlockEntity chest : tickOrder) {
+				StoneChestBlockEntity.serverStoneTick(this.level, chest.getBlockPos(), this.world.getBlockState(chest.getBlockPos()), chest);
+			}
+			assertTrue(++ticks < MAX_CYCLE_TICKS, "the lid never closed");
+		} while (!tickOrder.stream().allMatch(StoneChestBlockEntity::isIdle));
+	}
+
+	@Test
+	public void singleChestFiresOneCloseEventPerCycle() {
+		StoneChestBlockEntity chest = this.place(LEFT, ChestType.SINGLE);
+		for (int cycle = 1; cycle <= CYCLES; cycle++) {
+			this.cycle(chest, List.of(chest));
+			assertEquals(cycle, this.closeEvents);
+		}
+	}
+
+	@Test
+	public void doubleChestFiresOneCloseEventPerCycle() {
+		StoneChestBlockEntity left = this.place(LEFT, ChestType.LEFT);
+		StoneChestBlockEntity right = this.place(RIGHT, ChestType.RIGHT);
+		int cycle = 0;
+		for (int i = 0; i < CYCLES; i++) {
+			this.cycle(left, List.of(left, right));
+			assertEquals(++cycle, this.closeEvents, "opened left, left ticked first");
+			this.cycle(left, List.of(right, left));
+			assertEquals(++cycle, this.closeEvents, "opened left, right ticked first");
+			this.cycle(right, List.of(left, right));
+			assertEquals(++cycle, this.closeEvents, "opened right, left ticked first");
+			this.cycle(right, List.of(right, left));
+			assertEquals(++cycle, this.closeEvents, "opened right, right ticked first");
+		}
+	}
+
+	@Test
+	public void closingIsCopiedToThePartner() {
+		StoneChestBlockEntity left = this.place(LEFT, ChestType.LEFT);
+		StoneChestBlockEntity right = this.place(RIGHT, ChestType.RIGHT);
+		left.liftLid(0.2F, false);
+		left.syncLidValuesWith(right);
+		while (!left.closing) {
+			this.gameTime++;
+			StoneChestBlockEntity.serverStoneTick(this.level, LEFT, this.world.getBlockState(LEFT), left);
+		}
+		assertTrue(right.closing, "the partner half did not learn the lid is closing, so it would fire its own close event");
+		assertEquals(left.updateTime, right.updateTime);
+	}
+}
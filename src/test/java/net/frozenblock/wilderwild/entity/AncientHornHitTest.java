@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.damagesource.DamageSources;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+
+/**
+ * Flies ancient horn projectiles along scripted trajectories through a field of targets, checking that every target the
+ * projectile's entity query reaches is hit exactly once, including targets it passes again and targets it sits inside,
+ * and that a reloaded projectile doesn't hit anything twice.
+ */
+public class AncientHornHitTest {
+	private static final Vec3 START = new Vec3(0.5D, 80D, 0.5D);
+	private static final int TARGETS = 120;
+	private static final int TICKS = 120;
+
+	private final List<Entity> targets = new ArrayList<>();
+	private final Reference2IntOpenHashMap<Entity> hits = new Reference2IntOpenHashMap<>();
+	private final Set<Entity> reached = new HashSet<>();
+	private ServerLevel level;
+	private Entity owner;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+		// No datapack is loaded, so give entity types empty tags for the immunity check.
+		BuiltInRegistries.ENTITY_TYPE.bindTags(Map.of());
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		BenchmarkWorld world = new BenchmarkWorld(0L);
+		this.level = world.level();
+		Mockito.when(this.level.damageSources()).thenReturn(Mockito.mock(DamageSources.class));
+		Mockito.when(this.level.getEntities(any(Entity.class), any(AABB.class), any(Predicate.class))).thenAnswer(invocation -> {
+			AABB area = invocation.getArgument(1);
+			Predicate<Entity> predicate = invocation.getArgument(2);
+			List<Entity> entities = new ArrayList<>();
+			for (Entity target : this.targets) {
+				if (target.getBoundingBox().intersects(area) && predicate.test(target)) {
+					entities.add(target);
+					this.reached.add(target);
+				}
+			}
+			return entities;
+		});
+
+		this.owner = Mockito.mock(Entity.class);
+		Mockito.when(this.owner.getUUID()).thenReturn(new UUID(0L, 0L));
+		Mockito.when(this.owner.getRootVehicle()).thenReturn(this.owner);
+
+		RandomSource random = world.random();
+		for (int i = 0; i < TARGETS; i++) {
+			Vec3 pos = START.add(random.nextDouble() * 80D - 40D, random.nextDouble() * 6D - 3D, random.nextDouble() * 80D - 40D);
+			this.targets.add(this.target(i + 1, pos));
+		}
+		// One target sits right on the start, so slow projectiles spend many ticks inside it.
+		this.targets.add(this.target(TARGETS + 1, START));
+	}
+
+	@NotNull
+	private Entity target(int id, @NotNull Vec3 pos) {
+		Entity target = Mockito.mock(Entity.class);
+		Mockito.when(target.getId()).thenReturn(id);
+		Mockito.when(target.getUUID()).thenReturn(new UUID(1L, id));
+		Mockito.when(target.isAlive()).thenReturn(true);
+		Mockito.when(target.isPickable()).thenReturn(true);
+		Mockito.when(target.getType()).thenAnswer(invocation -> EntityType.PIG);
+		Mockito.when(target.getRootVehicle()).thenReturn(target);
+		Mockito.when(target.getBoundingBox()).thenReturn(AABB.ofSize(pos, 0.9D, 0.9D, 0.9D));
+		Mockito.when(target.hurt(any(), anyFloat())).thenAnswer(invocation -> {
+			this.hits.addTo(target, 1);
+			return true;
+		});
+		return target;
+	}
+
+	@NotNull
+	private AncientHornProjectile shoot() {
+		AncientHornProjectile projectile = new AncientHornProjectile(this.level, START.x, START.y, START.z);
+		projectile.setOwner(this.owner);
+		return projectile;
+	}
+
+	/**
+	 * Ticks the projectile, setting its velocity from the script before every tick.
+	 */
+	private void fly(@NotNull AncientHornProjectile projectile, int from, int to, @NotNull IntFunction<Vec3> velocity) {
+		for (int tick = from; tick < to && !projectile.isRemoved(); tick++) {
+			projectile.setDeltaMovement(velocity.apply(tick));
+			projectile.tickCount++;
+			projectile.tick();
+		}
+	}
+
+	private void assertHitOnceEach() {
+		assertFalse(this.reached.isEmpty(), "the projectile never reached a target");
+		for (Entity target : this.targets) {
+			assertEquals(this.reached.contains(target) ? 1 : 0, this.hits.getInt(target), "target " + target.getId());
+		}
+	}
+
+	@Test
+	public void straightShot() {
+		this.fly(this.shoot(), 0, TICKS, tick -> new Vec3(1D, 0D, 0.3D));
+		this.assertHitOnceEach();
+	}
+
+	@Test
+	public void reversedShotDoesNotHitTwice() {
+		AncientHornProjectile projectile = this.shoot();
+		this.fly(projectile, 0, TICKS, tick -> new Vec3(tick < TICKS / 2 ? 1D : -1D, 0D, 0D));
+		this.assertHitOnceEach();
+	}
+
+	@Test
+	public void circlingShotDoesNotHitTwice() {
+		this.fly(this.shoot(), 0, TICKS, tick -> new Vec3(Mth.cos(tick / 6F), 0D, Mth.sin(tick / 6F)).scale(1.5D));
+		this.assertHitOnceEach();
+	}
+
+	@Test
+	public void lingeringShotHitsOnce() {
+		this.fly(this.shoot(), 0, TICKS, tick -> new Vec3(0.001D, 0D, 0D));
+		this.assertHitOnceEach();
+	}
+
+	@Test
+	public void reloadedShotRemembersHits() {
+		AncientHornProjectile projectile = this.shoot();
+		IntFunction<Vec3> script = tick -> new Vec3(tick < TICKS / 2 ? 1D : -1D, 0D, 0.5D);
+		this.fly(projectile, 0, TICKS / 2 + 10, script);
+		CompoundTag tag = projectile.saveWithoutId(new CompoundTag());
+
+		// Entity IDs are handed out again after a reload, so only the UUIDs still match.
+		for (Entity target : this.targets) {
+			int newId = target.getId() + 10000;
+			Mockito.when(target.getId()).thenReturn(newId);
+		}
+		AncientHornProjectile reloaded = new AncientHornProjectile(RegisterEntities.ANCIENT_HORN_PROJECTILE_ENTITY, this.level);
+		reloaded.load(tag);
+		reloaded.setOwner(this.owner);
+		this.fly(reloaded, TICKS / 2 + 10, TICKS, script);
+		this.assertHitOnceEach();
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.config.EntityConfig;
+import net.frozenblock.wilderwild.entity.ai.firefly.FireflyAi;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+/**
+ * Ticks a swarm of fireflies around their home in a mocked level, with and without a player nearby,
+ * and checks that switching between full and low detail keeps the swarm together and quiet on the network.
+ * <p>
+ * Navigation is mocked out, so the fireflies only move through the low detail flocking.
+ */
+public class FireflySwarmTest {
+	private static final int SWARM_SIZE = 48;
+	private static final BlockPos HOME = new BlockPos(8, 88, 8);
+	private static final int CHECK_INTERVAL = 20;
+
+	private ServerLevel level;
+	private final List<Firefly> swarm = new ArrayList<>();
+	@Nullable
+	private Vec3 player;
+	private int largestCrowdSearch;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	public void spawnSwarm() throws ReflectiveOperationException {
+		BenchmarkWorld world = new BenchmarkWorld(0L);
+		this.level = world.level();
+		Mockito.when(this.level.getBiome(any())).thenReturn(Mockito.mock(Holder.class));
+		Mockito.when(this.level.hasNearbyAlivePlayer(anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+			double distance = invocation.getArgument(3);
+			return this.player != null && this.player.distanceToSqr(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)) < distance * distance;
+		});
+		Mockito.when(this.level.getEntitiesOfClass(any(), any(AABB.class), any())).thenAnswer(invocation -> {
+			Class<?> type = invocation.getArgument(0);
+			AABB area = invocation.getArgument(1);
+			Predicate<Object> predicate = invocation.getArgument(2);
+			List<Entity> entities = new ArrayList<>();
+			for (Firefly firefly : this.swarm) {
+				if (type.isInstance(firefly) && firefly.getBoundingBox().intersects(area) && predicate.test(firefly)) {
+					entities.add(firefly);
+				}
+			}
+			return entities;
+		});
+		Mockito.doAnswer(invocation -> {
+			EntityTypeTest<Entity, ?> type = invocation.getArgument(0);
+			AABB area = invocation.getArgument(1);
+			Predicate<Object> predicate = invocation.getArgument(2);
+			List<Object> output = invocation.getArgument(3);
+			int maxResults = invocation.getArgument(4);
+			this.largestCrowdSearch = Math.max(this.largestCrowdSearch, maxResults);
+			for (Firefly firefly : this.swarm) {
+				if (output.size() >= maxResults) {
+					break;
+				}
+				Object match = type.tryCast(firefly);
+				if (match != null && firefly.getBoundingBox().intersects(area) && predicate.test(match)) {
+					output.add(match);
+				}
+			}
+			return null;
+		}).when(this.level).getEntities(any(EntityTypeTest.class), any(AABB.class), any(Predicate.class), any(List.class), anyInt());
+
+		Field navigation = Mob.class.getDeclaredField("navigation");
+		navigation.setAccessible(true);
+		RandomSource random = world.random();
+		for (int i = 0; i < SWARM_SIZE; i++) {
+			Firefly firefly = new Firefly(RegisterEntities.FIREFLY, this.level);
+			firefly.setId(i);
+			firefly.setPos(HOME.getX() + 0.5D + random.nextInt(7) - 3, HOME.getY() + 0.5D + random.nextInt(7) - 3, HOME.getZ() + 0.5D + random.nextInt(7) - 3);
+			firefly.hasHome = true;
+			FireflyAi.rememberHome(firefly, HOME);
+			PathNavigation pathNavigation = Mockito.mock(PathNavigation.class);
+			Mockito.when(pathNavigation.isDone()).thenReturn(true);
+			navigation.set(firefly, pathNavigation);
+			this.swarm.add(firefly);
+		}
+	}
+
+	private void tick(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			for (Firefly firefly : this.swarm) {
+				firefly.tickCount++;
+				firefly.tick();
+			}
+		}
+	}
+
+	private int fullDetailCount() {
+		int count = 0;
+		for (Firefly firefly : this.swarm) {
+			if (!firefly.isLowDetail()) {
+				count += 1;
+			}
+		}
+		return count;
+	}
+
+	private void assertSwarmStable() {
+		Vec3 center = Vec3.ZERO;
+		for (Firefly firefly : this.swarm) {
+			assertTrue(firefly.isAlive(), "firefly " + firefly.getId() + " died");
+			assertTrue(firefly.position().closerThan(Vec3.atCenterOf(HOME), 12D), "firefly " + firefly.getId() + " strayed to " + firefly.position());
+			center = center.add(firefly.position().scale(1D / SWARM_SIZE));
+		}
+		double spread = 0D;
+		for (Firefly firefly : this.swarm) {
+			spread += firefly.position().distanceTo(center) / SWARM_SIZE;
+		}
+		assertTrue(spread > 1D, "swarm collapsed to a spread of " + spread);
+	}
+
+	@Test
+	public void distantSwarmStaysAroundHome() {
+		this.tick(1200);
+		assertEquals(0, this.fullDetailCount());
+		assertSwarmStable();
+	}
+
+	@Test
+	public void approachingPlayerRestoresFullDetail() {
+		this.tick(100);
+		assertEquals(0, this.fullDetailCount());
+
+		this.player = Vec3.atCenterOf(HOME);
+		this.tick(CHECK_INTERVAL);
+		// The swarm shares one section, so only the lowest ids up to the cap get their full AI back.
+		assertEquals(Math.min(SWARM_SIZE, EntityConfig.get().firefly.fireflyFullDetailCap), this.fullDetailCount());
+		// Each crowd check stops once it has found the cap, instead of collecting the whole section.
+		assertEquals(EntityConfig.get().firefly.fireflyFullDetailCap, this.largestCrowdSearch);
+		this.tick(600);
+		assertSwarmStable();
+
+		this.player = null;
+		this.tick(CHECK_INTERVAL);
+		assertEquals(0, this.fullDetailCount());
+		this.tick(600);
+		assertSwarmStable();
+	}
+
+	@Test
+	public void settledSwarmSendsNoSyncedData() {
+		this.tick(60);
+		for (Firefly firefly : this.swarm) {
+			firefly.getEntityData().packDirty();
+		}
+		for (int i = 0; i < 100; i++) {
+			this.tick(1);
+			for (Firefly firefly : this.swarm) {
+				assertNull(firefly.getEntityData().packDirty(), "firefly " + firefly.getId() + " changed synced data on tick " + firefly.tickCount);
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives the per-level jellyfish counters through random spawn, removal, variant change and reload sequences,
+ * checking them after every step against a scan of the jellyfish each level is tracking.
+ */
+public class JellyfishCountTest {
+	private static final int LEVELS = 3;
+	private static final int STEPS = 2000;
+
+	private final ServerLevel[] levels = new ServerLevel[LEVELS];
+	private final Map<ServerLevel, List<Jellyfish>> tracked = new HashMap<>();
+	private final List<Jellyfish> unloaded = new ArrayList<>();
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@AfterEach
+	public void clearCounts() {
+		Jellyfish.clearJellyfishCounts();
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {0L, 1L, 2L, 42L, 1337L})
+	public void countsMatchScan(long seed) {
+		RandomSource random = RandomSource.create(seed);
+		for (int i = 0; i < LEVELS; i++) {
+			this.levels[i] = new BenchmarkWorld(seed + i).level();
+			this.tracked.put(this.levels[i], new ArrayList<>());
+		}
+
+		for (int step = 0; step < STEPS; step++) {
+			ServerLevel level = this.levels[random.nextInt(LEVELS)];
+			List<Jellyfish> levelJellyfish = this.tracked.get(level);
+			switch (random.nextInt(6)) {
+				case 0 -> {
+					Jellyfish jellyfish = new Jellyfish(RegisterEntities.JELLYFISH, level);
+					jellyfish.setVariant(randomVariant(random));
+					this.load(jellyfish, level);
+				}
+				case 1 -> {
+					if (!levelJellyfish.isEmpty()) {
+						this.unload(levelJellyfish.get(random.nextInt(levelJellyfish.size())), level);
+					}
+				}
+				case 2 -> {
+					if (!levelJellyfish.isEmpty()) {
+						Jellyfish jellyfish = levelJellyfish.get(random.nextInt(levelJellyfish.size()));
+						this.unload(jellyfish, level);
+						this.unloaded.add(jellyfish);
+					}
+				}
+				case 3 -> {
+					if (!this.unloaded.isEmpty()) {
+						this.load(this.unloaded.remove(random.nextInt(this.unloaded.size())), level);
+					}
+				}
+				case 4 -> {
+					// Variant changes also reach jellyfish that are not currently tracked by any level.
+					List<Jellyfish> candidates = random.nextBoolean() ? levelJellyfish : this.unloaded;
+					if (!candidates.isEmpty()) {
+						candidates.get(random.nextInt(candidates.size())).setVariant(randomVariant(random));
+					}
+				}
+				default -> {
+					if (!levelJellyfish.isEmpty()) {
+						Jellyfish jellyfish = levelJellyfish.get(random.nextInt(levelJellyfish.size()));
+						CompoundTag tag = jellyfish.saveWithoutId(new CompoundTag());
+						this.unload(jellyfish, level);
+						Jellyfish reloaded = new Jellyfish(RegisterEntities.JELLYFISH, level);
+						reloaded.load(tag);
+						this.load(reloaded, level);
+					}
+				}
+			}
+			this.assertCounts(step);
+		}
+	}
+
+	private void load(@NotNull Jellyfish jellyfish, @NotNull ServerLevel level) {
+		this.tracked.get(level).add(jellyfish);
+		ServerEntityEvents.ENTITY_LOAD.invoker().onLoad(jellyfish, level);
+	}
+
+	private void unload(@NotNull Jellyfish jellyfish, @NotNull ServerLevel level) {
+		this.tracked.get(level).remove(jellyfish);
+		ServerEntityEvents.ENTITY_UNLOAD.invoker().onUnload(jellyfish, level);
+	}
+
+	private void assertCounts(int step) {
+		for (ServerLevel level : this.levels) {
+			for (boolean pearlescent : new boolean[]{false, true}) {
+				int scanned = 0;
+				for (Jellyfish jellyfish : this.tracked.get(level)) {
+					if (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal()) {
+						scanned += 1;
+					}
+				}
+				assertEquals(scanned, Jellyfish.getJellyfish(level, pearlescent), "pearlescent=" + pearlescent + " after step " + step);
+			}
+		}
+	}
+
+	@NotNull
+	private static JellyfishVariant randomVariant(@NotNull RandomSource random) {
+		List<JellyfishVariant> variants = random.nextBoolean() ? Jellyfish.PEARLESCENT_VARIANTS : Jellyfish.COLORED_VARIANTS;
+		return variants.get(random.nextInt(variants.size()));
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import sun.misc.Unsafe;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the bytes allocated by ticking walking termites once warmed up, which should be none.
+ * <p>
+ * Mocked levels allocate on every call, so the termites walk through a bare {@link ServerLevel} subclass that only reads blocks from a {@link BenchmarkWorld}.
+ */
+public class TermiteAllocationTest {
+	private static final BlockPos MOUND = new BlockPos(0, 64, 0);
+	private static final int TERMITES = 20;
+	private static final int WARMUP_TICKS = 20000;
+	private static final int TICKS = 2000;
+	/**
+	 * Allows for the few bytes the allocation counter can report without anything being allocated.
+	 */
+	private static final long ALLOCATION_SLACK = 256L;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+		TermiteBlockLookup.rebuild();
+	}
+
+	@Test
+	public void walkingTermitesDoNotAllocate() throws ReflectiveOperationException {
+		BenchmarkWorld world = new BenchmarkWorld(0L);
+		world.fill(MOUND.offset(-12, -1, -12), MOUND.offset(12, -1, 12), Blocks.DIRT.defaultBlockState());
+		for (int x = -9; x <= 9; x += 3) {
+			for (int z = -9; z <= 9; z += 3) {
+				world.fill(MOUND.offset(x, 0, z), MOUND.offset(x, 4, z), Blocks.STONE.defaultBlockState());
+			}
+		}
+		ServerLevel level = BlockReadingLevel.create(world);
+		TermiteManager.TickContext context = new TermiteManager.TickContext();
+		context.update(false);
+		List<TermiteManager.Termite> termites = new ArrayList<>();
+		for (int i = 0; i < TERMITES; i++) {
+			termites.add(new TermiteManager.Termite(MOUND, MOUND, 0, 0, 0, false, i));
+		}
+
+		tick(level, context, termites, WARMUP_TICKS);
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long before = threads.getCurrentThreadAllocatedBytes();
+		int moves = tick(level, context, termites, TICKS);
+		long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+		assertTrue(moves >= TICKS, "termites only moved " + moves + " times");
+		assertTrue(allocated <= ALLOCATION_SLACK, allocated + " bytes allocated over " + moves + " termite moves");
+	}
+
+	@Test
+	public void savedPositionsAreCopies() {
+		TermiteManager.Termite termite = new TermiteManager.Termite(MOUND, MOUND.above(), 0, 0, 0, false, 1);
+		BlockPos saved = TermiteManager.Termite.CODEC.encodeStart(NbtOps.INSTANCE, termite).result()
+			.flatMap(tag -> TermiteManager.Termite.CODEC.parse(NbtOps.INSTANCE, tag).result())
+			.orElseThrow()
+			.getPos();
+		termite.setPos(MOUND.east());
+		assertEquals(MOUND.above(), saved);
+	}
+
+	/**
+	 * Ticks every termite, sending it back to the mound when it dies or wanders off.
+	 *
+	 * @return how many times a termite changed position.
+	 */
+	private static int tick(@NotNull ServerLevel level, @NotNull TermiteManager.TickContext context, @NotNull List<TermiteManager.Termite> termites, int ticks) {
+		int moves = 0;
+		for (int tick = 0; tick < ticks; tick++) {
+			for (int i = 0; i < TERMITES; i++) {
+				TermiteManager.Termite termite = termites.get(i);
+				long pos = termite.getPos().asLong();
+				termite.aliveTicks = 0;
+				if (!termite.tick(level, context)) {
+					termite.setPos(MOUND);
+				} else if (termite.getPos().asLong() != pos) {
+					moves++;
+				}
+			}
+		}
+		return moves;
+	}
+
+	/**
+	 * A {@link ServerLevel} that is never constructed, reading its blocks straight from a {@link BenchmarkWorld} without allocating.
+	 */
+	private static final class BlockReadingLevel extends ServerLevel {
+		private BenchmarkWorld world;
+
+		@SuppressWarnings("DataFlowIssue")
+		private BlockReadingLevel() {
+			super(null, null, null, null, null, null, null, false, 0L, null, false, null);
+		}
+
+		@NotNull
+		static ServerLevel create(@NotNull BenchmarkWorld world) throws ReflectiveOperationException {
+			Field unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+			unsafeField.setAccessible(true);
+			BlockReadingLevel level = (BlockReadingLevel) ((Unsafe) unsafeField.get(null)).allocateInstance(BlockReadingLevel.class);
+			level.world = world;
+			Field random = Level.class.getDeclaredField("random");
+			random.setAccessible(true);
+			random.set(level, RandomSource.create(0L));
+			return level;
+		}
+
+		@Override
+		@NotNull
+		public BlockState getBlockState(@NotNull BlockPos pos) {
+			return this.world.getBlockState(pos);
+		}
+
+		@Override
+		@NotNull
+		public FluidState getFluidState(@NotNull BlockPos pos) {
+			return this.world.getFluidState(pos);
+		}
+
+		@Override
+		public boolean shouldTickBlocksAt(long chunkPos) {
+			return true;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.registry.RegisterProperties;
+import net.frozenblock.wilderwild.tag.WilderBlockTags;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.BlockTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks every block state's {@link TermiteBlockLookup} flags and degraded states against the tag and block checks they replaced.
+ * <p>
+ * No datapack is loaded here, so each termite tag is bound to a random share of the blocks, along with every block already known to belong in it.
+ */
+public class TermiteBlockLookupTest {
+	private static final List<TagKey<Block>> TAGS = List.of(
+		WilderBlockTags.TERMITE_BREAKABLE,
+		WilderBlockTags.BLOCKS_TERMITE,
+		WilderBlockTags.KILLS_TERMITE,
+		BlockTags.LEAVES,
+		BlockTags.INSIDE_STEP_SOUND_BLOCKS,
+		BlockTags.REPLACEABLE_BY_TREES,
+		BlockTags.FLOWERS
+	);
+
+	@BeforeAll
+	public static void bindTags() {
+		BenchmarkBootstrap.bootstrap();
+		RandomSource random = RandomSource.create(0L);
+		Map<TagKey<Block>, List<Holder<Block>>> tags = new HashMap<>();
+		for (TagKey<Block> tag : TAGS) {
+			List<Holder<Block>> holders = new ArrayList<>();
+			for (Block block : BuiltInRegistries.BLOCK) {
+				boolean leaves = tag == BlockTags.LEAVES && block.defaultBlockState().hasProperty(BlockStateProperties.PERSISTENT);
+				if (leaves || random.nextInt(8) == 0) {
+					holders.add(block.builtInRegistryHolder());
+				}
+			}
+			tags.put(tag, holders);
+		}
+		BuiltInRegistries.BLOCK.bindTags(tags);
+		TermiteBlockLookup.rebuild();
+	}
+
+	@AfterAll
+	public static void unbindTags() {
+		BuiltInRegistries.BLOCK.bindTags(Map.of());
+		TermiteBlockLookup.rebuild();
+	}
+
+	@Test
+	public void matchesTagChecks() {
+		for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+			int flags = TermiteBlockLookup.flags(state);
+			String context = state.toString();
+			for (boolean natural : new boolean[]{false, true}) {
+				assertEquals(isDegradable(state.getBlock(), natural), TermiteBlockLookup.isDegradable(flags, natural), context);
+				assertEquals(degradedState(state, natural), TermiteBlockLookup.degradedState(state, natural), context);
+				for (boolean onlyEatNaturalBlocks : new boolean[]{false, true}) {
+					boolean canEat = (isDegradable(state.getBlock(), natural) || state.is(WilderBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state, onlyEatNaturalBlocks);
+					assertEquals(canEat, TermiteBlockLookup.canEat(flags, natural, onlyEatNaturalBlocks), context);
+				}
+			}
+			assertEquals(state.is(WilderBlockTags.TERMITE_BREAKABLE), TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.BREAKABLE), context);
+			assertEquals(state.is(BlockTags.LEAVES), TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.LEAVES), context);
+			assertEquals(state.is(WilderBlockTags.BLOCKS_TERMITE), TermiteBlockLookup.hasFlag(flags, TermiteBlockLookup.BLOCKS_TERMITE), context);
+			assertEquals(isSafe(state), TermiteBlockLookup.isSafe(flags), context);
+			assertEquals(isSafe(state), TermiteManager.isStateSafeForTermites(state), context);
+			for (Direction direction : Direction.values()) {
+				assertEquals(isBlockMovable(state, direction), TermiteManager.Termite.isBlockMovable(state, direction), context + " " + direction);
+			}
+		}
+	}
+
+	@Test
+	public void tracksAddedDegradableBlocks() {
+		assertNull(TermiteBlockLookup.degradedState(Blocks.DIAMOND_BLOCK.defaultBlockState(), false));
+		TermiteManager.Termite.addDegradable(Blocks.DIAMOND_BLOCK, Blocks.COAL_BLOCK);
+		try {
+			assertEquals(Blocks.COAL_BLOCK.defaultBlockState(), TermiteBlockLookup.degradedState(Blocks.DIAMOND_BLOCK.defaultBlockState(), false));
+			assertTrue(TermiteBlockLookup.isDegradable(TermiteBlockLookup.flags(Blocks.DIAMOND_BLOCK.defaultBlockState()), false));
+		} finally {
+			TermiteManager.Termite.DEGRADABLE_BLOCKS.remove(Blocks.DIAMOND_BLOCK);
+			TermiteBlockLookup.invalidate();
+		}
+	}
+
+	// The checks below are the block and tag predicates TermiteManager used before the lookup table.
+
+	private static boolean isDegradable(@NotNull Block block, boolean natural) {
+		return !natural ? TermiteManager.Termite.DEGRADABLE_BLOCKS.containsKey(block) : TermiteManager.Termite.NATURAL_DEGRADABLE_BLOCKS.containsKey(block);
+	}
+
+	@Nullable
+	private static BlockState degradedState(@NotNull BlockState state, boolean natural) {
+		if (!isDegradable(state.getBlock(), natural)) {
+			return null;
+		}
+		Block setBlock = !natural ? TermiteManager.Termite.DEGRADABLE_BLOCKS.get(state.getBlock()) : TermiteManager.Termite.NATURAL_DEGRADABLE_BLOCKS.get(state.getBlock());
+		return setBlock.withPropertiesOf(state);
+	}
+
+	private static boolean isEdibleProperty(@NotNull BlockState state, boolean onlyEatNaturalBlocks) {
+		return !onlyEatNaturalBlocks || (state.hasProperty(RegisterProperties.TERMITE_EDIBLE) ? state.getValue(RegisterProperties.TERMITE_EDIBLE) : !state.is(BlockTags.LEAVES) || !state.hasProperty(BlockStateProperties.PERSISTENT) || !state.getValue(BlockStateProperties.PERSISTENT));
+	}
+
+	private static boolean isSafe(@NotNull BlockState state) {
+		return !state.is(WilderBlockTags.KILLS_TERMITE) && (!state.hasProperty(BlockStateProperties.WATERLOGGED) || !state.getValue(BlockStateProperties.WATERLOGGED));
+	}
+
+	private static boolean isBlockMovable(@NotNull BlockState state, @NotNull Direction direction) {
+		if (state.is(WilderBlockTags.BLOCKS_TERMITE)) {
+			return false;
+		}
+		boolean moveableUp = !(direction == Direction.UP && (state.is(BlockTags.INSIDE_STEP_SOUND_BLOCKS) || state.is(BlockTags.REPLACEABLE_BY_TREES) || state.is(BlockTags.FLOWERS)));
+		boolean moveableDown = !(direction == Direction.DOWN && (state.is(Blocks.WATER) || state.is(Blocks.LAVA) || (state.hasProperty(BlockStateProperties.WATERLOGGED) && state.getValue(BlockStateProperties.WATERLOGGED))));
+		return moveableUp && moveableDown;
+	}
+}
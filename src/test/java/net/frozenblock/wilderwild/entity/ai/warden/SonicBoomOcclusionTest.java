@@ -0,0 +1,133 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai.warden;
+
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ClipBlockStateContext;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Compares {@link SonicBoomOcclusion#trace} with the per-sample check {@code SonicBoomMixin} used to run, on random grids of Echo Glass.
+ */
+public class SonicBoomOcclusionTest {
+	private static final int GRID_RADIUS = 12;
+	private static final int GRIDS = 20;
+	private static final int BOOMS_PER_GRID = 200;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@ParameterizedTest
+	@ValueSource(floats = {0.02F, 0.1F, 0.3F})
+	public void matchesPerSampleCheck(float echoGlassChance) {
+		for (int grid = 0; grid < GRIDS; grid++) {
+			BenchmarkWorld world = new BenchmarkWorld(grid);
+			RandomSource random = world.random();
+			for (BlockPos pos : BlockPos.betweenClosed(-GRID_RADIUS, 64 - GRID_RADIUS, -GRID_RADIUS, GRID_RADIUS, 64 + GRID_RADIUS, GRID_RADIUS)) {
+				float roll = random.nextFloat();
+				if (roll < echoGlassChance) {
+					world.setBlock(pos, RegisterBlocks.ECHO_GLASS.defaultBlockState());
+				} else if (roll < echoGlassChance * 1.5F) {
+					world.setBlock(pos, Blocks.GLASS.defaultBlockState());
+				}
+			}
+
+			for (int boom = 0; boom < BOOMS_PER_GRID; boom++) {
+				Vec3 start = new Vec3(random.nextDouble() * 8D - 4D, 64D + random.nextDouble() * 8D - 4D, random.nextDouble() * 8D - 4D);
+				world.setBlock(BlockPos.containing(start), Blocks.AIR.defaultBlockState());
+				Vec3 direction = new Vec3(random.nextGaussian(), random.nextGaussian() * 0.5D, random.nextGaussian()).normalize();
+				// Axis-aligned and diagonal beams graze block edges and corners the most.
+				if (boom % 10 == 0) {
+					direction = Vec3.atLowerCornerOf(Direction.getRandom(random).getNormal());
+				} else if (boom % 10 == 1) {
+					direction = new Vec3(random.nextBoolean() ? 1D : -1D, 0D, random.nextBoolean() ? 1D : -1D).normalize();
+				}
+				int samples = Mth.floor(random.nextDouble() * 15D) + 6;
+
+				String context = "grid " + grid + ", start " + start + ", direction " + direction;
+				Occlusion expected = perSampleCheck(world, start, direction, samples);
+				SonicBoomOcclusion actual = SonicBoomOcclusion.trace(world, start, direction, samples);
+				if (expected == null) {
+					assertNull(actual, context);
+				} else {
+					assertNotNull(actual, context);
+					assertEquals(expected.sample(), actual.distance(), context);
+					assertEquals(expected.pos(), actual.pos(), context);
+				}
+			}
+			world.clear();
+		}
+	}
+
+	private record Occlusion(@NotNull BlockPos pos, int sample) {
+	}
+
+	/**
+	 * The occlusion check as it ran in {@code SonicBoomMixin} before tracing, once for every sample along the beam.
+	 */
+	@Nullable
+	private static Occlusion perSampleCheck(@NotNull BlockGetter level, @NotNull Vec3 start, @NotNull Vec3 direction, int samples) {
+		for (int i = 1; i < samples + 1; ++i) {
+			Vec3 end = start.add(direction.scale(i));
+			BlockPos hitPos = isOccluded(level, start, end);
+			if (hitPos != null && level.getBlockState(hitPos).is(RegisterBlocks.ECHO_GLASS)) {
+				return new Occlusion(hitPos, i);
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	private static BlockPos isOccluded(@NotNull BlockGetter level, @NotNull Vec3 start, @NotNull Vec3 end) {
+		Vec3 vec3d = new Vec3((double) Mth.floor(start.x) + 0.5D, (double) Mth.floor(start.y) + 0.5D, (double) Mth.floor(start.z) + 0.5D);
+		Vec3 vec3d2 = new Vec3((double) Mth.floor(end.x) + 0.5D, (double) Mth.floor(end.y) + 0.5D, (double) Mth.floor(end.z) + 0.5D);
+		BlockPos hitPos = null;
+		boolean blocked = true;
+		for (Direction direction : Direction.values()) {
+			Vec3 vec3d3 = vec3d.relative(direction, 9.999999747378752E-6D);
+			BlockHitResult hit = level.isBlockInLine(new ClipBlockStateContext(vec3d3, vec3d2, (state) -> state.is(RegisterBlocks.ECHO_GLASS)));
+			if (hit.getType() != HitResult.Type.BLOCK) {
+				blocked = false;
+			} else {
+				hitPos = hit.getBlockPos();
+			}
+		}
+		return blocked ? hitPos : null;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc;
+
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.block.MesogleaBlock;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.chunk.PalettedContainerRO;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+/**
+ * Fuzzes {@link JellyfishBlockCollisions#noJellyCollision} over random boxes in chunks built from real chunk sections,
+ * checking the section palette fast path against the full shape search.
+ */
+public class JellyfishBlockCollisionsTest {
+	private static final int CHUNKS = 3;
+	private static final int SECTIONS = 4;
+	private static final int BOXES = 20000;
+
+	private final LevelChunkSection[][][] sections = new LevelChunkSection[CHUNKS][CHUNKS][SECTIONS];
+	private final ChunkAccess[][] chunks = new ChunkAccess[CHUNKS][CHUNKS];
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@NotNull
+	@SuppressWarnings("unchecked")
+	private static LevelChunkSection emptySection() {
+		PalettedContainer<BlockState> states = new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY, Blocks.AIR.defaultBlockState(), PalettedContainer.Strategy.SECTION_STATES);
+		return new LevelChunkSection(states, Mockito.mock(PalettedContainerRO.class));
+	}
+
+	private static void fillSection(@NotNull LevelChunkSection section, @NotNull BlockState state) {
+		for (int x = 0; x < 16; x++) {
+			for (int y = 0; y < 16; y++) {
+				for (int z = 0; z < 16; z++) {
+					section.setBlockState(x, y, z, state, false);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills a section with one of the layouts jellyfish spawn checks run into: open air, open water, water with a
+	 * stray solid or waterlogged mesoglea block, or water whose palette still lists a block that has since been removed.
+	 */
+	private static void randomSection(@NotNull LevelChunkSection section, @NotNull RandomSource random) {
+		BlockState water = Blocks.WATER.defaultBlockState();
+		switch (random.nextInt(6)) {
+			case 0 -> {
+			}
+			case 1 -> fillSection(section, water);
+			case 2 -> {
+				fillSection(section, water);
+				section.setBlockState(random.nextInt(16), random.nextInt(16), random.nextInt(16), Blocks.STONE.defaultBlockState(), false);
+			}
+			case 3 -> {
+				fillSection(section, water);
+				for (int i = random.nextInt(40); i > 0; i--) {
+					section.setBlockState(random.nextInt(16), random.nextInt(16), random.nextInt(16), RegisterBlocks.BLUE_PEARLESCENT_MESOGLEA.defaultBlockState().setValue(MesogleaBlock.WATERLOGGED, true), false);
+				}
+			}
+			case 4 -> {
+				fillSection(section, water);
+				int x = random.nextInt(16);
+				int y = random.nextInt(16);
+				int z = random.nextInt(16);
+				section.setBlockState(x, y, z, Blocks.SEA_LANTERN.defaultBlockState(), false);
+				section.setBlockState(x, y, z, water, false);
+			}
+			default -> {
+				for (int i = random.nextInt(8); i > 0; i--) {
+					section.setBlockState(random.nextInt(16), random.nextInt(16), random.nextInt(16), Blocks.KELP.defaultBlockState(), false);
+				}
+			}
+		}
+	}
+
+	@NotNull
+	private ServerLevel createLevel(long seed) {
+		RandomSource random = RandomSource.create(seed);
+		ServerLevel level = new BenchmarkWorld(seed).level();
+		for (int chunkX = 0; chunkX < CHUNKS; chunkX++) {
+			for (int chunkZ = 0; chunkZ < CHUNKS; chunkZ++) {
+				LevelChunkSection[] chunkSections = this.sections[chunkX][chunkZ];
+				for (int sectionY = 0; sectionY < SECTIONS; sectionY++) {
+					chunkSections[sectionY] = emptySection();
+					randomSection(chunkSections[sectionY], random);
+				}
+				ChunkAccess chunk = Mockito.mock(ChunkAccess.class);
+				Mockito.when(chunk.getSectionsCount()).thenReturn(SECTIONS);
+				Mockito.when(chunk.getSectionIndexFromSectionY(anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+				Mockito.when(chunk.getSection(anyInt())).thenAnswer(invocation -> chunkSections[(int) invocation.getArgument(0)]);
+				Mockito.when(chunk.getBlockState(any())).thenAnswer(invocation -> {
+					BlockPos pos = invocation.getArgument(0);
+					int sectionY = SectionPos.blockToSectionCoord(pos.getY());
+					if (sectionY < 0 || sectionY >= SECTIONS) {
+						return Blocks.AIR.defaultBlockState();
+					}
+					return chunkSections[sectionY].getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+				});
+				this.chunks[chunkX][chunkZ] = chunk;
+			}
+		}
+		Mockito.when(level.getChunkForCollisions(anyInt(), anyInt())).thenAnswer(invocation -> {
+			int chunkX = invocation.getArgument(0);
+			int chunkZ = invocation.getArgument(1);
+			boolean inside = chunkX >= 0 && chunkX < CHUNKS && chunkZ >= 0 && chunkZ < CHUNKS;
+			return inside ? this.chunks[chunkX][chunkZ] : null;
+		});
+		return level;
+	}
+
+	private static boolean fullSearch(@NotNull ServerLevel level, @NotNull AABB box) {
+		for (VoxelShape shape : JellyfishBlockCollisions.getJellyBlockCollisions(null, box, level)) {
+			if (!shape.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@ParameterizedTest
+	@ValueSource(longs = {0L, 1L, 2L, 42L, 1337L})
+	public void fastPathMatchesFullSearch(long seed) {
+		ServerLevel level = this.createLevel(seed);
+		RandomSource random = RandomSource.create(~seed);
+		int span = CHUNKS * 16;
+		int skipped = 0;
+		int searched = 0;
+		for (int i = 0; i < BOXES; i++) {
+			double width = random.nextBoolean() ? 0.4D : 0.1D + random.nextDouble() * 3D;
+			double height = random.nextBoolean() ? 0.4D : 0.1D + random.nextDouble() * 3D;
+			double x = -4D + random.nextDouble() * (span + 8D);
+			double y = -4D + random.nextDouble() * (SECTIONS * 16 + 8D);
+			double z = -4D + random.nextDouble() * (span + 8D);
+			AABB box = new AABB(x, y, z, x + width, y + height, z + width);
+
+			boolean expected = fullSearch(level, box);
+			if (JellyfishBlockCollisions.onlyAirOrWater(level, box)) {
+				assertTrue(expected, "fast path skipped a colliding box " + box);
+				skipped++;
+			} else {
+				searched++;
+			}
+			assertEquals(expected, JellyfishBlockCollisions.noJellyCollision(level, null, box), "box " + box);
+		}
+		assertFalse(skipped == 0 || searched == 0, "fuzzing never reached both paths (" + skipped + " skipped, " + searched + " searched)");
+	}
+}
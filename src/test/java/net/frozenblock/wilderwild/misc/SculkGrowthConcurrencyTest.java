@@ -0,0 +1,122 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.registry.RegisterBlocks;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.SculkSpreader;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Spreads worldgen sculk through {@code SculkBlockMixin} on many threads at once, checking that every world ends up
+ * identical to the same seed spread alone on one thread.
+ * <p>
+ * Each thread has its own world and random, so any difference can only come from growth state leaking between
+ * concurrent {@code attemptUseCharge} calls.
+ */
+public class SculkGrowthConcurrencyTest {
+	private static final BlockPos ORIGIN = new BlockPos(0, 64, 0);
+	private static final int RADIUS = 12;
+	private static final int THREADS = 8;
+	private static final int ROUNDS = 6;
+	private static final int UPDATES = 40;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	/**
+	 * Carves a random cave out of deepslate, so there are ceilings for hanging growths and floors for pillars,
+	 * then spreads worldgen charge through it.
+	 */
+	@NotNull
+	private static Long2ObjectMap<BlockState> spread(long seed) {
+		BenchmarkWorld world = new BenchmarkWorld(seed);
+		ServerLevel level = world.level();
+		RandomSource layout = RandomSource.create(seed ^ 0x5DEECE66DL);
+		for (BlockPos pos : BlockPos.betweenClosed(ORIGIN.offset(-RADIUS, -RADIUS, -RADIUS), ORIGIN.offset(RADIUS, RADIUS, RADIUS))) {
+			if (layout.nextFloat() < 0.55F) {
+				world.setBlock(pos, Blocks.DEEPSLATE.defaultBlockState());
+			}
+		}
+		world.fill(ORIGIN.offset(-2, -2, -2), ORIGIN.offset(2, 2, 2), Blocks.AIR.defaultBlockState());
+		world.setBlock(ORIGIN.below(3), Blocks.DEEPSLATE.defaultBlockState());
+
+		SculkSpreader spreader = SculkSpreader.createWorldGenSpreader();
+		for (int i = 0; i < 4; i++) {
+			spreader.addCursors(ORIGIN.below(3), 30);
+		}
+		for (int i = 0; i < UPDATES && !spreader.getCursors().isEmpty(); i++) {
+			spreader.updateCursors(level, ORIGIN, world.random(), true);
+		}
+		return world.copyBlocks();
+	}
+
+	@Test
+	public void concurrentSpreadMatchesSequential() throws Exception {
+		List<Long2ObjectMap<BlockState>> expected = new ArrayList<>();
+		for (int seed = 0; seed < THREADS; seed++) {
+			expected.add(spread(seed));
+		}
+		assertTrue(
+			expected.stream().anyMatch(blocks -> blocks.values().stream().anyMatch(state -> state.is(RegisterBlocks.OSSEOUS_SCULK) || state.is(RegisterBlocks.HANGING_TENDRIL))),
+			"no seed placed any Wilder Wild growths, so the shared growth state was never exercised"
+		);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<Long2ObjectMap<BlockState>>> results = new ArrayList<>();
+				for (int seed = 0; seed < THREADS; seed++) {
+					long threadSeed = seed;
+					results.add(executor.submit(() -> {
+						start.await();
+						return spread(threadSeed);
+					}));
+				}
+				start.countDown();
+				for (int seed = 0; seed < THREADS; seed++) {
+					assertEquals(expected.get(seed), results.get(seed).get(1, TimeUnit.MINUTES), "seed " + seed + " diverged in round " + round);
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.misc.interfaces.SculkSensorTickInterface;
+import net.frozenblock.wilderwild.registry.RegisterProperties;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.SculkSensorBlock;
+import net.minecraft.world.level.block.entity.CalibratedSculkSensorBlockEntity;
+import net.minecraft.world.level.block.entity.SculkSensorBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.SculkSensorPhase;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+/**
+ * Counts the packets a player watching triggered Sculk Sensors receives, comparing the block events sent now
+ * with the block entity data and hiccup particle events the removed sync used to send,
+ * and checks that the animation block event reaches the client-side block entity.
+ */
+public class SculkSensorSyncTest {
+	private static final int SENSORS = 50;
+	private static final int TICKS = 600;
+	private static final int ACTIVATION_INTERVAL = 100;
+	private static final int ANIMATION_TICKS = 10;
+
+	private final Long2ObjectOpenHashMap<SculkSensorBlockEntity> sensors = new Long2ObjectOpenHashMap<>();
+	private final Long2ObjectOpenHashMap<LegacySensorSync> legacySensors = new Long2ObjectOpenHashMap<>();
+	private final Long2LongOpenHashMap scheduledTicks = new Long2LongOpenHashMap();
+	private final List<int[]> sentEvents = new ArrayList<>();
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private long time;
+	private int activations;
+	private int blockEventPackets;
+	private int blockEntityPackets;
+	private int legacyBlockEntityPackets;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	public void setup() {
+		this.world = new BenchmarkWorld(0L);
+		this.level = this.world.level();
+		Mockito.when(this.level.getGameTime()).thenAnswer(invocation -> this.time);
+		Mockito.when(this.level.getBlockEntity(any())).thenAnswer(invocation -> this.sensors.get(((BlockPos) invocation.getArgument(0)).asLong()));
+		Mockito.when(this.level.setBlock(any(), any(), anyInt())).thenAnswer(invocation -> {
+			BlockPos pos = invocation.getArgument(0);
+			BlockState state = invocation.getArgument(1);
+			if (isActive(state) && !isActive(this.world.getBlockState(pos))) {
+				this.activations++;
+			}
+			this.world.setBlock(pos, state);
+			SculkSensorBlockEntity sensor = this.sensors.get(pos.asLong());
+			if (sensor != null && (invocation.<Integer>getArgument(2) & Block.UPDATE_CLIENTS) != 0) {
+				// The chunk holder sends each changed block entity's update packet along with the block change.
+				if (sensor.getUpdatePacket() != null) {
+					this.blockEntityPackets++;
+				}
+				// The removed getUpdatePacket overrides always returned a full data packet.
+				this.legacyBlockEntityPackets++;
+			}
+			return true;
+		});
+		Mockito.doAnswer(invocation -> {
+			BlockPos pos = invocation.getArgument(0);
+			this.scheduledTicks.put(pos.asLong(), this.time + invocation.<Integer>getArgument(2));
+			return null;
+		}).when(this.level).scheduleTick(any(BlockPos.class), any(Block.class), anyInt());
+		Mockito.doAnswer(invocation -> {
+			BlockPos pos = invocation.getArgument(0);
+			int id = invocation.getArgument(2);
+			int param = invocation.getArgument(3);
+			LegacySensorSync legacy = this.legacySensors.get(pos.asLong());
+			if (legacy != null) {
+				legacy.activate();
+			}
+			// Like ServerLevel.doBlockEvent, the event is only sent to players when the block entity accepts it.
+			BlockState state = this.world.getBlockState(pos);
+			if (state.is(invocation.<Block>getArgument(1)) && state.triggerEvent(this.level, pos, id, param)) {
+				this.blockEventPackets++;
+				this.sentEvents.add(new int[]{id, param});
+			}
+			return null;
+		}).when(this.level).blockEvent(any(), any(), anyInt(), anyInt());
+	}
+
+	private static boolean isActive(@NotNull BlockState state) {
+		return state.hasProperty(SculkSensorBlock.PHASE) && state.getValue(SculkSensorBlock.PHASE) == SculkSensorPhase.ACTIVE;
+	}
+
+	@NotNull
+	private List<BlockPos> placeSensors() {
+		List<BlockPos> positions = new ArrayList<>();
+		for (int i = 0; i < SENSORS; i++) {
+			BlockPos pos = new BlockPos((i % 10) * 4, 64, (i / 10) * 4);
+			boolean calibrated = i % 10 == 9;
+			BlockState state = (calibrated ? Blocks.CALIBRATED_SCULK_SENSOR : Blocks.SCULK_SENSOR).defaultBlockState()
+				.setValue(RegisterProperties.HICCUPPING, i % 5 == 0);
+			this.world.setBlock(pos, state);
+			SculkSensorBlockEntity sensor = calibrated ? new CalibratedSculkSensorBlockEntity(pos, state) : new SculkSensorBlockEntity(pos, state);
+			sensor.setLevel(this.level);
+			this.sensors.put(pos.asLong(), sensor);
+			this.legacySensors.put(pos.asLong(), new LegacySensorSync());
+			positions.add(pos);
+		}
+		return positions;
+	}
+
+	private void runScheduledTicks() {
+		for (long pos : this.scheduledTicks.keySet().toLongArray()) {
+			if (this.scheduledTicks.get(pos) <= this.time) {
+				this.scheduledTicks.remove(pos);
+				BlockPos blockPos = BlockPos.of(pos);
+				this.world.getBlockState(blockPos).tick(this.level, blockPos, this.world.random());
+			}
+		}
+	}
+
+	@Test
+	public void triggeredSensorsOnlySendBlockEvents() {
+		List<BlockPos> positions = this.placeSensors();
+		RandomSource legacyRandom = RandomSource.create(0L);
+		int legacyHiccupEvents = 0;
+		for (this.time = 0; this.time < TICKS; this.time++) {
+			this.runScheduledTicks();
+			for (int i = 0; i < positions.size(); i++) {
+				BlockPos pos = positions.get(i);
+				BlockState state = this.world.getBlockState(pos);
+				if ((this.time + i) % ACTIVATION_INTERVAL == 0 && SculkSensorBlock.canActivate(state)) {
+					((SculkSensorBlock) state.getBlock()).activate(null, this.level, pos, state, 8, 1);
+					state = this.world.getBlockState(pos);
+				}
+				LegacySensorSync legacy = this.legacySensors.get(pos.asLong());
+				legacyHiccupEvents += legacy.hiccupEvents(state, legacyRandom);
+				this.legacyBlockEntityPackets += legacy.tick(state);
+				((SculkSensorTickInterface) this.sensors.get(pos.asLong())).wilderWild$tickServer(this.level, pos, state);
+			}
+		}
+
+		int legacyPackets = this.legacyBlockEntityPackets + legacyHiccupEvents;
+		int packets = this.blockEntityPackets + this.blockEventPackets;
+		String summary = "before: " + this.legacyBlockEntityPackets + " block entity packets and " + legacyHiccupEvents
+			+ " hiccup particle events, after: " + this.blockEntityPackets + " block entity packets and " + this.blockEventPackets
+			+ " block events, for " + this.activations + " activations";
+		assertTrue(this.activations >= SENSORS * (TICKS / ACTIVATION_INTERVAL), summary);
+		assertEquals(0, this.blockEntityPackets, summary);
+		assertEquals(this.activations, this.blockEventPackets, summary);
+		// Each activation used to send full data on activating, cooling down and going inactive, plus twice from the tick.
+		assertTrue(this.legacyBlockEntityPackets >= 4 * this.activations, summary);
+		assertTrue(legacyHiccupEvents > 0, summary);
+		assertTrue(packets * 5 <= legacyPackets, summary);
+		for (int[] event : this.sentEvents) {
+			assertEquals(SculkSensorEffects.ANIMATION_EVENT, event[0]);
+			assertEquals(ANIMATION_TICKS, event[1]);
+		}
+	}
+
+	@Test
+	public void animationEventReachesTheClientBlockEntity() {
+		BlockPos pos = this.placeSensors().get(1);
+		BlockState state = this.world.getBlockState(pos);
+		((SculkSensorBlock) state.getBlock()).activate(null, this.level, pos, state, 8, 1);
+		assertEquals(1, this.sentEvents.size());
+		int[] event = this.sentEvents.get(0);
+
+		BlockState activeState = this.world.getBlockState(pos);
+		SculkSensorBlockEntity clientSensor = new SculkSensorBlockEntity(pos, activeState);
+		Level clientLevel = this.clientLevel();
+		Mockito.when(clientLevel.getBlockEntity(pos)).thenReturn(clientSensor);
+		clientSensor.setLevel(clientLevel);
+		SculkSensorTickInterface client = (SculkSensorTickInterface) clientSensor;
+
+		assertTrue(activeState.triggerEvent(clientLevel, pos, event[0], event[1]));
+		assertTrue(client.wilderWild$isActive());
+		assertEquals(ANIMATION_TICKS, client.wilderWild$getAnimTicks());
+		assertEquals(ANIMATION_TICKS, client.wilderWild$getPrevAnimTicks());
+
+		client.wilderWild$tickClient(clientLevel, pos, activeState);
+		assertTrue(client.wilderWild$isActive());
+		assertEquals(ANIMATION_TICKS - 1, client.wilderWild$getAnimTicks());
+		assertEquals(ANIMATION_TICKS, client.wilderWild$getPrevAnimTicks());
+
+		client.wilderWild$tickClient(clientLevel, pos, activeState.setValue(SculkSensorBlock.PHASE, SculkSensorPhase.INACTIVE));
+		assertFalse(client.wilderWild$isActive());
+
+		assertFalse(clientSensor.triggerEvent(SculkSensorEffects.ANIMATION_EVENT + 1, 0));
+		assertNull(clientSensor.getUpdatePacket());
+		CompoundTag updateTag = clientSensor.getUpdateTag();
+		assertTrue(updateTag.contains("animTicks"));
+		assertTrue(updateTag.contains("active"));
+	}
+
+	@Test
+	public void hiccuppingSensorsSpawnParticlesOnTheClient() {
+		BlockPos pos = new BlockPos(0, 64, 0);
+		BlockState state = Blocks.SCULK_SENSOR.defaultBlockState().setValue(RegisterProperties.HICCUPPING, true);
+		SculkSensorBlockEntity sensor = new SculkSensorBlockEntity(pos, state);
+		Level clientLevel = this.clientLevel();
+		int[] particles = new int[1];
+		Mockito.doAnswer(invocation -> {
+			particles[0]++;
+			return null;
+		}).when(clientLevel)
+			.addParticle(any(ParticleOptions.class), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble(), anyDouble());
+		SculkSensorTickInterface client = (SculkSensorTickInterface) sensor;
+
+		for (int i = 0; i < 4000; i++) {
+			client.wilderWild$tickClient(clientLevel, pos, state);
+		}
+		// The server used to send a particle on half of its ticks, which the client then only spawned half of the time.
+		assertTrue(particles[0] > 800 && particles[0] < 1200, particles[0] + " hiccup particles");
+
+		particles[0] = 0;
+		for (int i = 0; i < 4000; i++) {
+			client.wilderWild$tickClient(clientLevel, pos, state.setValue(RegisterProperties.HICCUPPING, false));
+		}
+		assertEquals(0, particles[0]);
+	}
+
+	@NotNull
+	private Level clientLevel() {
+		Level clientLevel = Mockito.mock(Level.class);
+		setField(clientLevel, "isClientSide", true);
+		setField(clientLevel, "random", RandomSource.create(0L));
+		return clientLevel;
+	}
+
+	private static void setField(@NotNull Level level, @NotNull String name, @NotNull Object value) {
+		try {
+			Field field = Level.class.getDeclaredField(name);
+			field.setAccessible(true);
+			field.set(level, value);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Unable to set " + name + " on the client level", e);
+		}
+	}
+
+	/**
+	 * The block entity sync Sculk Sensors used before it was replaced by block events, kept to count what it sent.
+	 */
+	private static final class LegacySensorSync {
+		private int animTicks;
+		private boolean active;
+		private boolean prevActive;
+
+		void activate() {
+			this.active = true;
+			this.animTicks = ANIMATION_TICKS;
+		}
+
+		/**
+		 * @return the hiccup particle events sent this tick; the server picked a position for one on every other tick.
+		 */
+		int hiccupEvents(@NotNull BlockState state, @NotNull RandomSource random) {
+			return random.nextBoolean() && state.getValue(RegisterProperties.HICCUPPING) ? 1 : 0;
+		}
+
+		/**
+		 * @return the block entity data packets sent from the tick.
+		 */
+		int tick(@NotNull BlockState state) {
+			int animTicks = this.animTicks;
+			if (animTicks > 0) {
+				this.animTicks = animTicks -= 1;
+			}
+			this.active = state.getValue(SculkSensorBlock.PHASE) != SculkSensorPhase.INACTIVE;
+			int packets = this.active != this.prevActive || animTicks == 10 ? 1 : 0;
+			this.prevActive = this.active;
+			return packets;
+		}
+	}
+}
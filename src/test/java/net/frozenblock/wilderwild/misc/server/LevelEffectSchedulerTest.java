@@ -0,0 +1,193 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc.server;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.List;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.entity.ChestBubbleTicker;
+import net.frozenblock.wilderwild.misc.ChestBubbles;
+import net.frozenblock.wilderwild.registry.RegisterEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+/**
+ * Runs chest bubbles through {@link ChestBubbles} and through the legacy {@link ChestBubbleTicker} entity side by side,
+ * checking that both bubble on the same game ticks with the same particle counts.
+ * <p>
+ * The server loop is simulated as the game time advancing at the start of each level tick, entities ticking,
+ * and the end of world tick callback at its end. Chests open either between ticks, as a player's click does,
+ * or during a level tick after entities have ticked, in which case a new entity first ticks on the next level tick.
+ */
+public class LevelEffectSchedulerTest {
+	private static final BlockPos CHEST = new BlockPos(0, 64, 0);
+	private static final long SEED = 0L;
+
+	private final LongList emissionTicks = new LongArrayList();
+	private final IntList emissionCounts = new IntArrayList();
+	private final List<ChestBubbleTicker> entities = new ArrayList<>();
+	private BenchmarkWorld world;
+	private ServerLevel level;
+	private long gameTime;
+	private boolean legacy;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	public void setup() {
+		this.world = new BenchmarkWorld(SEED);
+		this.level = this.world.level();
+		Mockito.when(this.level.getGameTime()).thenAnswer(invocation -> this.gameTime);
+		Mockito.when(this.level.getBlockEntity(any())).thenAnswer(invocation -> {
+			BlockPos pos = invocation.getArgument(0);
+			BlockState state = this.world.getBlockState(pos);
+			return state.is(Blocks.CHEST) ? new ChestBlockEntity(pos, state) : null;
+		});
+		Mockito.when(this.level.sendParticles(any(ParticleOptions.class), anyDouble(), anyDouble(), anyDouble(), anyInt(), anyDouble(), anyDouble(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+			this.emissionTicks.add(this.gameTime);
+			this.emissionCounts.add((int) invocation.getArgument(4));
+			return 1;
+		});
+	}
+
+	@AfterEach
+	public void clearEffects() {
+		LevelEffectScheduler.clearAll();
+	}
+
+	private void open() {
+		if (this.legacy) {
+			this.entities.add(new ChestBubbleTicker(RegisterEntities.CHEST_BUBBLER, this.level, CHEST));
+		} else {
+			ChestBubbles.scheduleBubbles(this.level, CHEST);
+		}
+	}
+
+	private void setWaterlogged(boolean waterlogged) {
+		this.world.setBlock(CHEST, Blocks.CHEST.defaultBlockState().setValue(BlockStateProperties.WATERLOGGED, waterlogged));
+	}
+
+	private void levelTick(@NotNull Runnable duringTick) {
+		this.gameTime++;
+		for (ChestBubbleTicker entity : this.entities) {
+			entity.tick();
+		}
+		this.entities.removeIf(Entity::isRemoved);
+		duringTick.run();
+		LevelEffectScheduler.tick(this.level);
+	}
+
+	private void levelTicks(int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			this.levelTick(() -> {
+			});
+		}
+	}
+
+	/**
+	 * Runs the scenario from a fresh world and returns each emission as its game tick and particle count.
+	 */
+	@NotNull
+	private Emissions run(boolean legacy, @NotNull Runnable scenario) {
+		this.legacy = legacy;
+		this.gameTime = 0L;
+		this.emissionTicks.clear();
+		this.emissionCounts.clear();
+		this.entities.clear();
+		LevelEffectScheduler.clearAll();
+		this.world.random().setSeed(SEED);
+		this.setWaterlogged(true);
+		scenario.run();
+		return new Emissions(new LongArrayList(this.emissionTicks), new IntArrayList(this.emissionCounts));
+	}
+
+	private void assertMatchesLegacy(@NotNull Runnable scenario) {
+		Emissions expected = this.run(true, scenario);
+		Emissions actual = this.run(false, scenario);
+		assertFalse(expected.ticks().isEmpty(), "the legacy entity never bubbled");
+		assertEquals(expected.ticks(), actual.ticks());
+		assertEquals(expected.counts(), actual.counts());
+	}
+
+	@Test
+	public void openedBetweenTicksMatchesTheLegacyEntity() {
+		this.assertMatchesLegacy(() -> {
+			this.levelTicks(10);
+			this.open();
+			this.levelTicks(20);
+		});
+	}
+
+	@Test
+	public void openedDuringATickMatchesTheLegacyEntity() {
+		this.assertMatchesLegacy(() -> {
+			this.levelTicks(10);
+			this.levelTick(this::open);
+			this.levelTicks(20);
+		});
+	}
+
+	@Test
+	public void drainedChestStopsBubblingLikeTheLegacyEntity() {
+		this.assertMatchesLegacy(() -> {
+			this.open();
+			this.levelTicks(2);
+			this.setWaterlogged(false);
+			this.levelTicks(20);
+		});
+	}
+
+	@Test
+	public void reopeningRunsAnotherWindowLikeTheLegacyEntity() {
+		this.assertMatchesLegacy(() -> {
+			this.open();
+			this.levelTicks(3);
+			this.open();
+			this.levelTicks(20);
+		});
+	}
+
+	private record Emissions(@NotNull LongList ticks, @NotNull IntList counts) {
+	}
+}
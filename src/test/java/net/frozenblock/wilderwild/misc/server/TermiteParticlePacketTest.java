@@ -0,0 +1,179 @@
+/*
+ * Copyright 2023 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.misc.server;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.wilderwild.WilderWild;
+import net.frozenblock.wilderwild.benchmark.BenchmarkBootstrap;
+import net.frozenblock.wilderwild.benchmark.BenchmarkWorld;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * Counts the particle batch packets, termite mound events and bytes that players at different distances receive
+ * from ticking termite mounds.
+ */
+public class TermiteParticlePacketTest {
+	private static final int TICKS = 400;
+	private static final int TERMITES = 20;
+	/**
+	 * A mound event is its type, three position shorts, the termite count, then four bytes per termite.
+	 */
+	private static final int EVENT_BYTES = 1 + 6 + 1 + TERMITES * 4;
+	private static final int BATCH_HEADER_BYTES = 8;
+
+	private final Reference2IntOpenHashMap<ServerPlayer> packets = new Reference2IntOpenHashMap<>();
+	private final Reference2IntOpenHashMap<ServerPlayer> events = new Reference2IntOpenHashMap<>();
+	private final Reference2IntOpenHashMap<ServerPlayer> bytes = new Reference2IntOpenHashMap<>();
+	private final Reference2IntOpenHashMap<ServerPlayer> packetsThisTick = new Reference2IntOpenHashMap<>();
+	private MockedStatic<ServerPlayNetworking> networking;
+	private ServerLevel level;
+	private long gameTime;
+
+	@BeforeAll
+	public static void bootstrap() {
+		BenchmarkBootstrap.bootstrap();
+	}
+
+	@BeforeEach
+	public void setup() {
+		this.level = new BenchmarkWorld(0L).level();
+		Mockito.when(this.level.getGameTime()).thenAnswer(invocation -> this.gameTime);
+		this.networking = Mockito.mockStatic(ServerPlayNetworking.class);
+		this.networking.when(() -> ServerPlayNetworking.send(any(ServerPlayer.class), any(ResourceLocation.class), any(FriendlyByteBuf.class))).thenAnswer(invocation -> {
+			ServerPlayer player = invocation.getArgument(0);
+			assertEquals(WilderWild.PARTICLE_BATCH_PACKET, invocation.getArgument(1));
+			FriendlyByteBuf byteBuf = invocation.getArgument(2);
+			this.packets.addTo(player, 1);
+			this.packetsThisTick.addTo(player, 1);
+			this.bytes.addTo(player, byteBuf.readableBytes());
+			this.events.addTo(player, countMoundEvents(new FriendlyByteBuf(byteBuf.copy())));
+			return null;
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.networking.close();
+		EasyPacket.EasyParticleBatch.clear();
+	}
+
+	private static int countMoundEvents(@NotNull FriendlyByteBuf byteBuf) {
+		byteBuf.readBlockPos();
+		int count = 0;
+		while (byteBuf.isReadable()) {
+			assertEquals(EasyPacket.EasyParticleBatch.TERMITE_MOUND, byteBuf.readByte());
+			byteBuf.skipBytes(6);
+			int termites = byteBuf.readUnsignedByte();
+			byteBuf.skipBytes(termites * 4);
+			count++;
+		}
+		return count;
+	}
+
+	@NotNull
+	private ServerPlayer player(@NotNull BlockPos mound, double distance) {
+		Vec3 pos = Vec3.atCenterOf(mound).add(distance, 0D, 0D);
+		ServerPlayer player = Mockito.mock(ServerPlayer.class);
+		Mockito.when(player.level()).thenReturn(this.level);
+		Mockito.when(player.blockPosition()).thenReturn(BlockPos.containing(pos));
+		Mockito.when(player.distanceToSqr(any(Vec3.class))).thenAnswer(invocation -> pos.distanceToSqr(invocation.getArgument(0)));
+		return player;
+	}
+
+	@NotNull
+	private static List<TermiteManager.Termite> termites(@NotNull BlockPos mound) {
+		List<TermiteManager.Termite> termites = new ArrayList<>();
+		for (int i = 0; i < TERMITES; i++) {
+			termites.add(new TermiteManager.Termite(mound, mound.offset(i % 5 - 2, i / 5, 3), 0, 0, 0));
+		}
+		return termites;
+	}
+
+	private void tick(@NotNull List<BlockPos> mounds, @NotNull List<List<TermiteManager.Termite>> termites) {
+		for (int tick = 0; tick < TICKS; tick++) {
+			this.gameTime = tick;
+			this.packetsThisTick.clear();
+			for (int i = 0; i < mounds.size(); i++) {
+				EasyPacket.EasyTermitePacket.createParticles(this.level, mounds.get(i), termites.get(i));
+			}
+			EasyPacket.EasyParticleBatch.flush();
+			for (int sent : this.packetsThisTick.values()) {
+				assertTrue(sent <= 1, "a player received " + sent + " particle packets in one tick");
+			}
+		}
+	}
+
+	@Test
+	public void oneMoundIsBudgetedByDistance() {
+		BlockPos mound = new BlockPos(0, 64, 0);
+		ServerPlayer near = this.player(mound, 8D);
+		ServerPlayer mid = this.player(mound, 24D);
+		ServerPlayer far = this.player(mound, 48D);
+		Mockito.when(this.level.getChunkSource().chunkMap.getPlayers(any(), eq(false))).thenReturn(List.of(near, mid, far));
+
+		this.tick(List.of(mound), List.of(termites(mound)));
+
+		assertEquals(TICKS, this.events.getInt(near));
+		assertEquals(TICKS / 2, this.events.getInt(mid));
+		assertEquals(TICKS / 4, this.events.getInt(far));
+		assertEquals(TICKS, this.packets.getInt(near));
+		assertEquals(TICKS * (BATCH_HEADER_BYTES + EVENT_BYTES), this.bytes.getInt(near));
+	}
+
+	@Test
+	public void manyMoundsShareOnePacketPerTick() {
+		List<BlockPos> mounds = new ArrayList<>();
+		List<List<TermiteManager.Termite>> termites = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			BlockPos mound = new BlockPos(i % 5, 64, (i / 5) * 2);
+			mounds.add(mound);
+			termites.add(termites(mound));
+		}
+		ServerPlayer near = this.player(BlockPos.ZERO.above(64), 2D);
+		ServerPlayer far = this.player(BlockPos.ZERO.above(64), 100D);
+		Mockito.when(this.level.getChunkSource().chunkMap.getPlayers(any(), eq(false))).thenReturn(List.of(near, far));
+
+		this.tick(mounds, termites);
+
+		assertEquals(TICKS * mounds.size(), this.events.getInt(near));
+		assertEquals(TICKS, this.packets.getInt(near));
+		assertEquals(TICKS * mounds.size() / 4, this.events.getInt(far));
+		assertTrue(this.packets.getInt(far) <= TICKS);
+	}
+}